@@ -0,0 +1,138 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark to assess how a simulation with several Datacenters
+ * scales when they are run in parallel by the {@link CloudSim}
+ * (see {@link CloudSim#enableParallelExecution(int)}), using from 1 to 32 threads.
+ * Each Datacenter is used by a different broker and all of them
+ * have the same scheduling interval, so that they usually process events at the same time.
+ * Zero threads means parallel execution is disabled.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ParallelExecutionBenchmark {
+    private static final int DATACENTERS = 32;
+    private static final int HOSTS = 16;
+    private static final int HOST_PES = 8;
+    private static final int VMS = 32;
+    private static final int VM_PES = 4;
+    private static final int CLOUDLETS_BY_VM = 4;
+    private static final int CLOUDLET_LENGTH = 100000;
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    private CloudSim simulation;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.setLevel(ch.qos.logback.classic.Level.WARN);
+        simulation = new CloudSim();
+        if (threads > 0) {
+            simulation.enableParallelExecution(threads);
+        }
+
+        for (int i = 0; i < DATACENTERS; i++) {
+            final Datacenter datacenter = createDatacenter();
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            broker.setDatacenterSupplier(() -> datacenter);
+            broker.submitVmList(createVms());
+            broker.submitCloudletList(createCloudlets());
+        }
+    }
+
+    private Datacenter createDatacenter() {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+            }
+
+            hostList.add(new HostSimple(16384, 100000, 1000000, peList).setVmScheduler(new VmSchedulerTimeShared()));
+        }
+
+        return new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple()).setSchedulingInterval(1);
+    }
+
+    private List<Vm> createVms() {
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, VM_PES).setRam(512).setBw(1000).setSize(10000)
+                            .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        return vmList;
+    }
+
+    private List<Cloudlet> createCloudlets() {
+        final List<Cloudlet> cloudletList = new ArrayList<>(VMS * CLOUDLETS_BY_VM);
+        for (int i = 0; i < VMS * CLOUDLETS_BY_VM; i++) {
+            cloudletList.add(
+                new CloudletSimple(i, CLOUDLET_LENGTH + (i % 10) * 10000, 1)
+                    .setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        return cloudletList;
+    }
+
+    @Benchmark
+    public double testRunSimulation() {
+        return simulation.start();
+    }
+}
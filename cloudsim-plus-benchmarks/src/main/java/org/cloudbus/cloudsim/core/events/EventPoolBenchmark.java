@@ -0,0 +1,116 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark to measure the time and memory allocated to send and process
+ * each event in a {@link CloudSim} simulation,
+ * with and without {@link CloudSim#enableEventPooling() event pooling}.
+ * Each invocation runs a simulation where some entities keep sending
+ * events to each other, until {@link #EVENTS} are processed.
+ * Therefore, results are shown per event.
+ *
+ * <p>To get the allocation rate per event, the benchmark must be executed
+ * with the GC profiler (using the {@code -prof gc} JMH parameter)
+ * and the {@code gc.alloc.rate.norm} result checked.
+ * With event pooling and a {@link HeapEventQueue}, sending and processing events
+ * is expected to allocate nothing in steady state (the result just
+ * includes the creation of the simulation, divided by the number of events).
+ * A {@link FutureQueue} still allocates a node of its internal {@link java.util.TreeSet}
+ * for every event added.</p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class EventPoolBenchmark {
+    private static final int EVENTS = 200000;
+    private static final int ENTITIES = 10;
+    private static final int TAG = 1000;
+
+    @Param({"false", "true"})
+    private boolean eventPooling;
+
+    @Param({"FutureQueue", "HeapEventQueue"})
+    private String queueType;
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long testSendAndProcessEvents() {
+        final EventQueue queue = "HeapEventQueue".equals(queueType) ? new HeapEventQueue() : new FutureQueue();
+        final CloudSim simulation = new CloudSim(queue);
+        if (eventPooling) {
+            simulation.enableEventPooling();
+        }
+
+        final PingEntity[] entities = new PingEntity[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            entities[i] = new PingEntity(simulation, entities, i, EVENTS / ENTITIES);
+        }
+
+        simulation.start();
+        return simulation.getProcessedEventsNumber();
+    }
+
+    /**
+     * An entity that sends an event to the next entity every time it receives one,
+     * until it receives a given number of events.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private final PingEntity[] entities;
+        private final int index;
+        private final int maxEvents;
+        private int receivedEvents;
+
+        private PingEntity(final Simulation simulation, final PingEntity[] entities, final int index, final int maxEvents) {
+            super(simulation);
+            this.entities = entities;
+            this.index = index;
+            this.maxEvents = maxEvents;
+        }
+
+        @Override
+        protected void startEntity() {
+            schedule(this, 1, TAG);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == TAG && ++receivedEvents < maxEvents) {
+                schedule(entities[(index + 1) % entities.length], 1, TAG);
+            }
+        }
+    }
+}
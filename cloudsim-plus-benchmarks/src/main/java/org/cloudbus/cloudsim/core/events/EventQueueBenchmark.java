@@ -0,0 +1,94 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A set of benchmarks comparing the {@link EventQueue} implementations
+ * that can be used as the future event queue of a {@link CloudSim} simulation.
+ * It uses the classic "hold" model: each operation removes the first event
+ * and adds a new one in a future time, keeping the queue size constant.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@State(Scope.Thread)
+public class EventQueueBenchmark {
+    @Param({"FutureQueue", "HeapEventQueue"})
+    private String queueType;
+
+    @Param({"1000", "100000", "1000000"})
+    private int pendingEvents;
+
+    private CloudSim simulation;
+    private EventQueue queue;
+    private Random random;
+
+    @Setup
+    public void doSetup() {
+        simulation = new CloudSim();
+        random = new Random(1);
+        queue = createQueue();
+        for (int i = 0; i < pendingEvents; i++) {
+            queue.addEvent(createEvent(random.nextInt(1000)));
+        }
+    }
+
+    private EventQueue createQueue() {
+        return "HeapEventQueue".equals(queueType) ? new HeapEventQueue() : new FutureQueue();
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Benchmark
+    public SimEvent testPollFirstAndAddEvent() {
+        final SimEvent first = queue.pollFirst();
+        queue.addEvent(createEvent(first.eventTime() + random.nextInt(1000)));
+        return first;
+    }
+
+    @Benchmark
+    public List<SimEvent> testPollAllAtAndAddEvents() {
+        final List<SimEvent> events = queue.pollAllAt(queue.first().eventTime());
+        for (final SimEvent evt : events) {
+            queue.addEvent(createEvent(evt.eventTime() + random.nextInt(1000)));
+        }
+
+        return events;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of benchmarks that replays, into each {@link EventQueue} implementation,
+ * the trace of future queue operations captured from a simulation scenario
+ * built just like the ones in the CloudSim Plus examples:
+ * a Datacenter with a scheduling interval, time-shared VMs and Cloudlets
+ * arriving along the time.
+ *
+ * <p>The trace is captured in the setup phase by a {@link FutureQueue}
+ * that records every event addition and removal performed by {@link CloudSim}.</p>
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@State(Scope.Thread)
+public class EventTraceReplayBenchmark {
+    private static final int HOSTS = 50;
+    private static final int HOST_PES = 16;
+    private static final int VMS = 200;
+    private static final int VM_PES = 4;
+    private static final int CLOUDLET_LENGTH = 10000;
+    private static final double SCHEDULING_INTERVAL = 1;
+
+    /** Codes of the operations recorded into the trace. */
+    private static final int ADD = 0, ADD_FIRST = 1, POLL = 2, REMOVE = 3;
+
+    @Param({"FutureQueue", "HeapEventQueue", "CalendarEventQueue"})
+    private String queueType;
+
+    @Param({"1000", "10000"})
+    private int cloudlets;
+
+    /**
+     * The events sent during the recorded simulation, indexed
+     * by the order they were added to the future queue.
+     */
+    private List<SimEvent> events;
+
+    /**
+     * The recorded operations, where each one is represented by
+     * an operation code followed by the index of the related event in the {@link #events} list
+     * (or -1 when the operation is not related to a specific event).
+     */
+    private int[] trace;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.WARN);
+        final RecordingQueue recorder = new RecordingQueue();
+        final CloudSim simulation = new CloudSim(recorder);
+        createScenario(simulation);
+        simulation.start();
+
+        events = recorder.events;
+        trace = recorder.trace.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void createScenario(final CloudSim simulation) {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+            }
+
+            hostList.add(new HostSimple(16384, 100000, 1000000, peList).setVmScheduler(new VmSchedulerTimeShared()));
+        }
+
+        new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple())
+            .setSchedulingInterval(SCHEDULING_INTERVAL);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, VM_PES).setRam(512).setBw(1000).setSize(10000)
+                            .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            final Cloudlet cloudlet =
+                new CloudletSimple(i, CLOUDLET_LENGTH + (i % 10) * 1000, 1 + i % 2)
+                    .setUtilizationModel(new UtilizationModelFull());
+            cloudlet.setSubmissionDelay(i % 20);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+    }
+
+    private EventQueue createQueue() {
+        switch (queueType) {
+            case "HeapEventQueue": return new HeapEventQueue();
+            case "CalendarEventQueue": return new CalendarEventQueue(SCHEDULING_INTERVAL);
+            default: return new FutureQueue();
+        }
+    }
+
+    @Benchmark
+    public EventQueue testReplayTrace() {
+        final EventQueue queue = createQueue();
+        for (int i = 0; i < trace.length; i += 2) {
+            switch (trace[i]) {
+                case ADD: queue.addEvent(events.get(trace[i + 1])); break;
+                case ADD_FIRST: queue.addEventFirst(events.get(trace[i + 1])); break;
+                case POLL: queue.pollFirst(); break;
+                case REMOVE: queue.remove(events.get(trace[i + 1])); break;
+            }
+        }
+
+        return queue;
+    }
+
+    /**
+     * A {@link FutureQueue} that records the operations performed on it.
+     */
+    private static final class RecordingQueue extends FutureQueue {
+        private final List<SimEvent> events = new ArrayList<>();
+        private final Map<SimEvent, Integer> indexes = new IdentityHashMap<>();
+        private final List<Integer> trace = new ArrayList<>();
+
+        private void record(final int operation, final SimEvent evt) {
+            trace.add(operation);
+            trace.add(evt == null ? -1 : indexes.computeIfAbsent(evt, e -> {
+                events.add(e);
+                return events.size() - 1;
+            }));
+        }
+
+        @Override
+        public void addEvent(final SimEvent newEvent) {
+            record(ADD, newEvent);
+            super.addEvent(newEvent);
+        }
+
+        @Override
+        public void addEventFirst(final SimEvent newEvent) {
+            record(ADD_FIRST, newEvent);
+            super.addEventFirst(newEvent);
+        }
+
+        @Override
+        public SimEvent pollFirst() {
+            record(POLL, null);
+            return super.pollFirst();
+        }
+
+        /**
+         * {@inheritDoc}
+         * Since the {@link FutureQueue} drains the events directly,
+         * without calling {@link #pollFirst()}, it records one POLL operation
+         * for each removed event.
+         *
+         * @param time {@inheritDoc}
+         * @param polledEvents {@inheritDoc}
+         */
+        @Override
+        public void pollAllAt(final double time, final Collection<SimEvent> polledEvents) {
+            final int previousSize = polledEvents.size();
+            super.pollAllAt(time, polledEvents);
+            for (int i = previousSize; i < polledEvents.size(); i++) {
+                record(POLL, null);
+            }
+        }
+
+        @Override
+        public boolean remove(final SimEvent event) {
+            if (!super.remove(event)) {
+                return false;
+            }
+
+            record(REMOVE, event);
+            return true;
+        }
+
+        @Override
+        public boolean removeAll(final Collection<SimEvent> events) {
+            boolean removed = false;
+            for (final SimEvent evt : events) {
+                removed |= remove(evt);
+            }
+
+            return removed;
+        }
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,6 +74,28 @@ public interface VmAllocationPolicy {
      */
     boolean allocateHostForVm(Vm vm, Host host);
 
+    /**
+     * Allocates Hosts for a batch of VMs at once.
+     * The default implementation allocates VMs in the order they are returned by the given Collection,
+     * calling {@link #allocateHostForVm(Vm)} for each one.
+     * Since the whole batch is known in advance, implementing classes can place it
+     * in a smarter way, such as sorting VMs by their requirements before placing them.
+     *
+     * @param vmCollection the VMs to allocate Hosts to
+     * @param <T> the class of VMs
+     * @return a List with the VMs which could not be allocated to any Host (or an empty List if all VMs were allocated)
+     */
+    default <T extends Vm> List<T> allocateHostForVm(final Collection<T> vmCollection) {
+        final List<T> notAllocatedVms = new ArrayList<>();
+        for (final T vm : vmCollection) {
+            if (!allocateHostForVm(vm)) {
+                notAllocatedVms.add(vm);
+            }
+        }
+
+        return notAllocatedVms;
+    }
+
     /**
      * Try to scale some Vm's resource vertically up or down, respectively if:
      * <ul>
@@ -14,6 +14,7 @@ import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Processor;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.slf4j.Logger;
@@ -21,9 +22,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.BiFunction;
-import java.util.stream.LongStream;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * An abstract class that represents the policy
@@ -58,6 +56,28 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
      */
     private Map<Host, Long> hostFreePesMap;
 
+    /**
+     * A read-only view of the {@link #hostFreePesMap} returned by {@link #getHostFreePesMap()}.
+     */
+    private Map<Host, Long> readOnlyHostFreePesMap;
+
+    /**
+     * An index of the Hosts from the {@link #getHostFreePesMap()} sorted by their number of free PEs,
+     * where each key is a number of free PEs and each value is the Set of Hosts having such a number of free PEs.
+     * Hosts inside each Set are sorted by their position in the {@link #getHostList()}.
+     * It enables finding the Host with the most or fewest free PEs
+     * without going through all Hosts.
+     *
+     * @see #findSuitableHostByFreePes(Vm, boolean)
+     */
+    private final NavigableMap<Long, Set<Host>> hostsByFreePes = new TreeMap<>();
+
+    /**
+     * The position of each Host into the {@link #getHostList()},
+     * used to sort Hosts having the same number of free PEs inside the {@link #hostsByFreePes} index.
+     */
+    private final Map<Host, Integer> hostPositions = new HashMap<>();
+
     /**
      * The number of PEs used in each VM.
      */
@@ -99,6 +119,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         Objects.requireNonNull(datacenter);
         addPesFromHostsToFreePesList(datacenter);
         this.datacenter = datacenter;
+        indexHostsByFreePes();
     }
 
     /**
@@ -132,23 +153,103 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /**
      * Gets a map with the number of free PEs for each host from {@link #getHostList()}.
      *
-     * @return a Map where each key is a host and each value is the number of free PEs of that host.
+     * The number of free PEs of a Host must be changed by calling {@link #setHostFreePes(Host, long)}.
+     * Changing the returned Map throws an {@link UnsupportedOperationException}.
+     *
+     * @return a read-only Map where each key is a host and each value is the number of free PEs of that host.
      */
     protected final Map<Host, Long> getHostFreePesMap() {
-        return hostFreePesMap;
+        return readOnlyHostFreePesMap;
     }
 
     /**
-     * Sets the Host free PEs Map.
+     * Sets the Host free PEs Map, rebuilding the index of Hosts by their number of free PEs.
      *
      * @param hostFreePesMap the new Host free PEs map
      * @return
      */
     protected final VmAllocationPolicy setHostFreePesMap(final Map<Host, Long> hostFreePesMap) {
         this.hostFreePesMap = hostFreePesMap;
+        this.readOnlyHostFreePesMap = Collections.unmodifiableMap(hostFreePesMap);
+        indexHostsByFreePes();
         return this;
     }
 
+    /**
+     * Updates the number of free PEs of a given Host,
+     * keeping the {@link #hostsByFreePes} index in sync with the {@link #getHostFreePesMap()}.
+     * Sub-classes have to use this method to change the number of free PEs of Hosts,
+     * since the Map returned by {@link #getHostFreePesMap()} is read-only.
+     *
+     * @param host the Host to update its number of free PEs
+     * @param freePes the new number of free PEs for the Host
+     */
+    protected final void setHostFreePes(final Host host, final long freePes) {
+        final Long previousFreePes = hostFreePesMap.put(host, freePes);
+        if(previousFreePes != null) {
+            removeHostFromFreePesIndex(host, previousFreePes);
+        }
+
+        addHostToFreePesIndex(host, freePes);
+    }
+
+    /**
+     * Rebuilds the {@link #hostsByFreePes} index from the {@link #getHostFreePesMap()},
+     * sorting Hosts with the same number of free PEs by their position in the {@link #getHostList()}.
+     */
+    private void indexHostsByFreePes() {
+        hostsByFreePes.clear();
+        hostPositions.clear();
+        if(datacenter != null) {
+            getHostList().forEach(host -> hostPositions.putIfAbsent(host, hostPositions.size()));
+        }
+
+        hostFreePesMap.forEach(this::addHostToFreePesIndex);
+    }
+
+    private void addHostToFreePesIndex(final Host host, final long freePes) {
+        hostPositions.putIfAbsent(host, hostPositions.size());
+        hostsByFreePes
+            .computeIfAbsent(freePes, pes -> new TreeSet<>(Comparator.comparingInt(hostPositions::get)))
+            .add(host);
+    }
+
+    private void removeHostFromFreePesIndex(final Host host, final long freePes) {
+        final Set<Host> hosts = hostsByFreePes.get(freePes);
+        if(hosts != null && hosts.remove(host) && hosts.isEmpty()) {
+            hostsByFreePes.remove(freePes);
+        }
+    }
+
+    /**
+     * Finds the first Host which is suitable for a given VM,
+     * going through Hosts in the order of their number of free PEs.
+     * Hosts with the same number of free PEs are checked
+     * in the order they appear in the {@link #getHostList()}.
+     *
+     * <p>Since Hosts are kept sorted by their number of free PEs,
+     * only the Hosts before the selected one are checked,
+     * instead of all Hosts in the Datacenter.</p>
+     *
+     * @param vm the VM to find a suitable Host for
+     * @param mostFreePesFirst true to select the suitable Host with the most free PEs,
+     *                         false to select the one with the fewest free PEs
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     */
+    protected final Optional<Host> findSuitableHostByFreePes(final Vm vm, final boolean mostFreePesFirst) {
+        final Collection<Set<Host>> hostSets =
+            mostFreePesFirst ? hostsByFreePes.descendingMap().values() : hostsByFreePes.values();
+        for (final Set<Host> hosts : hostSets) {
+            for (final Host host : hosts) {
+                if (host.isSuitableForVm(vm)) {
+                    return Optional.of(host);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Adds number used PEs for a Vm to the map between each VM and the number of PEs used.
      * @param vm the VM to add the number of used PEs to the map
@@ -249,8 +350,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     private boolean isNotHostPesSuitableToUpScaleVm(final VerticalVmScaling scaling) {
         final Vm vm = scaling.getVm();
         final double numberOfPesForScaling = scaling.getResourceAmountToScale();
-        final List<Double> additionalVmMips =
-            LongStream.range(0, (long)numberOfPesForScaling).mapToObj(i -> vm.getMips()).collect(toList());
+        final MipsShare additionalVmMips = new MipsShare((long)numberOfPesForScaling, vm.getMips());
 
         return !vm.getHost().getVmScheduler().isSuitableForVm(vm, additionalVmMips);
     }
@@ -387,7 +487,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     public boolean allocateHostForVm(final Vm vm, final Host host) {
         if (host.createVm(vm)) {
             addUsedPes(vm);
-            getHostFreePesMap().compute(host, (h, previousFreePes) -> previousFreePes - vm.getNumberOfPes());
+            setHostFreePes(host, hostFreePesMap.get(host) - vm.getNumberOfPes());
 
             logger.info(
                 "{}: {}: {} has been allocated to {}",
@@ -406,7 +506,8 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         vm.getHost().destroyVm(vm);
         final long pes = removeUsedPes(vm);
         if (previousHost != Host.NULL) {
-            getHostFreePesMap().compute(previousHost, (host, freePes) -> freePes == null ? pes : freePes + pes);
+            final Long freePes = hostFreePesMap.get(previousHost);
+            setHostFreePes(previousHost, freePes == null ? pes : freePes + pes);
         }
     }
 
@@ -26,8 +26,6 @@ package org.cloudbus.cloudsim.allocationpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -65,17 +63,10 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
     /**
      * Gets the first suitable host from the {@link #getHostList()} that has the most number of used PEs (i.e, lower free PEs).
      * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
-     *
-     * @todo See TODOs inside the VmAllocationPolicySimple
      */
     @Override
     public Optional<Host> findHostForVm(final Vm vm) {
-        final Map<Host, Long> map = getHostFreePesMap();
-        return map.entrySet()
-            .stream()
-            .filter(e -> e.getKey().isSuitableForVm(vm))
-            .min(Comparator.comparingLong(Map.Entry::getValue))
-            .map(Map.Entry::getKey);
+        return findSuitableHostByFreePes(vm, false);
     }
 
 }
@@ -136,6 +136,8 @@ public interface DatacenterBroker extends SimEntity {
      * All cloudlets will be added to the {@link #getCloudletWaitingList()}.
      *
      * @param list the list of Cloudlets to request the creation
+     * @throws IllegalArgumentException if the list has a Cloudlet with the same id
+     *         of another one in the list or into the {@link #getCloudletWaitingList()}
      * @pre list !=null
      * @post $none
      * @see #submitCloudletList(java.util.List, double)
@@ -195,6 +197,8 @@ public interface DatacenterBroker extends SimEntity {
      * determined by the {@link #setDatacenterSupplier(Supplier)}.
      *
      * @param list the list of VMs to request the creation
+     * @throws IllegalArgumentException if the list has a VM with the same id
+     *         of another one in the list, waiting to be created or running
      * @pre list !=null
      * @post $none
      */
@@ -360,6 +364,62 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function);
 
+    /**
+     * Checks if messages about Cloudlets are batched,
+     * in order to reduce the number of events exchanged between the broker and Datacenters.
+     *
+     * @return true if Cloudlet messages are batched, false otherwise
+     * @see #setBatchCloudletMessages(boolean)
+     */
+    boolean isBatchCloudletMessages();
+
+    /**
+     * Enables or disables batching of messages about Cloudlets,
+     * in order to reduce the number of events exchanged between the broker and Datacenters.
+     * When enabled:
+     * <ul>
+     *     <li>Cloudlets submitted to the same Datacenter with the same
+     *     {@link Cloudlet#getSubmissionDelay() submission delay} are sent into a single
+     *     {@link CloudSimTags#CLOUDLET_SUBMIT_BATCH} event;</li>
+     *     <li>Cloudlets finished at the same time inside a Datacenter are returned into a single
+     *     {@link CloudSimTags#CLOUDLET_RETURN_BATCH} event.</li>
+     * </ul>
+     *
+     * <p>Each Cloudlet is still processed individually by the broker and the Datacenter,
+     * so that Cloudlet listeners are notified just as when batching is disabled.
+     * It is disabled by default.</p>
+     *
+     * @param enable true to enable batching of Cloudlet messages, false to disable it
+     * @return
+     */
+    DatacenterBroker setBatchCloudletMessages(boolean enable);
+
+    /**
+     * Checks if the creation of VMs is requested in batches,
+     * in order to reduce the number of events exchanged between the broker and Datacenters.
+     *
+     * @return true if VM creation requests are batched, false otherwise
+     * @see #setBatchVmCreationRequests(boolean)
+     */
+    boolean isBatchVmCreationRequests();
+
+    /**
+     * Enables or disables batching of VM creation requests.
+     * When enabled, all VMs requested to the same Datacenter are sent into a single
+     * {@link CloudSimTags#VM_CREATE_BATCH} event, which is acknowledged by a single event as well,
+     * instead of one {@link CloudSimTags#VM_CREATE_ACK} event for each VM.
+     * The Datacenter then places all VMs at once using
+     * {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy#allocateHostForVm(java.util.Collection)}.
+     *
+     * <p><b>It requires Datacenters able to process {@link CloudSimTags#VM_CREATE_BATCH} events,
+     * such as the {@link org.cloudbus.cloudsim.datacenters.DatacenterSimple}.</b>
+     * It is disabled by default.</p>
+     *
+     * @param enable true to enable batching of VM creation requests, false to disable it
+     * @return
+     */
+    DatacenterBroker setBatchVmCreationRequests(boolean enable);
+
     /**
      * Defines the default policy used to select a Vm to host a Cloudlet
      * that is waiting to be created.
@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.*;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.util.IndexedList;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -21,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -146,6 +148,52 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private Function<Vm, Double> vmDestructionDelayFunction;
 
+    /**
+     * A map where each key is a running VM and the value is the set of Cloudlets
+     * sent to that VM which weren't returned to the broker nor cancelled yet.
+     * VMs without such Cloudlets aren't in the map.
+     * Keeping the Cloudlets ensures each one is discounted just once,
+     * even if it is both cancelled and returned.
+     */
+    private final Map<Vm, Set<Cloudlet>> vmOutstandingCloudlets;
+
+    /**
+     * The running VMs which don't have any outstanding Cloudlet,
+     * that are candidates to be destroyed according to the {@link #vmDestructionDelayFunction}.
+     */
+    private final Set<Vm> idleVms;
+
+    /**
+     * The VMs that became idle when created and haven't received any Cloudlet yet,
+     * which have to be scheduled for an idleness check when Cloudlets are dispatched,
+     * since they aren't checked when Cloudlets are returned.
+     * @see #scheduleIdlenessCheckOfUnusedVms()
+     */
+    private final Set<Vm> unusedVms;
+
+    /**
+     * The idle VMs to be checked at each time, in order to find out if they must be destroyed.
+     * Each key is a simulation time and the value is the VMs to be checked at that time.
+     * A single {@link CloudSimTags#VM_IDLENESS_CHECK} event is sent for each key.
+     */
+    private final NavigableMap<Double, Set<Vm>> vmIdlenessCheckTimes;
+
+    /**
+     * A map where each key is an idle VM and the value is the time it will be checked next,
+     * representing its entry inside the {@link #vmIdlenessCheckTimes}.
+     */
+    private final Map<Vm, Double> vmNextIdlenessCheckTime;
+
+    /**
+     * @see #isBatchCloudletMessages()
+     */
+    private boolean batchCloudletMessages;
+
+    /**
+     * @see #isBatchVmCreationRequests()
+     */
+    private boolean batchVmCreationRequests;
+
     /**
      * Creates a DatacenterBroker object.
      *
@@ -162,10 +210,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmCreationRequests = 0;
         vmCreationAcks = 0;
 
-        this.vmWaitingList = new ArrayList<>();
-        this.vmExecList = new ArrayList<>();
+        /* The lists where VMs and Cloudlets are searched for and removed from
+         * along the simulation are indexed, to avoid iterating over them. */
+        this.vmWaitingList = new IndexedList<>();
+        this.vmExecList = new IndexedList<>();
         this.vmCreatedList = new ArrayList<>();
-        this.cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingList = new IndexedList<>();
         this.cloudletsFinishedList = new ArrayList<>();
 
         setDatacenterList(new TreeSet<>());
@@ -173,6 +223,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmCreationRequestsMap = new HashMap<>();
         cloudletCreationRequestsMap = new HashMap<>();
         vmsToDatacentersMap = new HashMap<>();
+        vmOutstandingCloudlets = new HashMap<>();
+        idleVms = new LinkedHashSet<>();
+        unusedVms = new LinkedHashSet<>();
+        vmIdlenessCheckTimes = new TreeMap<>();
+        vmNextIdlenessCheckTime = new HashMap<>();
 
         setDefaultPolicies();
 
@@ -214,6 +269,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         sortVmsIfComparatorIsSet(list);
         setBrokerForEntities(list);
         lastSubmittedVm = setIdForEntitiesWithoutOne(list, lastSubmittedVm);
+        requireNoDuplicatedIds(list, vm -> vmWaitingList.contains(vm) || vmExecList.contains(vm));
         vmWaitingList.addAll(list);
 
         if (isStarted() && !list.isEmpty()) {
@@ -246,6 +302,27 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return Simulation.setIdForEntitiesWithoutOne(list, lastSubmittedEntity) ? list.get(list.size()-1) : lastSubmittedEntity;
     }
 
+    /**
+     * Checks if a list of submitted {@link CustomerEntity} objects
+     * has no entity with the same id of another one in the list or already submitted.
+     * Since entities are equal when they have the same id and broker,
+     * such a duplicated entity couldn't be tracked by the broker
+     * and would never run.
+     *
+     * @param list the list of submitted entities
+     * @param alreadySubmitted a predicate to check if an entity equal to a given one was already submitted
+     * @throws IllegalArgumentException if there is a duplicated entity
+     */
+    private <T extends CustomerEntity> void requireNoDuplicatedIds(final List<? extends T> list, final Predicate<T> alreadySubmitted) {
+        final Set<T> submitted = new HashSet<>(list.size());
+        for (final T entity : list) {
+            if (!submitted.add(entity) || alreadySubmitted.test(entity)) {
+                throw new IllegalArgumentException(
+                    String.format("%s: %s was already submitted. Each submitted entity must have a unique id.", getName(), entity));
+            }
+        }
+    }
+
     private void sortVmsIfComparatorIsSet(final List<? extends Vm> list) {
         if(vmComparator != null) {
             list.sort(vmComparator);
@@ -315,6 +392,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         if(list.isEmpty()) {
             return;
         }
+        requireNoDuplicatedIds(list, cloudletWaitingList::contains);
         setSimulationForCloudletUtilizationModels(list);
         cloudletWaitingList.addAll(list);
         wereThereWaitingCloudlets = true;
@@ -411,14 +489,28 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             case CloudSimTags.VM_CREATE_ACK:
                 processVmCreateResponseFromDatacenter(ev);
                 break;
+            case CloudSimTags.VM_CREATE_BATCH:
+                processVmCreateBatchResponseFromDatacenter(ev);
+                break;
             case CloudSimTags.VM_DESTROY:
                 requestIdleVmDestruction((Vm)ev.getData());
                 break;
+            case CloudSimTags.VM_IDLENESS_CHECK:
+                checkIdleVms();
+                break;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(ev);
                 break;
             case CloudSimTags.CLOUDLET_RETURN:
-                processCloudletReturn(ev);
+                processCloudletReturn((Cloudlet) ev.getData());
+                break;
+            case CloudSimTags.CLOUDLET_RETURN_BATCH:
+                for (final Cloudlet cloudlet : (Cloudlet[]) ev.getData()) {
+                    processCloudletReturn(cloudlet);
+                }
+                break;
+            case CloudSimTags.CLOUDLET_CANCEL:
+                processCloudletCancel((Cloudlet) ev.getData());
                 break;
             case CloudSimTags.END_OF_SIMULATION:
                 shutdownEntity();
@@ -460,18 +552,50 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @return true if the VM was created successfully, false otherwise
      */
     private boolean processVmCreateResponseFromDatacenter(final SimEvent ev) {
-        final Vm vm = (Vm) ev.getData();
-        boolean vmCreated = false;
+        final boolean vmCreated = processVmCreationAck((Vm) ev.getData());
+        requestNextStepAfterVmCreationAcks();
+        return vmCreated;
+    }
+
+    /**
+     * Process the single ack received from a Datacenter to a broker's request for
+     * creation of a batch of VMs in that Datacenter.
+     *
+     * @param ev a CloudSimEvent object where the {@link SimEvent#getData()} is the array of requested VMs
+     * @see CloudSimTags#VM_CREATE_BATCH
+     */
+    private void processVmCreateBatchResponseFromDatacenter(final SimEvent ev) {
+        for (final Vm vm : (Vm[]) ev.getData()) {
+            processVmCreationAck(vm);
+        }
+        requestNextStepAfterVmCreationAcks();
+    }
+
+    /**
+     * Process the ack received from a Datacenter for the creation of a given VM.
+     *
+     * @param vm the VM the Datacenter was requested to create
+     * @return true if the VM was created successfully, false otherwise
+     */
+    private boolean processVmCreationAck(final Vm vm) {
         vmCreationAcks++;
 
         //if the VM was successfully created in the requested Datacenter
         if (vm.isCreated()) {
             processSuccessVmCreationInDatacenter(vm, vm.getHost().getDatacenter());
-            vmCreated = true;
-        } else {
-            processFailedVmCreationInDatacenter(vm, lastSelectedDc);
+            return true;
         }
 
+        processFailedVmCreationInDatacenter(vm, lastSelectedDc);
+        return false;
+    }
+
+    /**
+     * After receiving VM creation acks, requests the creation of waiting Cloudlets
+     * if all VMs were created, or requests the creation of the waiting VMs
+     * to a fallback Datacenter if all acks were received but some VMs were not created.
+     */
+    private void requestNextStepAfterVmCreationAcks() {
         // all the requested VMs have been created
         if (vmWaitingList.isEmpty()) {
             requestDatacentersToCreateWaitingCloudlets();
@@ -479,8 +603,6 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         } else if (getVmCreationRequests() == getVmCreationAcks()) {
             requestCreationOfWaitingVmsToFallbackDatacenter();
         }
-
-        return vmCreated;
     }
 
     private void notifyOnVmsCreatedListeners(){
@@ -570,6 +692,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmWaitingList.remove(vm);
         vmExecList.add(vm);
         vmCreatedList.add(vm);
+        idleVms.add(vm);
+        unusedVms.add(vm);
     }
 
     /**
@@ -585,20 +709,93 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     /**
      * Processes the end of execution of a given cloudlet inside a Vm.
+     * Just the VM where the Cloudlet was running is checked for destruction,
+     * since the other idle VMs are checked when their time comes,
+     * according to the {@link #vmDestructionDelayFunction}.
      *
-     * @param ev the cloudlet that has just finished to execute and was returned to the broker
+     * @param c the cloudlet that has just finished to execute and was returned to the broker
      */
-    private void processCloudletReturn(final SimEvent ev) {
-        final Cloudlet c = (Cloudlet) ev.getData();
+    private void processCloudletReturn(final Cloudlet c) {
         cloudletsFinishedList.add(c);
         logger.info("{}: {}: {} finished and returned to broker.", getSimulation().clock(), getName(), c);
 
-        if(c.getVm().getCloudletScheduler().isEmpty()){
+        if(removeOutstandingCloudlet(c)){
             requestIdleVmDestruction(c.getVm());
             return;
         }
 
-        requestVmDestructionAfterAllCloudletsFinished();
+        if (!cloudletWaitingList.isEmpty()) {
+            /* There are some cloudlets waiting their VMs to be created.
+             * Since idle VMs may have been destroyed, resources may be available
+             * to create the waiting VMs. */
+            requestDatacenterToCreateWaitingVms();
+        }
+    }
+
+    /**
+     * Processes the acknowledge of a Cloudlet cancelled by the Datacenter.
+     * Since a cancelled Cloudlet is removed from the {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}
+     * without being returned to the broker, it isn't outstanding anymore,
+     * and its VM may become idle.
+     * If the Cloudlet wasn't in the scheduler yet (its submission was still on the way to the Datacenter),
+     * it's neither cancelled nor finished and will be returned later.
+     *
+     * @param c the cloudlet that was cancelled
+     */
+    private void processCloudletCancel(final Cloudlet c) {
+        if (c.getStatus() != Cloudlet.Status.CANCELED && !c.isFinished()) {
+            return;
+        }
+
+        logger.info("{}: {}: {} cancelled.", getSimulation().clock(), getName(), c);
+        if(removeOutstandingCloudlet(c)){
+            requestIdleVmDestruction(c.getVm());
+        }
+    }
+
+    /**
+     * Registers a Cloudlet sent to its VM, which will be returned to the broker
+     * when finished. This way, the VM isn't idle anymore.
+     *
+     * @param cloudlet the Cloudlet sent to its VM
+     */
+    private void addOutstandingCloudlet(final Cloudlet cloudlet) {
+        final Vm vm = cloudlet.getVm();
+        if (!vmOutstandingCloudlets.computeIfAbsent(vm, key -> new HashSet<>()).add(cloudlet)) {
+            return;
+        }
+
+        unusedVms.remove(vm);
+        if (idleVms.remove(vm)) {
+            cancelVmIdlenessCheck(vm);
+        }
+    }
+
+    /**
+     * Unregisters a Cloudlet returned from (or cancelled in) its VM,
+     * making the VM idle if there is no other outstanding Cloudlet.
+     *
+     * @param cloudlet the Cloudlet returned or cancelled
+     * @return true if the VM hasn't any outstanding Cloudlet anymore, false otherwise
+     * (including when the Cloudlet was already unregistered)
+     */
+    private boolean removeOutstandingCloudlet(final Cloudlet cloudlet) {
+        final Vm vm = cloudlet.getVm();
+        final Set<Cloudlet> outstanding = vmOutstandingCloudlets.get(vm);
+        if (outstanding == null) {
+            return false;
+        }
+
+        if (!outstanding.remove(cloudlet) || !outstanding.isEmpty()) {
+            return false;
+        }
+
+        vmOutstandingCloudlets.remove(vm);
+        if (vmExecList.contains(vm)) {
+            idleVms.add(vm);
+        }
+
+        return true;
     }
 
     /**
@@ -606,8 +803,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * If there is no waiting Cloudlet, request all VMs to be destroyed.
      */
     private void requestVmDestructionAfterAllCloudletsFinished() {
-        for (int i = vmExecList.size()-1; i >= 0; i--) {
-            requestIdleVmDestruction(vmExecList.get(i));
+        /* Iterates over a copy of the list, since destroyed VMs are removed from it.
+         * This way, the list isn't rearranged after every removal. */
+        final List<Vm> vms = new ArrayList<>(vmExecList);
+        for (int i = vms.size()-1; i >= 0; i--) {
+            requestIdleVmDestruction(vms.get(i));
         }
 
 
@@ -643,7 +843,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         if(vmAlive && ((delay > DEFAULT_VM_DESTRUCTION_DELAY && vm.isIdleEnough(delay)) || isFinished())) {
             logger.info("{}: {}: Requesting {} destruction.", getSimulation().clock(), getName(), vm);
             sendNow(getDatacenter(vm), CloudSimTags.VM_DESTROY, vm);
-            vmExecList.remove(vm);
+            removeVmFromExecList(vm);
             vmAlive = false;
         }
 
@@ -652,10 +852,92 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return;
         }
 
-        if(vmAlive && delay > DEFAULT_VM_DESTRUCTION_DELAY){
-            send(this, getDelayToCheckVmIdleness(vm), CloudSimTags.VM_DESTROY, vm);
+        if(vmAlive && delay > DEFAULT_VM_DESTRUCTION_DELAY && idleVms.contains(vm)){
+            scheduleVmIdlenessCheck(vm);
+        }
+
+    }
+
+    private void removeVmFromExecList(final Vm vm) {
+        vmExecList.remove(vm);
+        idleVms.remove(vm);
+        unusedVms.remove(vm);
+        vmOutstandingCloudlets.remove(vm);
+        cancelVmIdlenessCheck(vm);
+    }
+
+    /**
+     * Schedules an idle VM to be checked again later,
+     * in order to find out if it must be destroyed.
+     * Idle VMs to be checked at the same time share a single
+     * {@link CloudSimTags#VM_IDLENESS_CHECK} event.
+     * If the VM is already scheduled to be checked earlier, nothing is changed.
+     *
+     * @param vm the idle VM to check later
+     * @see #checkIdleVms()
+     */
+    private void scheduleVmIdlenessCheck(final Vm vm) {
+        final double delay = getDelayToCheckVmIdleness(vm);
+        final double time = getSimulation().clock() + delay;
+        final Double scheduledTime = vmNextIdlenessCheckTime.get(vm);
+        if (scheduledTime != null && scheduledTime <= time) {
+            return;
+        }
+
+        cancelVmIdlenessCheck(vm);
+        vmNextIdlenessCheckTime.put(vm, time);
+        Set<Vm> vms = vmIdlenessCheckTimes.get(time);
+        if (vms == null) {
+            vms = new LinkedHashSet<>();
+            vmIdlenessCheckTimes.put(time, vms);
+            send(this, delay, CloudSimTags.VM_IDLENESS_CHECK);
+        }
+
+        vms.add(vm);
+    }
+
+    private void cancelVmIdlenessCheck(final Vm vm) {
+        final Double time = vmNextIdlenessCheckTime.remove(vm);
+        if (time == null) {
+            return;
+        }
+
+        final Set<Vm> vms = vmIdlenessCheckTimes.get(time);
+        vms.remove(vm);
+        if (vms.isEmpty()) {
+            vmIdlenessCheckTimes.remove(time);
+        }
+    }
+
+    /**
+     * Checks the idle VMs scheduled to be checked up to the current time,
+     * requesting the destruction of the ones which are idle enough.
+     *
+     * @see #scheduleVmIdlenessCheck(Vm)
+     */
+    private void checkIdleVms() {
+        final List<Vm> vms = new ArrayList<>();
+        while (!vmIdlenessCheckTimes.isEmpty() && vmIdlenessCheckTimes.firstKey() <= getSimulation().clock()) {
+            vms.addAll(vmIdlenessCheckTimes.pollFirstEntry().getValue());
         }
 
+        vms.forEach(vmNextIdlenessCheckTime::remove);
+        vms.forEach(this::requestIdleVmDestruction);
+    }
+
+    /**
+     * Schedules the idleness check of the VMs created since the last time Cloudlets were dispatched
+     * and which didn't receive any Cloudlet, since they aren't checked when Cloudlets are returned.
+     * The other idle VMs are already scheduled when their last Cloudlet is returned or cancelled.
+     */
+    private void scheduleIdlenessCheckOfUnusedVms() {
+        for (final Vm vm : unusedVms) {
+            if (!vmNextIdlenessCheckTime.containsKey(vm) && vmDestructionDelayFunction.apply(vm) > DEFAULT_VM_DESTRUCTION_DELAY) {
+                scheduleVmIdlenessCheck(vm);
+            }
+        }
+
+        unusedVms.clear();
     }
 
     /**
@@ -729,20 +1011,28 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #submitVmList(java.util.List)
      */
     protected void requestDatacenterToCreateWaitingVms(final Datacenter datacenter, final boolean isFallbackDatacenter) {
-        int requestedVms = 0;
+        final List<Vm> requestedVms = new ArrayList<>();
         final String fallbackMsg = isFallbackDatacenter ? " (due to lack of a suitable Host in previous one)" : "";
         for (final Vm vm :vmWaitingList) {
             if (!vmsToDatacentersMap.containsKey(vm) && !vmCreationRequestsMap.containsKey(vm)) {
                 logger.info(
                     "{}: {}: Trying to Create {} in {}{}",
                     getSimulation().clock(), getName(), vm, datacenter.getName(), fallbackMsg);
-                sendNow(datacenter, CloudSimTags.VM_CREATE_ACK, vm);
                 vmCreationRequestsMap.put(vm, datacenter);
-                requestedVms++;
+                requestedVms.add(vm);
+                if (!batchVmCreationRequests) {
+                    sendNow(datacenter, CloudSimTags.VM_CREATE_ACK, vm);
+                }
             }
         }
+
+        //All VMs are sent into a single event, so that the Datacenter places them at once
+        if (batchVmCreationRequests && !requestedVms.isEmpty()) {
+            sendNow(datacenter, CloudSimTags.VM_CREATE_BATCH, requestedVms.toArray(new Vm[0]));
+        }
+
         datacenterRequestedList.add(datacenter);
-        this.vmCreationRequests += requestedVms;
+        this.vmCreationRequests += requestedVms.size();
     }
 
     /**
@@ -763,6 +1053,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
          */
 
         final List<Cloudlet> successfullySubmitted = new ArrayList<>();
+        /* The Cloudlets to be sent to each Datacenter when batching is enabled,
+         * grouped by their submission delay. */
+        final Map<Datacenter, Map<Double, List<Cloudlet>>> batches = new LinkedHashMap<>();
         for (final Cloudlet cloudlet : cloudletWaitingList) {
             if (cloudletCreationRequestsMap.containsKey(cloudlet)) {
                 continue;
@@ -787,13 +1080,24 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
                 getSimulation().clock(), getName(), cloudlet,
                 lastSelectedVm, lastSelectedVm.getHost(), delayStr);
             cloudlet.setVm(lastSelectedVm);
-            send(getDatacenter(lastSelectedVm),
-                cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            if (batchCloudletMessages) {
+                batches.computeIfAbsent(getDatacenter(lastSelectedVm), dc -> new LinkedHashMap<>())
+                       .computeIfAbsent(cloudlet.getSubmissionDelay(), delay -> new ArrayList<>())
+                       .add(cloudlet);
+            } else {
+                send(getDatacenter(lastSelectedVm),
+                    cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            }
             cloudletCreationRequestsMap.put(cloudlet, getDatacenter(lastSelectedVm));
+            addOutstandingCloudlet(cloudlet);
             successfullySubmitted.add(cloudlet);
         }
 
+        batches.forEach((dc, batchesByDelay) ->
+            batchesByDelay.forEach((delay, cloudlets) ->
+                send(dc, delay, CloudSimTags.CLOUDLET_SUBMIT_BATCH, cloudlets.toArray(new Cloudlet[0]))));
         cloudletWaitingList.removeAll(successfullySubmitted);
+        scheduleIdlenessCheckOfUnusedVms();
         allWaitingCloudletsSubmittedToVm();
     }
 
@@ -999,6 +1303,28 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return this;
     }
 
+    @Override
+    public boolean isBatchCloudletMessages() {
+        return batchCloudletMessages;
+    }
+
+    @Override
+    public DatacenterBroker setBatchCloudletMessages(final boolean enable) {
+        this.batchCloudletMessages = enable;
+        return this;
+    }
+
+    @Override
+    public boolean isBatchVmCreationRequests() {
+        return batchVmCreationRequests;
+    }
+
+    @Override
+    public DatacenterBroker setBatchVmCreationRequests(final boolean enable) {
+        this.batchVmCreationRequests = enable;
+        return this;
+    }
+
     @Override
     public boolean isThereWaitingCloudlets() {
         return !cloudletWaitingList.isEmpty();
@@ -79,6 +79,10 @@ final class DatacenterBrokerNull implements DatacenterBroker {
     @Override public DatacenterBroker addOneTimeOnVmsCreatedListener(EventListener<DatacenterBrokerEventInfo> listener) { return this; }
     @Override public Function<Vm, Double> getVmDestructionDelayFunction() { return vm -> 0.0; }
     @Override public DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function) { return this; }
+    @Override public boolean isBatchCloudletMessages() { return false; }
+    @Override public DatacenterBroker setBatchCloudletMessages(boolean enable) { return this; }
+    @Override public boolean isBatchVmCreationRequests() { return false; }
+    @Override public DatacenterBroker setBatchVmCreationRequests(boolean enable) { return this; }
     @Override public Vm defaultVmMapper(Cloudlet cloudlet) { return Vm.NULL; }
     @Override public void setVmComparator(Comparator<Vm> comparator) {/**/}
     @Override public void setCloudletComparator(Comparator<Cloudlet> comparator) {/**/}
@@ -231,7 +231,11 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public void notifyOnUpdateProcessingListeners(double time) {
-        onUpdateProcessingListeners.forEach(l -> l.update(CloudletVmEventInfo.of(l, time, this)));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        getLastDatacenter().runOrDeferUntilHostsUpdated(() -> onUpdateProcessingListeners.forEach(l -> l.update(CloudletVmEventInfo.of(l, time, this))));
     }
 
     @Override
@@ -337,9 +341,11 @@ public abstract class CloudletAbstract implements Cloudlet {
      * multiple times about a Cloudlet termination.
      */
     private void notifyListenersIfCloudletIsFinished() {
-        if (isFinished()) {
-            onFinishListeners.forEach(l -> l.update(CloudletVmEventInfo.of(l, this)));
+        if (isFinished() && !onFinishListeners.isEmpty()) {
+            //Copies the listeners since they are cleared right away, but may be notified later
+            final List<EventListener<CloudletVmEventInfo>> listeners = new ArrayList<>(onFinishListeners);
             onFinishListeners.clear();
+            getLastDatacenter().runOrDeferUntilHostsUpdated(() -> listeners.forEach(l -> l.update(CloudletVmEventInfo.of(l, this))));
         }
     }
 
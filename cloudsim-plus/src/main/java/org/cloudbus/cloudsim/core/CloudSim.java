@@ -16,6 +16,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -94,15 +98,51 @@ public class CloudSim implements Simulation {
      */
     private final List<CloudSimEntity> entities;
 
+    /**
+     * The ids of entities that may have events to process, that is,
+     * entities which received events into their deferred queue
+     * or have just become {@link SimEntity.State#RUNNABLE}.
+     * It avoids scanning all the {@link #entities} at every simulation tick
+     * when just a few of them are active.
+     * Since the ids are the indexes of the entities into the {@link #entities} list,
+     * entities are executed in the same order they are in such a list.
+     */
+    private final BitSet readyEntities;
+
     /**
      * The queue of events that will be sent in a future simulation time.
      */
-    private final FutureQueue future;
+    private final EventQueue future;
+
+    /**
+     * An index of the events into the {@link #future} queue,
+     * grouped by source entity and event tag.
+     * It enables cancelling all events of a given tag from a source entity
+     * (such as when a {@link PredicateType} is used in {@link #cancelAll(SimEntity, Predicate)})
+     * without traversing the whole future queue.
+     */
+    private final FutureEventsIndex futureEventsIndex;
+
+    /**
+     * The list of events happening at the same time, removed from the {@link #future} queue
+     * to be processed as a batch. It is reused at every clock tick to avoid creating a new list.
+     * @see #processFutureEventsHappeningAtSameTimeOfTheFirstOne(SimEvent)
+     */
+    private final List<SimEvent> sameTimeEvents;
+
+    /**
+     * The pool used to reuse processed events
+     * or null if event pooling is disabled.
+     * @see #enableEventPooling()
+     */
+    private EventPool eventPool;
 
     /**
-     * The deferred event queue.
+     * The executor used to run Datacenters in parallel
+     * or null if parallel execution is disabled.
+     * @see #enableParallelExecution(int)
      */
-    private final DeferredQueue deferred;
+    private ParallelEntityExecutor parallelExecutor;
 
     /**
      * @see #clock()
@@ -124,13 +164,25 @@ public class CloudSim implements Simulation {
     /**
      * @see #isPaused()
      */
-    private boolean paused;
+    private volatile boolean paused;
 
     /**
      * Indicates the time that the simulation has to be paused.
      * -1 means no pause was requested.
      */
-    private double pauseAt = -1;
+    private volatile double pauseAt = -1;
+
+    /**
+     * The lock used to block the simulation while it {@link #isPaused() is paused},
+     * until another thread calls {@link #resume()}.
+     */
+    private final Lock pauseLock;
+
+    /**
+     * The condition signaled when the simulation is {@link #resume() resumed}.
+     * @see #pauseLock
+     */
+    private final Condition resumed;
 
     /**
      * Indicates if an abrupt termination was requested.
@@ -146,9 +198,19 @@ public class CloudSim implements Simulation {
      */
     private boolean alreadyRunOnce;
 
-    private final Set<EventListener<SimEvent>> onEventProcessingListeners;
-    private final Set<EventListener<EventInfo>> onSimulationPausedListeners;
-    private final Set<EventListener<EventInfo>> onClockTickListeners;
+    /**
+     * @see #getLastTickProcessedEventsNumber()
+     */
+    private int lastTickProcessedEventsNumber;
+
+    /**
+     * @see #getProcessedEventsNumber()
+     */
+    private long processedEventsNumber;
+
+    private final ListenerBus<SimEvent> onEventProcessingListeners;
+    private final ListenerBus<EventInfo> onSimulationPausedListeners;
+    private final ListenerBus<EventInfo> onClockTickListeners;
 
     /**
      * Creates a CloudSim simulation.
@@ -171,17 +233,56 @@ public class CloudSim implements Simulation {
      * @see CloudInformationService
      */
     public CloudSim(final double minTimeBetweenEvents) {
+        this(minTimeBetweenEvents, new FutureQueue());
+    }
+
+    /**
+     * Creates a CloudSim simulation using a given {@link EventQueue} implementation
+     * to store the events to be processed in a future simulation time.
+     * Internally it creates a CloudInformationService.
+     *
+     * @param futureQueue an empty queue to store future events,
+     *                    such as a {@link FutureQueue} or {@link HeapEventQueue}
+     * @see CloudInformationService
+     * @see #CloudSim(double, EventQueue)
+     */
+    public CloudSim(final EventQueue futureQueue){
+        this(0.1, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter,
+     * using a given {@link EventQueue} implementation
+     * to store the events to be processed in a future simulation time.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events. Events
+     * within shorter periods after the last event are discarded.
+     * @param futureQueue an empty queue to store future events,
+     *                    such as a {@link FutureQueue} or {@link HeapEventQueue}
+     * @see CloudInformationService
+     */
+    public CloudSim(final double minTimeBetweenEvents, final EventQueue futureQueue) {
+        if (!Objects.requireNonNull(futureQueue).isEmpty()) {
+            throw new IllegalArgumentException("The future event queue must be empty.");
+        }
+
         this.entities = new ArrayList<>();
-        this.future = new FutureQueue();
-        this.deferred = new DeferredQueue();
+        this.readyEntities = new BitSet();
+        this.future = futureQueue;
+        this.futureEventsIndex = new FutureEventsIndex();
+        this.sameTimeEvents = new ArrayList<>();
+        this.pauseLock = new ReentrantLock();
+        this.resumed = pauseLock.newCondition();
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
         this.running = false;
         this.alreadyRunOnce = false;
-        this.onEventProcessingListeners = new HashSet<>();
-        this.onSimulationPausedListeners = new HashSet<>();
-        this.onClockTickListeners = new HashSet<>();
+        this.onEventProcessingListeners = new ListenerBus<>();
+        this.onSimulationPausedListeners = new ListenerBus<>();
+        this.onClockTickListeners = new ListenerBus<>();
 
         // NOTE: the order for the lines below is important
         this.calendar = Calendar.getInstance();
@@ -205,22 +306,77 @@ public class CloudSim implements Simulation {
                 "If you've paused the simulation and want to resume it, call the resume() method.");
         }
 
-        logger.info("Starting CloudSim Plus {}", VERSION);
         startEntitiesIfNotRunning();
         this.alreadyRunOnce = true;
 
-        if(!eventLoop()){
-            return clock;
+        if(eventLoop()){
+            finish();
+        }
+
+        return clock;
+    }
+
+    @Override
+    public long runEvents(final long events) {
+        final long previousProcessedEvents = processedEventsNumber;
+        runWhile(() -> processedEventsNumber - previousProcessedEvents < events);
+        return processedEventsNumber - previousProcessedEvents;
+    }
+
+    @Override
+    public double runUntil(final double time) {
+        runWhile(() -> future.isEmpty() || future.first().eventTime() <= time);
+        return clock;
+    }
+
+    /**
+     * Runs the simulation in the current thread while a given condition is true,
+     * starting it if not started yet.
+     * If the simulation finishes before the condition becomes false,
+     * the simulation is finished just as it would be by {@link #start()}.
+     * Pause requests are not considered, since the simulation
+     * just stops when the given condition becomes false.
+     *
+     * @param condition the condition to keep the simulation running
+     * @throws UnsupportedOperationException if the simulation has already finished or was run by {@link #start()}
+     */
+    private void runWhile(final BooleanSupplier condition) {
+        if(alreadyRunOnce){
+            throw new UnsupportedOperationException(
+                "You can't run a simulation that has already finished or that was run by the start() method.");
+        }
+
+        startEntitiesIfNotRunning();
+        while (true) {
+            /* Enables the entities to process the events already delivered to them,
+             * so that the condition is checked after all their new events are sent. */
+            executeRunnableEntities();
+            if (!condition.getAsBoolean()) {
+                return;
+            }
+
+            if(!runClockTick()){
+                alreadyRunOnce = true;
+                if(!abortRequested) {
+                    finish();
+                }
+
+                return;
+            }
         }
+    }
 
+    /**
+     * Finishes the simulation after there are no more events to process
+     * or a termination was requested, enabling entities to process their last events.
+     */
+    private void finish() {
         notifyEndOfSimulationToEntities();
         running = false;
         logger.info("Simulation: No more future events{}", System.lineSeparator());
 
         finishSimulation();
         printSimulationFinished();
-
-        return clock;
     }
 
     /**
@@ -232,18 +388,33 @@ public class CloudSim implements Simulation {
      *         false if it was aborted.
      */
     private boolean eventLoop() {
-        while (runClockTickAndProcessFutureEvents() || waitSimulationClockToReachTerminationTime()) {
-            if(abortRequested){
-                logger.info("{}================== Simulation aborted under request at time {} ==================", System.lineSeparator(), clock);
-                return false;
-            }
+        while (runClockTick()) {
+            checkIfSimulationPauseRequested();
+        }
 
-            if (isTimeToTerminateSimulationUnderRequest()) {
-                setClock(terminationTime);
-                return true;
-            }
+        return !abortRequested;
+    }
 
-            checkIfSimulationPauseRequested();
+    /**
+     * Runs one tick of the simulation, then checks if the simulation must keep running.
+     *
+     * @return true if the simulation must keep running;
+     *         false if it has finished due to its natural end,
+     *         was requested to finish at the current time or was aborted.
+     */
+    private boolean runClockTick() {
+        if (!runClockTickAndProcessFutureEvents() && !waitSimulationClockToReachTerminationTime()) {
+            return false;
+        }
+
+        if(abortRequested){
+            logger.info("{}================== Simulation aborted under request at time {} ==================", System.lineSeparator(), clock);
+            return false;
+        }
+
+        if (isTimeToTerminateSimulationUnderRequest()) {
+            setClock(terminationTime);
+            return false;
         }
 
         return true;
@@ -361,15 +532,19 @@ public class CloudSim implements Simulation {
 
     @Override
     public void addEntity(final CloudSimEntity e) {
-        if (running) {
-            final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.CREATE, clock, e);
-            future.addEvent(evt);
-        }
-
+        requireNotRunningInParallel("Adding entities");
+        /* The id must be set before sending the CREATE event,
+         * since the entity is the event source
+         * and its id is used as key in the futureEventsIndex. */
         if (e.getId() == -1) { // Only add once!
             e.setId(entities.size());
             entities.add(e);
         }
+
+        if (running) {
+            final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.CREATE, clock, e);
+            addFutureEvent(evt);
+        }
     }
 
     /**
@@ -380,7 +555,7 @@ public class CloudSim implements Simulation {
     private boolean runClockTickAndProcessFutureEvents() {
         executeRunnableEntities();
         if (!future.isEmpty()) {
-            future.stream().findFirst().ifPresent(this::processFutureEventsHappeningAtSameTimeOfTheFirstOne);
+            processFutureEventsHappeningAtSameTimeOfTheFirstOne(pollFirstFutureEvent());
             return true;
         }
 
@@ -421,31 +596,108 @@ public class CloudSim implements Simulation {
                 .min().orElse(minTimeBetweenEvents);
     }
 
+    /**
+     * Processes a given event that was just removed from the head of the {@link #future} queue
+     * and all the other events happening at the same time.
+     * The events happening at the same time are drained from the head of the queue
+     * in a single ordered pass after processing the first one,
+     * so that events sent by it to the current time are processed too.
+     * Then, such events are processed as a batch.
+     *
+     * @param firstEvent the event removed from the head of the queue
+     * @see #getLastTickProcessedEventsNumber()
+     */
     private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
         processEvent(firstEvent);
-        future.remove(firstEvent);
-
-        final List<SimEvent> eventsToProcess =
-            future
-                .stream()
-                .filter(e -> e.eventTime() == firstEvent.eventTime())
-                .collect(toList());
-
-        for(final SimEvent evt: eventsToProcess) {
+        /* The reused list is not empty only if this method is called again while the events are processed
+         * (such as when the simulation is run from inside an event listener). */
+        final List<SimEvent> batch = sameTimeEvents.isEmpty() ? sameTimeEvents : new ArrayList<>();
+        future.pollAllAt(firstEvent.eventTime(), batch);
+        final int batchSize = batch.size();
+        for (int i = 0; i < batchSize; i++) {
+            final SimEvent evt = batch.get(i);
+            futureEventsIndex.remove(evt);
             processEvent(evt);
-            future.remove(evt);
         }
+
+        batch.clear();
+        lastTickProcessedEventsNumber = batchSize + 1;
+        processedEventsNumber += lastTickProcessedEventsNumber;
     }
 
     /**
-     * Gets the list of entities that are in {@link SimEntity.State#RUNNABLE}
+     * Gets the list of {@link #readyEntities} that are in {@link SimEntity.State#RUNNABLE}
      * and execute them.
+     * Entities that have no more events to process or that are not runnable anymore
+     * are removed from such a list, until they receive a new event
+     * or become runnable again.
      */
     private void executeRunnableEntities() {
-        entities
-            .stream()
-            .filter(ent -> ent.getState() == SimEntity.State.RUNNABLE)
-            .forEach(SimEntity::run);
+        for (int id = readyEntities.nextSetBit(0); id >= 0; id = readyEntities.nextSetBit(id + 1)) {
+            final CloudSimEntity entity = entities.get(id);
+            if (entity.getState() == SimEntity.State.RUNNABLE && parallelExecutor != null && parallelExecutor.isParallelizable(entity)) {
+                parallelExecutor.addPendingEntity(entity);
+                continue;
+            }
+
+            /* Entities that can't run in parallel must see the changes
+             * made by all the entities before them. */
+            executeParallelEntities();
+            if (entity.getState() == SimEntity.State.RUNNABLE) {
+                entity.run();
+            }
+
+            updateEntityReadiness(entity);
+        }
+
+        executeParallelEntities();
+    }
+
+    /**
+     * Runs in parallel the entities that were added to the {@link #parallelExecutor},
+     * if parallel execution is enabled.
+     */
+    private void executeParallelEntities() {
+        if (parallelExecutor != null) {
+            parallelExecutor.runPendingEntities().forEach(this::updateEntityReadiness);
+        }
+    }
+
+    /**
+     * Removes an entity from the {@link #readyEntities} if it
+     * has no more events to process or is not runnable anymore.
+     * @param entity the entity that has just run
+     */
+    private void updateEntityReadiness(final CloudSimEntity entity) {
+        if (entity.getState() != SimEntity.State.RUNNABLE || entity.getDeferredQueue().isEmpty()) {
+            readyEntities.clear(entity.getId());
+        }
+    }
+
+    /**
+     * Adds an entity to the {@link #readyEntities} when it becomes {@link SimEntity.State#RUNNABLE}
+     * or removes it when it leaves such a state.
+     * If the entity is running in parallel with other ones,
+     * the change is applied after all of them finish.
+     *
+     * @param entity the entity that has just changed its state
+     * @see CloudSimEntity#setState(SimEntity.State)
+     */
+    void entityStateChanged(final CloudSimEntity entity) {
+        if (entity.getId() < 0) {
+            return;
+        }
+
+        if (isRunningInParallel()) {
+            deferIfRunningInParallel(() -> entityStateChanged(entity));
+            return;
+        }
+
+        if (entity.getState() == SimEntity.State.RUNNABLE) {
+            readyEntities.set(entity.getId());
+        } else {
+            readyEntities.clear(entity.getId());
+        }
     }
 
     private void sendNow(final SimEntity dest, final int tag) {
@@ -460,15 +712,75 @@ public class CloudSim implements Simulation {
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
         validateDelay(delay);
-        final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
-        future.addEvent(evt);
+        final SimEvent evt = newEvent(SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
+        addFutureEvent(evt);
     }
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
         validateDelay(delay);
-        final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
+        final SimEvent evt = newEvent(SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
+        addFutureEventFirst(evt);
+    }
+
+    /**
+     * Creates an event or gets one from the {@link #eventPool} if pooling is enabled.
+     *
+     * @param type the event type
+     * @param time the time the event should occur
+     * @param src the entity that scheduled the event
+     * @param dest the entity the event will be sent to
+     * @param tag the event tag
+     * @param data the data attached to the event
+     * @return the event with the given attributes
+     */
+    private SimEvent newEvent(
+        final SimEvent.Type type, final double time,
+        final SimEntity src, final SimEntity dest, final int tag, final Object data)
+    {
+        return eventPool == null || isRunningInParallel() ?
+                new CloudSimEvent(this, type, time, src, dest, tag, data) :
+                eventPool.acquire(type, time, src, dest, tag, data);
+    }
+
+    /**
+     * Adds an event to the {@link #future} queue and to the {@link #futureEventsIndex}.
+     * @param evt the event to add
+     */
+    private void addFutureEvent(final SimEvent evt) {
+        //The lambda is just created when needed, to avoid allocating it for every event
+        if (isRunningInParallel()) {
+            deferIfRunningInParallel(() -> addFutureEvent(evt));
+            return;
+        }
+
+        future.addEvent(evt);
+        futureEventsIndex.add(evt);
+    }
+
+    /**
+     * Adds an event to the head of the {@link #future} queue and to the {@link #futureEventsIndex}.
+     * @param evt the event to add
+     */
+    private void addFutureEventFirst(final SimEvent evt) {
+        if (isRunningInParallel()) {
+            deferIfRunningInParallel(() -> addFutureEventFirst(evt));
+            return;
+        }
+
         future.addEventFirst(evt);
+        futureEventsIndex.add(evt);
+    }
+
+    /**
+     * Gets and removes the first event from the {@link #future} queue and
+     * from the {@link #futureEventsIndex}.
+     * @return the removed event or {@link SimEvent#NULL} if the queue is empty
+     */
+    private SimEvent pollFirstFutureEvent() {
+        final SimEvent evt = future.pollFirst();
+        futureEventsIndex.remove(evt);
+        return evt;
     }
 
     private void validateDelay(final double delay) {
@@ -479,6 +791,7 @@ public class CloudSim implements Simulation {
 
     @Override
     public void wait(final CloudSimEntity src, final Predicate<SimEvent> p) {
+        requireNotRunningInParallel("Waiting for events");
         src.setState(SimEntity.State.WAITING);
         if (p != ANY_EVT) {
             // If a predicate has been used, store it in order to check incoming events that matches it
@@ -488,11 +801,17 @@ public class CloudSim implements Simulation {
 
     @Override
     public long waiting(final SimEntity dest, final Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).count();
+        final DeferredQueue deferred = getDeferredQueue(dest);
+        return p == ANY_EVT ? deferred.size() : filterEvents(deferred, p).count();
     }
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> p) {
+        final DeferredQueue deferred = getDeferredQueue(dest);
+        if(p == ANY_EVT){
+            return deferred.pollFirst();
+        }
+
         final SimEvent evt = findFirstDeferred(dest, p);
         deferred.remove(evt);
         return evt;
@@ -500,35 +819,68 @@ public class CloudSim implements Simulation {
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).findFirst().orElse(SimEvent.NULL);
+        final DeferredQueue deferred = getDeferredQueue(dest);
+        if(p == ANY_EVT){
+            return deferred.isEmpty() ? SimEvent.NULL : deferred.first();
+        }
+
+        return filterEvents(deferred, p).findFirst().orElse(SimEvent.NULL);
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
+     * Gets the queue of deferred events sent to a given entity.
      *
-     * @param queue the queue to get the events from
-     * @param p the event selection predicate
-     * @param dest Id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
+     * @param dest the entity to get its deferred queue
+     * @return the deferred queue of the entity
+     * @see CloudSimEntity#getDeferredQueue()
      */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> p, final SimEntity dest) {
-        return filterEvents(queue, p.and(e -> e.getDestination() == dest));
+    private DeferredQueue getDeferredQueue(final SimEntity dest) {
+        return entities.get(dest.getId()).getDeferredQueue();
     }
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> p) {
+        requireNotRunningInParallel("Cancelling events");
         final SimEvent evt = future.stream().filter(p.and(e -> e.getSource().equals(src))).findFirst().orElse(SimEvent.NULL);
         future.remove(evt);
+        futureEventsIndex.remove(evt);
         return evt;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When the given predicate is exactly a {@link PredicateType}
+     * (not a sub-class, which may select events differently),
+     * the events to cancel are directly got from an index of
+     * future events by source entity and tag,
+     * instead of traversing the entire future event queue.
+     * This way, the cost is proportional to the number of cancelled events.
+     * Any other kind of predicate requires traversing the queue.</p>
+     *
+     * @param src {@inheritDoc}
+     * @param p {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> p) {
-        final int previousSize = future.size();
+        requireNotRunningInParallel("Cancelling events");
+        if (p != null && p.getClass() == PredicateType.class) {
+            final List<SimEvent> cancelList = futureEventsIndex.removeAll(src, ((PredicateType) p).getTag());
+            if (cancelList.isEmpty()) {
+                return false;
+            }
+
+            future.removeAll(cancelList);
+            cancelList.forEach(this::recycleEvent);
+            return true;
+        }
+
         final List<SimEvent> cancelList = filterEventsFromSourceEntity(src, p, future).collect(toList());
         future.removeAll(cancelList);
-        return previousSize < future.size();
+        cancelList.forEach(futureEventsIndex::remove);
+        cancelList.forEach(this::recycleEvent);
+        return !cancelList.isEmpty();
     }
 
     /**
@@ -568,6 +920,12 @@ public class CloudSim implements Simulation {
 
         processEventByType(e);
         notifyOnEventProcessingListeners(e);
+
+        /* SEND events are recycled after being processed by the destination entity.
+         * Other events are just processed by the simulation itself. */
+        if (e.getType() != SimEvent.Type.SEND) {
+            recycleEvent(e);
+        }
     }
 
     /**
@@ -584,7 +942,7 @@ public class CloudSim implements Simulation {
             if (circularClockTimeQueue[0] < circularClockTimeQueue[1])
             {
                 lastTimeClockTickListenersUpdated = circularClockTimeQueue[0];
-                onClockTickListeners.forEach(l -> l.update(EventInfo.of(l, lastTimeClockTickListenersUpdated)));
+                onClockTickListeners.notify(lastTimeClockTickListenersUpdated);
             }
         }
     }
@@ -615,7 +973,7 @@ public class CloudSim implements Simulation {
     }
 
     private void processCreateEvent(final SimEvent e) {
-        addEntityDynamically((SimEntity) e.getData());
+        addEntityDynamically(e.getSource());
     }
 
     /**
@@ -646,20 +1004,21 @@ public class CloudSim implements Simulation {
         }
 
         final CloudSimEntity destEnt = entities.get(e.getDestination().getId());
+        readyEntities.set(destEnt.getId());
         if (destEnt.getState() == SimEntity.State.WAITING) {
             final Predicate<SimEvent> p = waitPredicates.get(destEnt);
             if (p == null || e.getTag() == 9999 || p.test(e)) {
-                destEnt.setEventBuffer(new CloudSimEvent(e));
+                destEnt.setEventBuffer(eventPool == null ? new CloudSimEvent(e) : e);
                 destEnt.setState(SimEntity.State.RUNNABLE);
                 waitPredicates.remove(destEnt);
             } else {
-                deferred.addEvent(e);
+                destEnt.getDeferredQueue().addEvent(e);
             }
 
             return;
         }
 
-        deferred.addEvent(e);
+        destEnt.getDeferredQueue().addEvent(e);
     }
 
     /**
@@ -667,7 +1026,7 @@ public class CloudSim implements Simulation {
      * @param e the processed event
      */
     private void notifyOnEventProcessingListeners(final SimEvent e) {
-        onEventProcessingListeners.forEach(l -> l.update(e));
+        onEventProcessingListeners.notify(e);
     }
 
     private void startEntitiesIfNotRunning() {
@@ -675,6 +1034,7 @@ public class CloudSim implements Simulation {
             return;
         }
 
+        logger.info("Starting CloudSim Plus {}", VERSION);
         running = true;
         entities.forEach(SimEntity::start);
         logger.info("Entities started.");
@@ -702,27 +1062,33 @@ public class CloudSim implements Simulation {
 
     @Override
     public boolean resume() {
-        final boolean wasPaused = this.paused;
-        this.paused = false;
+        pauseLock.lock();
+        try {
+            final boolean wasPaused = this.paused;
+            this.paused = false;
 
-        if (pauseAt <= clock) {
-            pauseAt = -1;
-        }
+            if (pauseAt <= clock) {
+                pauseAt = -1;
+            }
 
-        return wasPaused;
+            resumed.signalAll();
+            return wasPaused;
+        } finally {
+            pauseLock.unlock();
+        }
     }
 
     @Override
     public void pauseEntity(final SimEntity src, final double delay) {
-        final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
-        future.addEvent(evt);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, clock + delay, src, SimEntity.NULL, -1, null);
+        addFutureEvent(evt);
         src.setState(SimEntity.State.HOLDING);
     }
 
     @Override
     public void holdEntity(final SimEntity src, final long delay) {
-        final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
-        future.addEvent(evt);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, clock + delay, src, SimEntity.NULL, -1, null);
+        addFutureEvent(evt);
         src.setState(SimEntity.State.HOLDING);
     }
 
@@ -740,7 +1106,7 @@ public class CloudSim implements Simulation {
      */
     private boolean doPause() {
         if(running && isPauseRequested()) {
-            paused=true;
+            setPaused();
             setClock(pauseAt);
             notifyOnSimulationPausedListeners();
             return true;
@@ -753,22 +1119,162 @@ public class CloudSim implements Simulation {
      * Notifies all registered listeners when the simulation is paused.
      */
     private void notifyOnSimulationPausedListeners() {
-        onSimulationPausedListeners.forEach(l -> l.update(EventInfo.of(l, clock)));
+        onSimulationPausedListeners.notify(clock);
     }
 
     private boolean isPauseRequested() {
         return pauseAt > -1;
     }
 
+    private void setPaused() {
+        pauseLock.lock();
+        try {
+            paused = true;
+        } finally {
+            pauseLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks the simulation thread until another thread calls {@link #resume()},
+     * if the simulation is paused.
+     */
     private void waitsForSimulationToBeResumedIfPaused() {
-        while (paused) {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ignored) {
+        pauseLock.lock();
+        try {
+            while (paused) {
+                resumed.awaitUninterruptibly();
             }
+
+            pauseAt = -1;
+        } finally {
+            pauseLock.unlock();
+        }
+    }
+
+    /**
+     * Enables reusing {@link SimEvent} objects after they are processed,
+     * instead of creating new ones for every event sent between entities.
+     * That reduces the allocation rate and garbage collection pressure
+     * for simulations sending millions of events.
+     * For such simulations, it's suggested to use it together with
+     * a {@link HeapEventQueue} (see {@link #CloudSim(double, EventQueue)}),
+     * which doesn't allocate objects for queued events.
+     *
+     * <p><b>Since processed events are reused, no reference to them may be kept
+     * after they are processed.</b> If an {@link EventListener} registered by
+     * {@link #addOnEventProcessingListener(EventListener)} needs to keep
+     * a reference to an event, it has to call {@link #retainEvent(SimEvent)} for it.
+     * Event pooling is disabled by default.</p>
+     *
+     * @see #isEventPoolingEnabled()
+     */
+    public void enableEventPooling() {
+        if (eventPool == null) {
+            eventPool = new EventPool(this);
+        }
+    }
+
+    /**
+     * Checks if processed {@link SimEvent}s are reused.
+     * @return true if event pooling is enabled, false otherwise
+     * @see #enableEventPooling()
+     */
+    public boolean isEventPoolingEnabled() {
+        return eventPool != null;
+    }
+
+    /**
+     * Indicates that a given event must not be reused after it is processed,
+     * enabling a reference to it to be safely kept when
+     * {@link #enableEventPooling() event pooling} is enabled.
+     *
+     * @param evt the event to retain
+     */
+    public void retainEvent(final SimEvent evt) {
+        if (eventPool != null) {
+            eventPool.retain(evt);
+        }
+    }
+
+    /**
+     * Enables running {@link Datacenter}s that have events to process at the same
+     * simulation time in parallel, where each Datacenter (together with its Hosts,
+     * VMs and Cloudlets) works as a independent logical process.
+     * That may speed up simulations with several large Datacenters.
+     *
+     * <p>The events sent by Datacenters running in parallel are just added to
+     * the future event queue after all of them finish, in the order of Datacenter ids.
+     * That way, such events are processed in exactly the same order
+     * as in a sequential execution and the simulation results are the same.
+     * Other entities, such as brokers, are always run sequentially.</p>
+     *
+     * <p><b>Since Datacenters run in different threads, any listener that may be
+     * notified during the processing of a Datacenter (such as VM and Cloudlet listeners)
+     * must not change objects out of such a Datacenter.</b>
+     * Datacenters running in parallel are not allowed to create entities,
+     * wait for or cancel events, and event pooling is not used while they run.
+     * Log messages from different Datacenters may be interleaved.</p>
+     *
+     * @param threads the maximum number of Datacenters to run at the same time
+     * @see #isParallelExecutionEnabled()
+     */
+    public void enableParallelExecution(final int threads) {
+        if (running) {
+            throw new IllegalStateException("Parallel execution must be enabled before starting the simulation.");
         }
 
-        pauseAt = -1;
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdown();
+        }
+
+        parallelExecutor = new ParallelEntityExecutor(threads);
+    }
+
+    /**
+     * Checks if {@link Datacenter}s are run in parallel.
+     * @return true if parallel execution is enabled, false otherwise
+     * @see #enableParallelExecution(int)
+     */
+    public boolean isParallelExecutionEnabled() {
+        return parallelExecutor != null;
+    }
+
+    /**
+     * Checks if the current thread is running an entity in parallel with other ones.
+     * @return true if an entity is running in parallel in the current thread, false otherwise
+     */
+    private boolean isRunningInParallel() {
+        return parallelExecutor != null && parallelExecutor.isRunningInParallel();
+    }
+
+    /**
+     * Defers an action performed on the future event queue if the current thread
+     * is running an entity in parallel with other ones.
+     *
+     * @param action the action to defer
+     * @return true if the action was deferred, false if it must be performed right away
+     */
+    private boolean deferIfRunningInParallel(final Runnable action) {
+        return parallelExecutor != null && parallelExecutor.defer(action);
+    }
+
+    private void requireNotRunningInParallel(final String operation) {
+        if (isRunningInParallel()) {
+            throw new UnsupportedOperationException(operation + " is not supported by entities running in parallel.");
+        }
+    }
+
+    /**
+     * Returns a processed event to the {@link #eventPool} so that it can be reused,
+     * if event pooling is enabled.
+     *
+     * @param evt the processed event
+     */
+    void recycleEvent(final SimEvent evt) {
+        if (eventPool != null && !isRunningInParallel()) {
+            eventPool.release(evt);
+        }
     }
 
     @Override
@@ -778,6 +1284,16 @@ public class CloudSim implements Simulation {
                 .count();
     }
 
+    @Override
+    public int getLastTickProcessedEventsNumber() {
+        return lastTickProcessedEventsNumber;
+    }
+
+    @Override
+    public long getProcessedEventsNumber() {
+        return processedEventsNumber;
+    }
+
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
         return !future.isEmpty() && clock <= pauseAt && isNextFutureEventHappeningAfterTimeToPause();
     }
@@ -792,7 +1308,7 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().eventTime() >= pauseAt;
+        return future.first().eventTime() >= pauseAt;
     }
 
     /**
@@ -807,6 +1323,9 @@ public class CloudSim implements Simulation {
 
         entitiesAlive.forEach(SimEntity::shutdownEntity);
         running = false;
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdown();
+        }
     }
 
     @Override
@@ -845,8 +1364,12 @@ public class CloudSim implements Simulation {
 
     @Override
     public Simulation addOnClockTickListener(final EventListener<EventInfo> listener) {
-        Objects.requireNonNull(listener);
-        onClockTickListeners.add(listener);
+        return addOnClockTickListener(listener, 0);
+    }
+
+    @Override
+    public Simulation addOnClockTickListener(final EventListener<EventInfo> listener, final double interval) {
+        onClockTickListeners.add(listener, interval);
         return this;
     }
 
@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,11 @@ public abstract class CloudSimEntity implements SimEntity {
      */
     private SimEvent buffer;
 
+    /**
+     * @see #getDeferredQueue()
+     */
+    private DeferredQueue deferredQueue;
+
     /**
      * The entity's current state.
      */
@@ -62,6 +68,7 @@ public abstract class CloudSimEntity implements SimEntity {
         setSimulation(simulation);
         setId(-1);
         state = State.RUNNABLE;
+        this.deferredQueue = new DeferredQueue();
         this.simulation.addEntity(this);
         this.started = false;
         this.log = true;
@@ -270,11 +277,8 @@ public abstract class CloudSimEntity implements SimEntity {
             return null;
         }
 
-        if (numEventsWaiting(p) > 0) {
-            return selectEvent(p);
-        }
-
-        return null;
+        final SimEvent evt = selectEvent(p);
+        return evt == SimEvent.NULL ? null : evt;
     }
 
     /**
@@ -308,6 +312,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
         while (ev != null) {
             processEvent(ev);
+            recycleEvent(ev);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -318,6 +323,19 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Returns a processed event to the simulation, so that it can be reused
+     * if event pooling is enabled.
+     *
+     * @param evt the processed event
+     * @see CloudSim#enableEventPooling()
+     */
+    private void recycleEvent(final SimEvent evt) {
+        if (simulation instanceof CloudSim) {
+            ((CloudSim) simulation).recycleEvent(evt);
+        }
+    }
+
     /**
      * Gets a clone of the entity. This is used when independent replications
      * have been specified as an output analysis method. Clones or backups of
@@ -335,6 +353,7 @@ public abstract class CloudSimEntity implements SimEntity {
         copy.setName(name);
         copy.setSimulation(simulation);
         copy.setEventBuffer(null);
+        copy.deferredQueue = new DeferredQueue();
         return copy;
     }
 
@@ -381,7 +400,12 @@ public abstract class CloudSimEntity implements SimEntity {
      */
     @Override
     public SimEntity setState(final State state) {
+        final State previous = this.state;
         this.state = state;
+        if (previous != state && simulation instanceof CloudSim) {
+            ((CloudSim) simulation).entityStateChanged(this);
+        }
+
         return this;
     }
 
@@ -403,6 +427,19 @@ public abstract class CloudSimEntity implements SimEntity {
         this.name = String.format("%s%d", getClass().getSimpleName(), id);
     }
 
+    /**
+     * Gets the queue of events sent to this entity
+     * that are waiting to be processed by it.
+     * Each entity has its own deferred queue (inbox),
+     * so that selecting an event sent to it doesn't require
+     * scanning the events sent to all other entities.
+     *
+     * @return the entity's deferred queue
+     */
+    DeferredQueue getDeferredQueue() {
+        return deferredQueue;
+    }
+
     /**
      * Sets the event buffer.
      *
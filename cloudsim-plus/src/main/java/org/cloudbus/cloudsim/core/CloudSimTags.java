@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -103,6 +104,25 @@ public final class CloudSimTags {
      */
     public static final int CLOUDLET_SUBMIT_ACK = BASE + 22;
 
+    /**
+     * Denotes the submission of a batch of Cloudlets to a Datacenter using a single event,
+     * without requiring an acknowledgement.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@code Cloudlet[]}.
+     *
+     * @see DatacenterBroker#setBatchCloudletMessages(boolean)
+     */
+    public static final int CLOUDLET_SUBMIT_BATCH = BASE + 29;
+
+    /**
+     * Denotes the return of a batch of finished Cloudlets back to their broker using a single event.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@code Cloudlet[]}.
+     *
+     * @see DatacenterBroker#setBatchCloudletMessages(boolean)
+     */
+    public static final int CLOUDLET_RETURN_BATCH = BASE + 30;
+
     /**
      * Cancels a Cloudlet submitted in the Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
@@ -156,6 +176,20 @@ public final class CloudSimTags {
      */
     public static final int VM_CREATE_ACK = BASE + 32;
 
+    /**
+     * Denotes a request to create a batch of VMs in a {@link Datacenter} using a single event,
+     * with acknowledgement information sent by the Datacenter.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@code Vm[]}.
+     * The Datacenter replies with a single event of this same type, whose
+     * {@link SimEvent#getData()} is the requested array.
+     * To check which VMs were in fact created inside the requested Datacenter,
+     * one has only to call {@link Vm#isCreated()} for each one.
+     *
+     * @see org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy#allocateHostForVm(java.util.Collection)
+     */
+    public static final int VM_CREATE_BATCH = BASE + 38;
+
     /**
      * Denotes a request to destroy a VM in a {@link Datacenter}.
      * When an event of this type is sent, the {@link SimEvent#getData()}
@@ -188,6 +222,14 @@ public final class CloudSimTags {
      */
     public static final int VM_MIGRATE_ACK = BASE + 36;
 
+    /**
+     * Denotes an internal event generated in a {@link DatacenterBroker}
+     * to notify itself to check if its idle VMs must be destroyed.
+     * The VMs to be checked are kept by the broker itself,
+     * so that the {@link SimEvent#getData()} of such an event is null.
+     */
+    public static final int VM_IDLENESS_CHECK = BASE + 37;
+
     /**
      * Denotes an internal event generated in a {@link Datacenter}
      * to notify itself to update the processing of cloudlets.
@@ -0,0 +1,215 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stores {@link EventListener}s registered for a given kind of simulation event
+ * and notifies them when such an event happens.
+ *
+ * <p>Listeners are stored in a copy-on-write array,
+ * so that notifying them doesn't require an iterator or a stream to be created and
+ * listeners can be added or removed during a notification (even by the listener being notified)
+ * without affecting it. Listeners are notified in the order they were added.</p>
+ *
+ * <p>Each listener can be notified at a coarser granularity than the one
+ * the events happen, defined by an interval in simulated time.
+ * The {@link EventInfo} for a listener is created when it's added to the bus
+ * and then updated at each notification, instead of creating a new one.
+ * That way, listeners must not keep the received {@link EventInfo} object
+ * after they are notified.</p>
+ *
+ * @param <T> the type of {@link EventInfo} the listeners receive
+ * @author agent
+ */
+final class ListenerBus<T extends EventInfo> {
+    private static final Subscription<?>[] EMPTY = new Subscription<?>[0];
+
+    /**
+     * The listeners registered in the bus, which is replaced
+     * by a new array every time a listener is added or removed.
+     */
+    private volatile Subscription<T>[] subscriptions;
+
+    ListenerBus() {
+        this.subscriptions = emptySubscriptions();
+    }
+
+    /**
+     * Gets the empty array of subscriptions shared by all buses.
+     * Since it has no elements, it can be used for any type of {@link EventInfo}.
+     *
+     * @param <T> the type of {@link EventInfo} the listeners receive
+     * @return the empty array of subscriptions
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends EventInfo> Subscription<T>[] emptySubscriptions() {
+        return (Subscription<T>[]) EMPTY;
+    }
+
+    /**
+     * Adds a listener to be notified at every event.
+     *
+     * @param listener the listener to add
+     * @return true if the listener was added, false if it was already added
+     */
+    boolean add(final EventListener<T> listener) {
+        return add(listener, 0);
+    }
+
+    /**
+     * Adds a listener to be notified at most once for every given interval in simulated time.
+     *
+     * @param listener the listener to add
+     * @param interval the minimum interval (in seconds) between notifications to the listener
+     *                 or 0 to notify it at every event
+     * @return true if the listener was added, false if it was already added
+     */
+    synchronized boolean add(final EventListener<T> listener, final double interval) {
+        Objects.requireNonNull(listener);
+        if (interval < 0) {
+            throw new IllegalArgumentException("The notification interval cannot be negative.");
+        }
+
+        if (indexOf(listener) >= 0) {
+            return false;
+        }
+
+        final Subscription<T>[] newSubscriptions = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+        newSubscriptions[subscriptions.length] = new Subscription<>(listener, interval);
+        subscriptions = newSubscriptions;
+        return true;
+    }
+
+    /**
+     * Removes a listener from the bus.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was found and removed, false otherwise
+     */
+    synchronized boolean remove(final EventListener<? extends EventInfo> listener) {
+        final int index = indexOf(listener);
+        if (index < 0) {
+            return false;
+        }
+
+        final Subscription<T>[] newSubscriptions = Arrays.copyOf(subscriptions, subscriptions.length - 1);
+        System.arraycopy(subscriptions, index + 1, newSubscriptions, index, subscriptions.length - index - 1);
+        subscriptions = newSubscriptions;
+        return true;
+    }
+
+    private int indexOf(final EventListener<? extends EventInfo> listener) {
+        for (int i = 0; i < subscriptions.length; i++) {
+            if (subscriptions[i].listener.equals(listener)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    boolean isEmpty() {
+        return subscriptions.length == 0;
+    }
+
+    /**
+     * Notifies the listeners about an event, sending a given {@link EventInfo}.
+     *
+     * @param info the information about the event to send to all listeners
+     */
+    void notify(final T info) {
+        for (final Subscription<T> subscription : subscriptions) {
+            if (subscription.isDue(info.getTime())) {
+                subscription.listener.update(info);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners about an event happened at a given time,
+     * sending each one its reusable {@link EventInfo} updated to such a time.
+     *
+     * @param time the time the event happened
+     */
+    @SuppressWarnings("unchecked")
+    void notify(final double time) {
+        for (final Subscription<T> subscription : subscriptions) {
+            if (subscription.isDue(time)) {
+                subscription.info.time = time;
+                subscription.listener.update((T) subscription.info);
+            }
+        }
+    }
+
+    /**
+     * A listener registered in the bus.
+     * @param <T> the type of {@link EventInfo} the listener receives
+     */
+    private static final class Subscription<T extends EventInfo> {
+        private final EventListener<T> listener;
+        private final double interval;
+
+        /**
+         * The reusable information sent to the listener by {@link ListenerBus#notify(double)}.
+         */
+        private final ReusableEventInfo info;
+
+        /**
+         * The next time the listener can be notified.
+         */
+        private double nextTime;
+
+        private Subscription(final EventListener<T> listener, final double interval) {
+            this.listener = listener;
+            this.interval = interval;
+            this.nextTime = interval;
+            this.info = new ReusableEventInfo(listener);
+        }
+
+        /**
+         * Checks if the listener has to be notified about an event at a given time
+         * and, if so, computes the next time it can be notified again.
+         *
+         * @param time the time of the event
+         * @return true if the listener has to be notified, false otherwise
+         */
+        private boolean isDue(final double time) {
+            if (interval == 0) {
+                return true;
+            }
+
+            if (time < nextTime) {
+                return false;
+            }
+
+            nextTime = (Math.floor(time / interval) + 1) * interval;
+            return true;
+        }
+    }
+
+    /**
+     * A mutable {@link EventInfo} which is reused across notifications to the same listener.
+     */
+    private static final class ReusableEventInfo implements EventInfo {
+        private final EventListener<? extends EventInfo> listener;
+        private double time;
+
+        private ReusableEventInfo(final EventListener<? extends EventInfo> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public double getTime() {
+            return time;
+        }
+
+        @Override
+        public EventListener<? extends EventInfo> getListener() {
+            return listener;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Executes {@link Datacenter} entities which have events to process
+ * at the same simulation time in parallel,
+ * where each Datacenter (including its Hosts, VMs and Cloudlets)
+ * works as an independent logical process.
+ *
+ * <p>Entities that are ready to run at a given clock tick
+ * are executed by the {@link CloudSim} in the order of their ids.
+ * Consecutive Datacenters in such an order are grouped and run in parallel.
+ * Since the simulation state they change is isolated inside each Datacenter
+ * and they communicate with other entities just by sending events,
+ * the only shared structure they would change is the future event queue.
+ * That way, the actions a Datacenter performs on such a queue
+ * (such as sending events) while running in parallel are deferred.
+ * When all Datacenters in a group finish, the deferred actions are
+ * applied in the order of the Datacenter ids.
+ * As a result, the events get the same serial numbers and are processed
+ * in exactly the same order as in a sequential execution.</p>
+ *
+ * @author agent
+ * @see CloudSim#enableParallelExecution(int)
+ */
+final class ParallelEntityExecutor {
+    private final ForkJoinPool pool;
+
+    /**
+     * The actions performed on the future event queue by the entity
+     * running in the current thread, which are deferred until
+     * all entities running in parallel finish.
+     * It's null when the current thread isn't running an entity in parallel.
+     */
+    private final ThreadLocal<List<Runnable>> deferredActions;
+
+    /**
+     * Entities waiting to be executed in parallel at the current clock tick.
+     */
+    private final List<CloudSimEntity> pendingEntities;
+
+    /**
+     * Creates an executor that runs entities in parallel.
+     * @param threads the maximum number of entities to run at the same time
+     */
+    ParallelEntityExecutor(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be greater than zero.");
+        }
+
+        this.pool = new ForkJoinPool(threads);
+        this.deferredActions = new ThreadLocal<>();
+        this.pendingEntities = new ArrayList<>();
+    }
+
+    /**
+     * Checks if a given entity can be run in parallel with other ones.
+     * @param entity the entity to check
+     * @return true if the entity can be run in parallel, false otherwise
+     */
+    boolean isParallelizable(final CloudSimEntity entity) {
+        return entity instanceof Datacenter;
+    }
+
+    /**
+     * Adds an entity to be run in parallel when {@link #runPendingEntities()} is called.
+     * @param entity the entity to add
+     */
+    void addPendingEntity(final CloudSimEntity entity) {
+        pendingEntities.add(entity);
+    }
+
+    /**
+     * Runs all pending entities in parallel, then applies the actions they
+     * have deferred, in the order they were added.
+     *
+     * @return the list of entities that were run
+     */
+    List<CloudSimEntity> runPendingEntities() {
+        if (pendingEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<CloudSimEntity> entities = new ArrayList<>(pendingEntities);
+        pendingEntities.clear();
+
+        //A single entity just runs in the current thread, since there is nothing to be parallelized
+        if (entities.size() == 1) {
+            entities.get(0).run();
+            return entities;
+        }
+
+        final List<ForkJoinTask<List<Runnable>>> tasks = new ArrayList<>(entities.size());
+        for (final CloudSimEntity entity : entities) {
+            tasks.add(pool.submit(() -> runEntity(entity)));
+        }
+
+        for (final ForkJoinTask<List<Runnable>> task : tasks) {
+            task.join().forEach(Runnable::run);
+        }
+
+        return entities;
+    }
+
+    private List<Runnable> runEntity(final CloudSimEntity entity) {
+        final List<Runnable> actions = new ArrayList<>();
+        deferredActions.set(actions);
+        try {
+            entity.run();
+        } finally {
+            deferredActions.remove();
+        }
+
+        return actions;
+    }
+
+    /**
+     * Checks if the current thread is running an entity in parallel.
+     * @return true if an entity is running in parallel in the current thread, false otherwise
+     */
+    boolean isRunningInParallel() {
+        return deferredActions.get() != null;
+    }
+
+    /**
+     * Defers an action performed by an entity running in parallel
+     * until all entities running in parallel finish.
+     *
+     * @param action the action to defer
+     * @return true if the action was deferred,
+     *         false if the current thread isn't running an entity in parallel
+     *         (and the action must be performed right away)
+     */
+    boolean defer(final Runnable action) {
+        final List<Runnable> actions = deferredActions.get();
+        if (actions == null) {
+            return false;
+        }
+
+        actions.add(action);
+        return true;
+    }
+
+    /**
+     * Shuts down the threads used to run entities in parallel.
+     */
+    void shutdown() {
+        pool.shutdown();
+    }
+}
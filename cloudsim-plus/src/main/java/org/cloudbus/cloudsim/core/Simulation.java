@@ -178,6 +178,10 @@ public interface Simulation {
      * that happened. In fact, it isn't generated an actual {@limk SimEvent} for a pause event
      * because there is not need for that.</p>
      *
+     * <p>The {@link EventInfo} object a listener receives is reused and changed at every notification,
+     * thus it must not be kept after the listener returns.
+     * If the information is needed later, the required values must be copied.</p>
+     *
      * @param listener the event listener to add
      * @return
      */
@@ -208,11 +212,33 @@ public interface Simulation {
      * notifications will just be sent for the times 1, 2 and 3 that represent the integer
      * part of the simulation time.
      *
+     * <p>The {@link EventInfo} object a listener receives is reused and changed at every notification,
+     * thus it must not be kept after the listener returns.
+     * If the information is needed later, the required values must be copied.</p>
+     *
      * @param listener the event listener to add
      * @return
      */
     Simulation addOnClockTickListener(EventListener<EventInfo> listener);
 
+    /**
+     * Adds a {@link EventListener} object that will be notified when the
+     * simulation clock advances, at most once for every given interval of simulated time.
+     * That enables listeners to be notified at a coarser granularity
+     * than the one {@link #addOnClockTickListener(EventListener)} provides.
+     * For instance, if the interval is 10 and the clock changes to 1, 5, 12, 15 and then 31,
+     * notifications will just be sent for the times 12 and 31.
+     *
+     * <p>The {@link EventInfo} object a listener receives is reused across notifications,
+     * thus it must not be kept after the listener returns.</p>
+     *
+     * @param listener the event listener to add
+     * @param interval the interval (in seconds) between notifications to the listener,
+     *                 or 0 to notify it at every clock tick
+     * @return
+     */
+    Simulation addOnClockTickListener(EventListener<EventInfo> listener, double interval);
+
     /**
      * Removes a listener from the onClockTickListener List.
      *
@@ -336,6 +362,38 @@ public interface Simulation {
      */
     double start();
 
+    /**
+     * Runs the simulation in the current thread until at least a given number of events is processed,
+     * then returns, enabling the simulation state to be inspected before it continues.
+     * The simulation is started if it wasn't yet and can be continued
+     * by calling this method or {@link #runUntil(double)} again, or by calling {@link #start()}
+     * to run it until the end.
+     * Since all events happening at the same time are processed together,
+     * more events than requested may be processed.
+     * If there are no more events to process, the simulation is finished.
+     *
+     * @param events the number of events to process
+     * @return the number of events actually processed
+     * @throws UnsupportedOperationException if the simulation has already finished or was run by {@link #start()}
+     * @see #isRunning()
+     */
+    long runEvents(long events);
+
+    /**
+     * Runs the simulation in the current thread until all events happening up to a given time are processed,
+     * then returns, enabling the simulation state to be inspected before it continues.
+     * The simulation is started if it wasn't yet and can be continued
+     * by calling this method or {@link #runEvents(long)} again, or by calling {@link #start()}
+     * to run it until the end.
+     * If there are no more events to process, the simulation is finished.
+     *
+     * @param time the time up to which the events are processed
+     * @return the current simulation time (the time of the last processed event)
+     * @throws UnsupportedOperationException if the simulation has already finished or was run by {@link #start()}
+     * @see #isRunning()
+     */
+    double runUntil(double time);
+
     boolean isTimeToTerminateSimulationUnderRequest();
 
     /**
@@ -447,4 +505,23 @@ public interface Simulation {
      * @return the number of future events which match the predicate
      */
     long getNumberOfFutureEvents(Predicate<SimEvent> predicate);
+
+    /**
+     * Gets the number of events processed in the last simulation tick,
+     * that is, the size of the last batch of events happening at the same time
+     * that were removed from the future queue and processed together.
+     *
+     * @return the number of events processed in the last tick
+     * @see #getProcessedEventsNumber()
+     */
+    int getLastTickProcessedEventsNumber();
+
+    /**
+     * Gets the total number of events from the future queue
+     * processed since the simulation started.
+     *
+     * @return the total number of processed events
+     * @see #getLastTickProcessedEventsNumber()
+     */
+    long getProcessedEventsNumber();
 }
@@ -71,6 +71,12 @@ final class SimulationNull implements Simulation {
     @Override public boolean resume() {
         return false;
     }
+    @Override public long runEvents(long events) {
+        return 0;
+    }
+    @Override public double runUntil(double time) {
+        return 0;
+    }
     @Override public boolean isRunning() {
         return false;
     }
@@ -86,6 +92,9 @@ final class SimulationNull implements Simulation {
     @Override public Simulation addOnClockTickListener(EventListener<EventInfo> listener) {
         return this;
     }
+    @Override public Simulation addOnClockTickListener(EventListener<EventInfo> listener, double interval) {
+        return this;
+    }
     @Override public boolean removeOnClockTickListener(EventListener<? extends EventInfo> listener) {
         return false;
     }
@@ -106,4 +115,6 @@ final class SimulationNull implements Simulation {
     }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
+    @Override public int getLastTickProcessedEventsNumber() { return 0; }
+    @Override public long getProcessedEventsNumber() { return 0; }
 }
@@ -0,0 +1,453 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * A future event queue for {@link CloudSim} implemented as a
+ * <a href="https://doi.org/10.1145/63039.63045">Calendar Queue</a>,
+ * which provides amortized O(1) insertion and removal of events.
+ *
+ * <p>Events are spread into buckets that work like the days of a calendar,
+ * where each day (bucket) covers a time interval called the bucket width.
+ * Events happening in a time after the last bucket (the "next year")
+ * wrap around to the first buckets. Each bucket keeps its events sorted,
+ * so that the first event of the queue is found by just checking
+ * the head of the current bucket and the following ones.</p>
+ *
+ * <p>That is suitable for simulations where events are clustered in time,
+ * such as the ones happening at every {@link Datacenter#getSchedulingInterval()}
+ * or at the {@link CloudSim#getMinTimeBetweenEvents()} grid.
+ * The number of buckets is doubled or halved as the queue grows or shrinks,
+ * and the bucket width is then recomputed from the average gap
+ * between the distinct times of the last events removed from the queue.
+ * Events happening at the same time don't reduce such an average,
+ * otherwise bursts of simultaneous events would make the buckets
+ * so narrow that finding the next event would require going through
+ * lots of empty days. The width is also never smaller
+ * than a given minimum (see {@link #CalendarEventQueue(double, double)}).</p>
+ *
+ * <p>Events are ordered exactly as in the {@link FutureQueue}:
+ * by {@link SimEvent#eventTime() time}, then by {@link SimEvent#getSerial() serial}
+ * and finally by the insertion order, if the previous attributes are equal.</p>
+ *
+ * @author agent
+ * @see CloudSim#CloudSim(double, EventQueue)
+ */
+public class CalendarEventQueue implements EventQueue {
+    private static final int MIN_BUCKETS = 16;
+
+    /**
+     * The default minimum bucket width, which is the default
+     * {@link CloudSim#getMinTimeBetweenEvents() minimum time between events}.
+     */
+    public static final double DEFAULT_MIN_BUCKET_WIDTH = 0.1;
+
+    /**
+     * The weight of the last gap between removed events
+     * when computing the {@link #avgGap}.
+     */
+    private static final double GAP_WEIGHT = 0.05;
+
+    /**
+     * The buckets (calendar days), whose number is always a power of 2.
+     */
+    private Bucket[] buckets;
+
+    /**
+     * The time interval each bucket covers.
+     */
+    private double bucketWidth;
+
+    /**
+     * The minimum value for the {@link #bucketWidth}.
+     */
+    private final double minBucketWidth;
+
+    /**
+     * The number of the bucket where the first event of the queue is, counted
+     * from time zero (without wrapping around the calendar).
+     */
+    private long currentDay;
+
+    private int size;
+
+    /**
+     * An incremental number used for {@link SimEvent#getSerial()} event attribute.
+     */
+    private long serial;
+
+    /**
+     * The time of the last event removed from the queue.
+     */
+    private double lastTime;
+
+    /**
+     * The exponential moving average of the time between
+     * consecutive events removed from the queue which happen at distinct times,
+     * or -1 if no gap was observed yet.
+     */
+    private double avgGap;
+
+    /**
+     * Creates an empty calendar queue with buckets covering one second each,
+     * whose width is adjusted as events are removed from the queue.
+     */
+    public CalendarEventQueue() {
+        this(1);
+    }
+
+    /**
+     * Creates an empty calendar queue with a given initial width for the buckets,
+     * which is adjusted as events are removed from the queue.
+     *
+     * @param initialBucketWidth the initial time interval each bucket covers,
+     *                           usually the expected time between events
+     *                           (such as the {@link Datacenter#getSchedulingInterval()})
+     * @see #DEFAULT_MIN_BUCKET_WIDTH
+     */
+    public CalendarEventQueue(final double initialBucketWidth) {
+        this(initialBucketWidth, Math.min(initialBucketWidth, DEFAULT_MIN_BUCKET_WIDTH));
+    }
+
+    /**
+     * Creates an empty calendar queue with a given initial width for the buckets,
+     * which is adjusted as events are removed from the queue,
+     * but never gets smaller than a given minimum width.
+     *
+     * @param initialBucketWidth the initial time interval each bucket covers,
+     *                           usually the expected time between events
+     *                           (such as the {@link Datacenter#getSchedulingInterval()})
+     * @param minBucketWidth the minimum time interval each bucket covers,
+     *                       usually the {@link CloudSim#getMinTimeBetweenEvents()}
+     */
+    public CalendarEventQueue(final double initialBucketWidth, final double minBucketWidth) {
+        if (initialBucketWidth <= 0 || minBucketWidth <= 0) {
+            throw new IllegalArgumentException("The bucket width must be positive.");
+        }
+
+        if (minBucketWidth > initialBucketWidth) {
+            throw new IllegalArgumentException("The minimum bucket width cannot be greater than the initial width.");
+        }
+
+        this.bucketWidth = initialBucketWidth;
+        this.minBucketWidth = minBucketWidth;
+        this.avgGap = -1;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    private static Bucket[] newBuckets(final int number) {
+        final Bucket[] array = new Bucket[number];
+        for (int i = 0; i < number; i++) {
+            array[i] = new Bucket();
+        }
+
+        return array;
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        insert(newEvent);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(0);
+        insert(newEvent);
+    }
+
+    private void insert(final SimEvent newEvent) {
+        final long day = dayOf(newEvent.eventTime());
+        if (size == 0 || day < currentDay) {
+            currentDay = day;
+        }
+
+        bucketOf(day).add(newEvent);
+        size++;
+        if (size > 2 * buckets.length) {
+            resize(buckets.length * 2);
+        }
+    }
+
+    private long dayOf(final double time) {
+        return (long) (time / bucketWidth);
+    }
+
+    private Bucket bucketOf(final long day) {
+        return buckets[(int) (day & (buckets.length - 1))];
+    }
+
+    /**
+     * Finds the bucket containing the first event of the queue,
+     * moving the {@link #currentDay} forward to the day of such an event.
+     *
+     * @return the bucket containing the first event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    private Bucket findFirstBucket() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Future Queue is empty.");
+        }
+
+        for (int i = 0; i < buckets.length; i++, currentDay++) {
+            final Bucket bucket = bucketOf(currentDay);
+            if (!bucket.isEmpty() && dayOf(bucket.first().eventTime()) <= currentDay) {
+                return bucket;
+            }
+        }
+
+        /* There is no event in the current "year",
+         * thus directly search the earliest one among all buckets. */
+        Bucket earliest = null;
+        for (final Bucket bucket : buckets) {
+            if (!bucket.isEmpty() && (earliest == null || bucket.first().compareTo(earliest.first()) < 0)) {
+                earliest = bucket;
+            }
+        }
+
+        currentDay = dayOf(earliest.first().eventTime());
+        return earliest;
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        return findFirstBucket().first();
+    }
+
+    @Override
+    public SimEvent pollFirst() {
+        if (size == 0) {
+            return SimEvent.NULL;
+        }
+
+        final SimEvent first = findFirstBucket().pollFirst();
+        size--;
+        updateAverageGap(first.eventTime());
+        if (size < buckets.length / 2 && buckets.length > MIN_BUCKETS) {
+            resize(buckets.length / 2);
+        }
+
+        return first;
+    }
+
+    /**
+     * Updates the {@link #avgGap} with the time of the last removed event.
+     * Events happening at the same time of the previous one are ignored,
+     * so that the average represents the separation between distinct event times.
+     *
+     * @param time the time of the last removed event
+     */
+    private void updateAverageGap(final double time) {
+        final double gap = time - lastTime;
+        lastTime = time;
+        if (gap <= 0) {
+            return;
+        }
+
+        avgGap = avgGap < 0 ? gap : avgGap + GAP_WEIGHT * (gap - avgGap);
+    }
+
+    /**
+     * Changes the number of buckets and recomputes the bucket width,
+     * then redistributes the events among the new buckets.
+     *
+     * @param newBucketsNumber the new number of buckets (a power of 2)
+     */
+    private void resize(final int newBucketsNumber) {
+        final Bucket[] oldBuckets = buckets;
+        bucketWidth = computeBucketWidth();
+        buckets = newBuckets(newBucketsNumber);
+
+        long firstDay = Long.MAX_VALUE;
+        for (final Bucket bucket : oldBuckets) {
+            for (int i = bucket.head; i < bucket.tail; i++) {
+                final long day = dayOf(bucket.events[i].eventTime());
+                firstDay = Math.min(firstDay, day);
+                bucketOf(day).add(bucket.events[i]);
+            }
+        }
+
+        currentDay = size == 0 ? 0 : firstDay;
+    }
+
+    /**
+     * Computes the width for the buckets so that,
+     * in average, there are about 3 distinct event times per bucket.
+     * If there is no average gap between events yet,
+     * the current width is kept.
+     *
+     * @return the new bucket width, which is never smaller than the {@link #minBucketWidth}
+     */
+    private double computeBucketWidth() {
+        return avgGap > 0 ? Math.max(3 * avgGap, minBucketWidth) : bucketWidth;
+    }
+
+    /**
+     * Gets the time interval each bucket currently covers.
+     * @return the current bucket width
+     */
+    double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if (size == 0 || !bucketOf(dayOf(event.eventTime())).remove(event)) {
+            return false;
+        }
+
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since the events are spread into buckets,
+     * the iterator is built over a sorted copy of the queue.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since the events are spread into buckets,
+     * they are sorted in O(n log n) to build the stream.
+     * Therefore, this method should be avoided in hot paths.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Stream<SimEvent> stream() {
+        final SimEvent[] events = new SimEvent[size];
+        int i = 0;
+        for (final Bucket bucket : buckets) {
+            System.arraycopy(bucket.events, bucket.head, events, i, bucket.size());
+            i += bucket.size();
+        }
+
+        /* Events with the same time and serial are always in the same bucket
+         * and the stable sort keeps their order inside such a bucket. */
+        Arrays.sort(events, comparingDouble(SimEvent::eventTime).thenComparingLong(SimEvent::getSerial));
+        return Arrays.stream(events);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        buckets = newBuckets(MIN_BUCKETS);
+        size = 0;
+        currentDay = 0;
+    }
+
+    /**
+     * A calendar day, storing events sorted by time in an array
+     * whose first event is at the {@link #head} position.
+     */
+    private static final class Bucket {
+        private SimEvent[] events = new SimEvent[4];
+        private int head;
+        private int tail;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return tail - head;
+        }
+
+        SimEvent first() {
+            return events[head];
+        }
+
+        SimEvent pollFirst() {
+            final SimEvent first = events[head];
+            events[head++] = null;
+            if (head == tail) {
+                head = tail = 0;
+            }
+
+            return first;
+        }
+
+        /**
+         * Adds an event after all events that come before it
+         * (usually at the end of the bucket).
+         * @param newEvent the event to add
+         */
+        void add(final SimEvent newEvent) {
+            if (tail == events.length) {
+                makeRoom();
+            }
+
+            int i = tail++;
+            while (i > head && newEvent.compareTo(events[i - 1]) < 0) {
+                events[i] = events[i - 1];
+                i--;
+            }
+
+            events[i] = newEvent;
+        }
+
+        /**
+         * Moves the events to the beginning of the array
+         * or doubles the array capacity when it is more than half full.
+         */
+        private void makeRoom() {
+            final int size = size();
+            final SimEvent[] target = size > events.length / 2 ? new SimEvent[events.length * 2] : events;
+            System.arraycopy(events, head, target, 0, size);
+            if (target == events) {
+                Arrays.fill(events, size, tail, null);
+            }
+
+            events = target;
+            head = 0;
+            tail = size;
+        }
+
+        boolean remove(final SimEvent event) {
+            for (int i = head; i < tail; i++) {
+                if (events[i] == event) {
+                    System.arraycopy(events, i + 1, events, i, tail - i - 1);
+                    events[--tail] = null;
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
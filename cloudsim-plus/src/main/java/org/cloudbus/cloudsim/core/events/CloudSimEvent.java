@@ -25,14 +25,14 @@ public final class CloudSimEvent implements SimEvent {
     /**
      * @see #getSimulation()
      */
-    private final Simulation simulation;
+    private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The time that this event was scheduled, at which it should occur.
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -49,15 +49,51 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * Indicates if the event must not be recycled by an {@link EventPool}
+     * after being processed.
+     * @see EventPool#retain(SimEvent)
+     */
+    boolean retained;
+
+    /**
+     * Indicates if the event is currently available into an {@link EventPool}
+     * to be reused.
+     */
+    boolean pooled;
+
+    /**
+     * The position of the event inside the {@link HeapEventQueue} it was added to,
+     * or -1 if it isn't inside such a queue.
+     * It enables the queue to remove the event without searching it.
+     */
+    int heapIndex = -1;
+
+    /**
+     * Indicates if the event is inside a {@link FutureEventsIndex}.
+     */
+    boolean indexed;
+
+    /**
+     * The key of the group of events this event belongs to inside a {@link FutureEventsIndex}.
+     */
+    long indexKey;
+
+    /**
+     * The previous and next events with the same source and tag
+     * inside a {@link FutureEventsIndex}, or null if there is no such an event.
+     */
+    CloudSimEvent previousIndexed, nextIndexed;
+
     /**
      * Creates a CloudSimEvent.
      *
@@ -66,6 +102,19 @@ public final class CloudSimEvent implements SimEvent {
     public CloudSimEvent(
         final CloudSim simulation, final Type type, final double time,
         final SimEntity src, final SimEntity dest, final int tag, final Object data)
+    {
+        reset(simulation, type, time, src, dest, tag, data);
+    }
+
+    /**
+     * Re-initializes all the attributes of the event, so that it can be reused
+     * by an {@link EventPool}.
+     *
+     * @return this event
+     */
+    CloudSimEvent reset(
+        final Simulation simulation, final Type type, final double time,
+        final SimEntity src, final SimEntity dest, final int tag, final Object data)
     {
         this.simulation = simulation;
         this.type = type;
@@ -74,6 +123,14 @@ public final class CloudSimEvent implements SimEvent {
         this.dest = dest;
         this.tag = tag;
         this.data = data;
+        this.serial = -1;
+        this.endWaitingTime = 0;
+        this.retained = false;
+        this.heapIndex = -1;
+        this.indexed = false;
+        this.previousIndexed = null;
+        this.nextIndexed = null;
+        return this;
     }
 
     /**
@@ -10,12 +10,19 @@ package org.cloudbus.cloudsim.core.events;
 
 import org.cloudbus.cloudsim.core.CloudSim;
 
-import java.util.*;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 /**
  * This class implements the deferred event queue used by {@link CloudSim}.
- * The event queue uses a linked list to store the events.
+ * The event queue uses an {@link ArrayDeque} to store the events,
+ * so that adding an event to the end of the queue and removing the first one
+ * doesn't allocate any object (such as the nodes of a linked list).
+ * Each {@link org.cloudbus.cloudsim.core.CloudSimEntity} has its own deferred queue,
+ * storing just the events sent to it.
  *
  * @author Marcos Dias de Assuncao
  * @since CloudSim Toolkit 1.0
@@ -24,8 +31,15 @@ import java.util.stream.Stream;
  */
 public class DeferredQueue implements EventQueue {
 
-	/** The list of events. */
-	private final List<SimEvent> list = new LinkedList<>();
+	/** The events, sorted by time. */
+	private final ArrayDeque<SimEvent> deque = new ArrayDeque<>();
+
+    /**
+     * A buffer to temporarily store the events removed from the end of the {@link #deque}
+     * when a new event has to be inserted before them.
+     * @see #insertBeforeLastEvents(SimEvent, boolean)
+     */
+    private final ArrayDeque<SimEvent> buffer = new ArrayDeque<>();
 
 	/** The max time that an added event is scheduled. */
 	private double maxTime = -1;
@@ -41,32 +55,64 @@ public class DeferredQueue implements EventQueue {
 		// with the same event_time(). Yes, this matters.
 		final double eventTime = newEvent.eventTime();
 		if (eventTime >= maxTime) {
-			list.add(newEvent);
+			deque.addLast(newEvent);
 			maxTime = eventTime;
 			return;
 		}
 
-		final ListIterator<SimEvent> iterator = list.listIterator();
-		SimEvent event;
-		while (iterator.hasNext()) {
-			event = iterator.next();
-			if (event.eventTime() > eventTime) {
-				iterator.previous();
-				iterator.add(newEvent);
-				return;
-			}
-		}
-
-		list.add(newEvent);
+		insertBeforeLastEvents(newEvent, false);
 	}
 
+    /**
+     * Adds a new event to the queue, before all the events
+     * happening at the same time, preserving the temporal order of the events.
+     *
+     * @param newEvent The event to be added to the queue.
+     */
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        if (newEvent.eventTime() > maxTime) {
+            deque.addLast(newEvent);
+            maxTime = newEvent.eventTime();
+            return;
+        }
+
+        insertBeforeLastEvents(newEvent, true);
+    }
+
+    /**
+     * Inserts an event before the events at the end of the queue
+     * which happen after it (or at the same time, if requested).
+     * Since the events are sorted by time, such events are temporarily moved
+     * to a {@link #buffer}, then the new event is added and
+     * the moved events are put back.
+     *
+     * @param newEvent the event to insert
+     * @param beforeSameTimeEvents true to insert the event before the events happening at the same time,
+     *                             false to insert it after them
+     */
+    private void insertBeforeLastEvents(final SimEvent newEvent, final boolean beforeSameTimeEvents) {
+        final double eventTime = newEvent.eventTime();
+        while (!deque.isEmpty() &&
+               (deque.peekLast().eventTime() > eventTime ||
+                beforeSameTimeEvents && deque.peekLast().eventTime() == eventTime))
+        {
+            buffer.addFirst(deque.pollLast());
+        }
+
+        deque.addLast(newEvent);
+        while (!buffer.isEmpty()) {
+            deque.addLast(buffer.pollFirst());
+        }
+    }
+
 	/**
 	 * Returns an iterator to the events in the queue.
 	 *
 	 * @return the iterator
 	 */
 	public Iterator<SimEvent> iterator() {
-		return list.iterator();
+		return deque.iterator();
 	}
 
     /**
@@ -75,7 +121,7 @@ public class DeferredQueue implements EventQueue {
      * @return the stream
      */
     public Stream<SimEvent> stream() {
-        return list.stream();
+        return deque.stream();
     }
 
 	/**
@@ -84,12 +130,12 @@ public class DeferredQueue implements EventQueue {
 	 * @return the number of events in the queue.
 	 */
 	public int size() {
-		return list.size();
+		return deque.size();
 	}
 
     @Override
     public boolean isEmpty() {
-        return list.isEmpty();
+        return deque.isEmpty();
     }
 
     /**
@@ -98,24 +144,35 @@ public class DeferredQueue implements EventQueue {
      * @param event the event
      * @return true, if successful
      */
+    @Override
     public boolean remove(final SimEvent event) {
-        return list.remove(event);
+        return deque.remove(event);
     }
 
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        return deque.removeAll(events);
+    }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-	    if(list.isEmpty())
+	    if(deque.isEmpty())
 	        throw new NoSuchElementException("The Deferred Queue is empty.");
 
-        return list.get(0);
+        return deque.peekFirst();
+    }
+
+    @Override
+    public SimEvent pollFirst() {
+        return deque.isEmpty() ? SimEvent.NULL : deque.pollFirst();
     }
 
     /**
 	 * Clears the queue.
 	 */
+    @Override
 	public void clear() {
-		list.clear();
+		deque.clear();
 	}
 
 }
@@ -0,0 +1,128 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudsimplus.listeners.EventListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables a {@link CloudSim} simulation
+ * to reuse events after they are processed, instead of creating new ones
+ * for every message sent between entities.
+ * That reduces garbage collection pressure in long simulations
+ * that send millions of events.
+ *
+ * <p>An event is returned to the pool just after being processed.
+ * Since it will be reused by a subsequent event, no reference to it
+ * may be kept after that. If some code needs to keep a processed event
+ * (such as an {@link EventListener} registered by
+ * {@link CloudSim#addOnEventProcessingListener(EventListener)}),
+ * it has to call {@link #retain(SimEvent)} for such an event.</p>
+ *
+ * @author agent
+ * @see CloudSim#enableEventPooling()
+ */
+public final class EventPool {
+    /**
+     * The events available to be reused.
+     */
+    private final Deque<CloudSimEvent> available;
+
+    private final CloudSim simulation;
+
+    /**
+     * The number of events created by the pool, since there was no one available to be reused.
+     */
+    private long createdEvents;
+
+    /**
+     * Creates an empty event pool for a given simulation.
+     * @param simulation the simulation the events will belong to
+     */
+    public EventPool(final CloudSim simulation) {
+        this.simulation = simulation;
+        this.available = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets an event from the pool or creates a new one if the pool is empty.
+     *
+     * @param type the event type
+     * @param time the time the event should occur
+     * @param src the entity that scheduled the event
+     * @param dest the entity the event will be sent to
+     * @param tag the event tag
+     * @param data the data attached to the event
+     * @return the event with the given attributes
+     */
+    public SimEvent acquire(
+        final SimEvent.Type type, final double time,
+        final SimEntity src, final SimEntity dest, final int tag, final Object data)
+    {
+        final CloudSimEvent evt = available.pollLast();
+        if (evt == null) {
+            createdEvents++;
+            return new CloudSimEvent(simulation, type, time, src, dest, tag, data);
+        }
+
+        evt.pooled = false;
+        return evt.reset(simulation, type, time, src, dest, tag, data);
+    }
+
+    /**
+     * Returns a processed event to the pool so that it can be reused.
+     * Any {@link CloudSimEvent} can be released, even if it wasn't got from the pool.
+     * The event is ignored if it isn't a {@link CloudSimEvent},
+     * if it was {@link #retain(SimEvent) retained} or if it's already in the pool.
+     * The entities and data of a released event are cleared,
+     * so that they can be garbage collected while the event waits to be reused.
+     *
+     * @param evt the event to release
+     */
+    public void release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent)) {
+            return;
+        }
+
+        final CloudSimEvent cloudSimEvent = (CloudSimEvent) evt;
+        if (cloudSimEvent.retained || cloudSimEvent.pooled) {
+            return;
+        }
+
+        //Clears references to entities and data so that they can be garbage collected
+        cloudSimEvent.reset(simulation, SimEvent.Type.NULL, 0, SimEntity.NULL, SimEntity.NULL, -1, null);
+        cloudSimEvent.pooled = true;
+        available.addLast(cloudSimEvent);
+    }
+
+    /**
+     * Indicates that an event must not be reused after being processed,
+     * enabling a reference to it to be safely kept.
+     *
+     * @param evt the event to retain
+     */
+    public void retain(final SimEvent evt) {
+        if (evt instanceof CloudSimEvent) {
+            ((CloudSimEvent) evt).retained = true;
+        }
+    }
+
+    /**
+     * Gets the number of events available to be reused.
+     * @return the number of available events
+     */
+    public int size() {
+        return available.size();
+    }
+
+    /**
+     * Gets the number of events the pool had to create because there was
+     * no event available to be reused.
+     * @return the number of created events
+     */
+    public long getCreatedEvents() {
+        return createdEvents;
+    }
+}
@@ -6,7 +6,10 @@
  */
 package org.cloudbus.cloudsim.core.events;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
@@ -26,6 +29,20 @@ public interface EventQueue {
      */
     void addEvent(SimEvent newEvent);
 
+    /**
+     * Adds a new event to the head of the queue, giving it priority over
+     * other events happening at the same time.
+     *
+     * <p>The default implementation throws an {@link UnsupportedOperationException},
+     * since giving priority to an event depends on how the queue orders its events.</p>
+     *
+     * @param newEvent The event to be put in the queue.
+     * @throws UnsupportedOperationException when the queue doesn't support giving priority to events
+     */
+    default void addEventFirst(final SimEvent newEvent) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support adding events to the head of the queue.");
+    }
+
     /**
      * Returns an iterator to the elements into the queue.
      *
@@ -61,4 +78,106 @@ public interface EventQueue {
      * @throws NoSuchElementException when the queue is empty
      */
     SimEvent first() throws NoSuchElementException;
+
+    /**
+     * Gets and removes the first element of the queue.
+     *
+     * <p>The default implementation gets the {@link #first()} event
+     * and then calls {@link #remove(SimEvent)} for it.</p>
+     *
+     * @return the removed element or {@link SimEvent#NULL} if the queue is empty
+     */
+    default SimEvent pollFirst() {
+        if (isEmpty()) {
+            return SimEvent.NULL;
+        }
+
+        final SimEvent first = first();
+        remove(first);
+        return first;
+    }
+
+    /**
+     * Gets and removes all the events from the head of the queue
+     * that happen at a given time, keeping their order.
+     *
+     * @param time the time of the events to be removed
+     * @return the list of removed events (which may be empty if the
+     *         first event of the queue doesn't happen at the given time)
+     */
+    default List<SimEvent> pollAllAt(final double time) {
+        final List<SimEvent> events = new ArrayList<>();
+        pollAllAt(time, events);
+        return events;
+    }
+
+    /**
+     * Gets and removes all the events from the head of the queue
+     * that happen at a given time, keeping their order,
+     * and adds them to a given collection.
+     * It enables the same collection to be reused
+     * every time events are removed, instead of creating a new one.
+     *
+     * @param time the time of the events to be removed
+     * @param events the collection to add the removed events to
+     *               (which is unchanged if the first event of the queue doesn't happen at the given time)
+     * @see #pollAllAt(double)
+     */
+    default void pollAllAt(final double time, final Collection<SimEvent> events) {
+        while (!isEmpty() && first().eventTime() == time) {
+            events.add(pollFirst());
+        }
+    }
+
+    /**
+     * Removes the event from the queue.
+     *
+     * <p>The default implementation looks for the event using the {@link #iterator()}
+     * and removes it through such an iterator, which must support removal.</p>
+     *
+     * @param event the event
+     * @return true, if successful
+     */
+    default boolean remove(final SimEvent event) {
+        final Iterator<SimEvent> it = iterator();
+        while (it.hasNext()) {
+            if (it.next() == event) {
+                it.remove();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes all the events from the queue.
+     *
+     * <p>The default implementation calls {@link #remove(SimEvent)} for each given event.</p>
+     *
+     * @param events the events
+     * @return true, if successful
+     */
+    default boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Clears the queue.
+     *
+     * <p>The default implementation removes every event through the {@link #iterator()},
+     * which must support removal.</p>
+     */
+    default void clear() {
+        final Iterator<SimEvent> it = iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
 }
@@ -0,0 +1,245 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An index of the events into the future event queue of a {@link CloudSim} simulation,
+ * grouped by source entity and event tag.
+ * It enables cancelling all events of a given tag from a source entity
+ * without traversing the whole future event queue.
+ *
+ * <p>The index doesn't allocate any object when events are added or removed,
+ * so that it doesn't produce garbage when {@link CloudSim#enableEventPooling() event pooling}
+ * is enabled. For that, the events having the same source and tag are linked
+ * to each other through fields of the {@link CloudSimEvent} itself,
+ * and the first event of each group is stored into an open-addressing hash table
+ * whose keys are primitive values built from the source entity id and the event tag.
+ * Entries are removed from the table as soon as they become empty,
+ * so that the index doesn't keep references to entities
+ * which have no future events anymore.</p>
+ *
+ * <p>Only {@link CloudSimEvent} objects are indexed and each event
+ * can be in just one index at a time.</p>
+ *
+ * @author agent
+ */
+public final class FutureEventsIndex {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The keys of the hash table, built from a source entity id and an event tag.
+     * @see #keyOf(SimEntity, int)
+     */
+    private long[] keys;
+
+    /**
+     * The first event of each group of indexed events,
+     * where a null value indicates an empty position in the table.
+     */
+    private CloudSimEvent[] heads;
+
+    /**
+     * The number of groups of events (non-empty positions) in the table.
+     */
+    private int groups;
+
+    /**
+     * Creates an empty index.
+     */
+    public FutureEventsIndex() {
+        keys = new long[INITIAL_CAPACITY];
+        heads = new CloudSimEvent[INITIAL_CAPACITY];
+    }
+
+    private static long keyOf(final SimEntity src, final int tag) {
+        return ((long) src.getId() << 32) | (tag & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the position in the table where the search for a given key starts.
+     * @param key the key to get its position
+     * @return the initial position of the key
+     */
+    private int slotOf(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (heads.length - 1);
+    }
+
+    /**
+     * Gets the position of a given key in the table or,
+     * if the key is not in the table, the empty position where it should be inserted.
+     *
+     * @param key the key to search
+     * @return the position of the key or the position where it should be inserted
+     */
+    private int find(final long key) {
+        final int mask = heads.length - 1;
+        int i = slotOf(key);
+        while (heads[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+
+        return i;
+    }
+
+    /**
+     * Adds an event to the index.
+     * Events which are not {@link CloudSimEvent} objects are ignored.
+     *
+     * @param evt the event to add
+     */
+    public void add(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent)) {
+            return;
+        }
+
+        final CloudSimEvent event = (CloudSimEvent) evt;
+        final long key = keyOf(evt.getSource(), evt.getTag());
+        final int i = find(key);
+        event.indexKey = key;
+        event.indexed = true;
+        event.previousIndexed = null;
+        event.nextIndexed = heads[i];
+        if (heads[i] == null) {
+            keys[i] = key;
+            groups++;
+        } else {
+            heads[i].previousIndexed = event;
+        }
+
+        heads[i] = event;
+        if (groups > heads.length / 2) {
+            resize(heads.length * 2);
+        }
+    }
+
+    /**
+     * Removes an event from the index.
+     * @param evt the event to remove
+     * @return true if the event was removed, false if it wasn't in the index
+     */
+    public boolean remove(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent) || !((CloudSimEvent) evt).indexed) {
+            return false;
+        }
+
+        final CloudSimEvent event = (CloudSimEvent) evt;
+        final CloudSimEvent previous = event.previousIndexed;
+        final CloudSimEvent next = event.nextIndexed;
+        if (next != null) {
+            next.previousIndexed = previous;
+        }
+
+        if (previous != null) {
+            previous.nextIndexed = next;
+        } else {
+            final int i = find(event.indexKey);
+            if (next == null) {
+                removeAt(i);
+            } else {
+                heads[i] = next;
+            }
+        }
+
+        unlink(event);
+        return true;
+    }
+
+    /**
+     * Removes all the events sent by a given entity with a given tag.
+     *
+     * @param src the entity that sent the events
+     * @param tag the tag of the events
+     * @return the list of removed events (which may be empty)
+     */
+    public List<SimEvent> removeAll(final SimEntity src, final int tag) {
+        final int i = find(keyOf(src, tag));
+        if (heads[i] == null) {
+            return Collections.emptyList();
+        }
+
+        final List<SimEvent> removed = new ArrayList<>();
+        CloudSimEvent event = heads[i];
+        while (event != null) {
+            final CloudSimEvent next = event.nextIndexed;
+            unlink(event);
+            removed.add(event);
+            event = next;
+        }
+
+        removeAt(i);
+        return removed;
+    }
+
+    private static void unlink(final CloudSimEvent event) {
+        event.indexed = false;
+        event.previousIndexed = null;
+        event.nextIndexed = null;
+    }
+
+    /**
+     * Removes the group of events at a given position of the table,
+     * shifting back the following entries which were displaced by collisions,
+     * so that no empty position is left in the middle of a probing sequence.
+     *
+     * @param i the position to remove
+     */
+    private void removeAt(int i) {
+        final int mask = heads.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (heads[j] == null) {
+                break;
+            }
+
+            final int k = slotOf(keys[j]);
+            /* The entry at j can be moved to i only if its initial position k
+             * is not cyclically between i (exclusive) and j (inclusive). */
+            final boolean keep = i <= j ? i < k && k <= j : i < k || k <= j;
+            if (!keep) {
+                heads[i] = heads[j];
+                keys[i] = keys[j];
+                i = j;
+            }
+        }
+
+        heads[i] = null;
+        groups--;
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldKeys = keys;
+        final CloudSimEvent[] oldHeads = heads;
+        keys = new long[capacity];
+        heads = new CloudSimEvent[capacity];
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != null) {
+                final int j = find(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                heads[j] = oldHeads[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of groups of events (with the same source and tag) in the index.
+     * @return the number of groups of events
+     */
+    public int size() {
+        return groups;
+    }
+
+    /**
+     * Checks if the index is empty.
+     * @return true if there is no event in the index, false otherwise
+     */
+    public boolean isEmpty() {
+        return groups == 0;
+    }
+}
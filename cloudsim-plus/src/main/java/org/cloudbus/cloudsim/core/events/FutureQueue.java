@@ -13,7 +13,6 @@ import org.cloudbus.cloudsim.core.CloudSim;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
@@ -30,10 +29,10 @@ public class FutureQueue implements EventQueue {
     /**
      * The sorted set of events.
      */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
+    private final TreeSet<SimEvent> sortedSet = new TreeSet<>();
 
     /**
-     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
+     * An incremental number used for {@link SimEvent#getSerial()} event attribute.
      */
     private long serial;
 
@@ -43,11 +42,7 @@ public class FutureQueue implements EventQueue {
         sortedSet.add(newEvent);
     }
 
-    /**
-     * Adds a new event to the head of the queue.
-     *
-     * @param newEvent The event to be put in the queue.
-     */
+    @Override
     public void addEventFirst(SimEvent newEvent) {
         newEvent.setSerial(0);
         sortedSet.add(newEvent);
@@ -74,23 +69,29 @@ public class FutureQueue implements EventQueue {
     }
 
     /**
-     * Removes the event from the queue.
+     * {@inheritDoc}
+     * Events having the same time and serial of a previously added one
+     * (which happens when they are added by {@link #addEventFirst(SimEvent)})
+     * are not found by the tree search, since they are never considered equal
+     * (see {@link CloudSimEvent#compareTo(SimEvent)}).
+     * Such events are removed by traversing the queue.
      *
-     * @param event the event
-     * @return true, if successful
+     * @param event {@inheritDoc}
+     * @return {@inheritDoc}
      */
-    public boolean remove(SimEvent event) {
-        return sortedSet.remove(event);
+    @Override
+    public boolean remove(final SimEvent event) {
+        return sortedSet.remove(event) || (event.getSerial() == 0 && sortedSet.removeIf(evt -> evt == event));
     }
 
-    /**
-     * Removes all the events from the queue.
-     *
-     * @param events the events
-     * @return true, if successful
-     */
-    public boolean removeAll(Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
     }
 
     @Override
@@ -98,9 +99,35 @@ public class FutureQueue implements EventQueue {
         return sortedSet.first();
     }
 
+    @Override
+    public SimEvent pollFirst() {
+        return sortedSet.isEmpty() ? SimEvent.NULL : sortedSet.pollFirst();
+    }
+
     /**
-     * Clears the queue.
+     * {@inheritDoc}
+     * The events are removed in a single ordered pass
+     * over the head of the sorted set, without
+     * looking up the tree for each one of them.
+     *
+     * @param time {@inheritDoc}
+     * @param events {@inheritDoc}
      */
+    @Override
+    public void pollAllAt(final double time, final Collection<SimEvent> events) {
+        final Iterator<SimEvent> iterator = sortedSet.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (evt.eventTime() != time) {
+                break;
+            }
+
+            events.add(evt);
+            iterator.remove();
+        }
+    }
+
+    @Override
     public void clear() {
         sortedSet.clear();
     }
@@ -0,0 +1,313 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A future event queue for {@link CloudSim} backed by an array-based binary heap.
+ * Differently from the {@link FutureQueue}, which relies on a {@link java.util.TreeSet},
+ * getting and removing the first event is performed in O(log n)
+ * without navigating a tree nor creating a stream or iterator.
+ * That makes such a queue suitable for simulations having millions of pending events.
+ *
+ * <p>Events are ordered exactly as in the {@link FutureQueue}:
+ * by {@link SimEvent#eventTime() time}, then by {@link SimEvent#getSerial() serial}
+ * and finally by the insertion order, if the previous attributes are equal.
+ * This way, the simulation results don't depend on the queue implementation.</p>
+ *
+ * <p>The queue keeps the position of each {@link CloudSimEvent} inside the heap,
+ * so that removing any given event (such as when events are cancelled)
+ * is performed in O(log n), without searching the event into the heap.
+ * Therefore, an event must be inside only one HeapEventQueue at a time.</p>
+ *
+ * @author agent
+ * @see CloudSim#CloudSim(double, EventQueue)
+ */
+public class HeapEventQueue implements EventQueue {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The events organized as a binary heap, where the first event is at index 0.
+     */
+    private SimEvent[] heap;
+
+    /**
+     * The insertion order of each event in the {@link #heap},
+     * used to untie events having the same time and serial.
+     */
+    private long[] order;
+
+    private int size;
+
+    /**
+     * An incremental number used for {@link SimEvent#getSerial()} event attribute.
+     */
+    private long serial;
+
+    /**
+     * The number of events added to the queue so far,
+     * used to define the {@link #order} of the next added event.
+     */
+    private long insertions;
+
+    /**
+     * Creates an empty heap-based future event queue.
+     */
+    public HeapEventQueue() {
+        heap = new SimEvent[INITIAL_CAPACITY];
+        order = new long[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        offer(newEvent);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(0);
+        offer(newEvent);
+    }
+
+    private void offer(final SimEvent newEvent) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+            order = Arrays.copyOf(order, size * 2);
+        }
+
+        siftUp(size++, newEvent, insertions++);
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("The Future Queue is empty.");
+        }
+
+        return heap[0];
+    }
+
+    @Override
+    public SimEvent pollFirst() {
+        if (size == 0) {
+            return SimEvent.NULL;
+        }
+
+        final SimEvent first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        final int index = indexOf(event);
+        if (index < 0) {
+            return false;
+        }
+
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each given {@link CloudSimEvent} is removed in O(log n),
+     * so that the cost is proportional to the number of removed events,
+     * not to the number of events in the queue.
+     *
+     * @param events {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Gets the position of an event inside the heap.
+     * For {@link CloudSimEvent}s, the position stored into the event is used.
+     * Other {@link SimEvent} implementations are linearly searched.
+     *
+     * @param event the event to get its position
+     * @return the event position or -1 if the event is not in the queue
+     */
+    private int indexOf(final SimEvent event) {
+        if (event instanceof CloudSimEvent) {
+            final int index = ((CloudSimEvent) event).heapIndex;
+            return index >= 0 && index < size && heap[index] == event ? index : -1;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == event) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the event at a given position of the heap,
+     * moving the last event to that position and restoring the heap order.
+     *
+     * @param index the position of the event to remove
+     */
+    private void removeAt(final int index) {
+        setHeapIndex(heap[index], -1);
+        final int last = --size;
+        final SimEvent moved = heap[last];
+        final long movedOrder = order[last];
+        heap[last] = null;
+        if (index == last) {
+            return;
+        }
+
+        siftDown(index, moved, movedOrder);
+        if (heap[index] == moved) {
+            siftUp(index, moved, movedOrder);
+        }
+    }
+
+    private void siftUp(int index, final SimEvent event, final long eventOrder) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!isBefore(event, eventOrder, heap[parent], order[parent])) {
+                break;
+            }
+
+            place(index, heap[parent], order[parent]);
+            index = parent;
+        }
+
+        place(index, event, eventOrder);
+    }
+
+    private void siftDown(int index, final SimEvent event, final long eventOrder) {
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < size && isBefore(heap[right], order[right], heap[child], order[child])) {
+                child = right;
+            }
+
+            if (!isBefore(heap[child], order[child], event, eventOrder)) {
+                break;
+            }
+
+            place(index, heap[child], order[child]);
+            index = child;
+        }
+
+        place(index, event, eventOrder);
+    }
+
+    /**
+     * Puts an event at a given position of the heap,
+     * storing such a position into the event.
+     *
+     * @param index the position to put the event
+     * @param event the event to put
+     * @param eventOrder the insertion order of the event
+     */
+    private void place(final int index, final SimEvent event, final long eventOrder) {
+        heap[index] = event;
+        order[index] = eventOrder;
+        setHeapIndex(event, index);
+    }
+
+    private static void setHeapIndex(final SimEvent event, final int index) {
+        if (event instanceof CloudSimEvent) {
+            ((CloudSimEvent) event).heapIndex = index;
+        }
+    }
+
+    /**
+     * Checks if an event has to be processed before another one.
+     *
+     * @param evt1 the first event
+     * @param order1 the insertion order of the first event
+     * @param evt2 the second event
+     * @param order2 the insertion order of the second event
+     * @return true if the first event comes before the second one, false otherwise
+     */
+    private static boolean isBefore(final SimEvent evt1, final long order1, final SimEvent evt2, final long order2) {
+        if (evt1.eventTime() != evt2.eventTime()) {
+            return evt1.eventTime() < evt2.eventTime();
+        }
+
+        if (evt1.getSerial() != evt2.getSerial()) {
+            return evt1.getSerial() < evt2.getSerial();
+        }
+
+        return order1 < order2;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since the heap is just partially ordered,
+     * the iterator is built over a sorted copy of the queue.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since the heap is just partially ordered,
+     * the events are sorted in O(n log n) to build the stream.
+     * Therefore, this method should be avoided in hot paths.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Stream<SimEvent> stream() {
+        final Comparator<Integer> comparator =
+            (i, j) -> i.equals(j) ? 0 : isBefore(heap[i], order[i], heap[j], order[j]) ? -1 : 1;
+
+        return IntStream.range(0, size)
+                        .boxed()
+                        .sorted(comparator)
+                        .map(i -> heap[i])
+                        .collect(toList())
+                        .stream();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            setHeapIndex(heap[i], -1);
+        }
+
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+}
@@ -12,11 +12,13 @@ import org.cloudbus.cloudsim.power.models.PowerAware;
 import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.resources.DatacenterStorage;
 import org.cloudbus.cloudsim.resources.File;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.resources.FileStorage;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 
 import java.util.List;
 
@@ -189,4 +191,46 @@ public interface Datacenter extends SimEntity, PowerAware {
      */
     @Override
     double getPower();
+
+    /**
+     * Notifies the Datacenter that some Cloudlets running inside a given VM have finished,
+     * so that they are returned to their brokers at the next
+     * {@link CloudSimTags#VM_UPDATE_CLOUDLET_PROCESSING_EVENT cloudlets processing update}.
+     * This method is called by the {@link CloudletScheduler} of the VM,
+     * enabling the Datacenter to return just the finished Cloudlets,
+     * instead of checking every VM in every Host.
+     *
+     * @param vm the VM which has finished Cloudlets to return to their brokers
+     * @see CloudletScheduler#getCloudletToReturnList()
+     */
+    void notifyCloudletsFinished(Vm vm);
+
+    /**
+     * Notifies the Datacenter that the state of a given Host has changed
+     * (such as a VM being placed into it or the Host being activated),
+     * so that the Host has its processing updated again
+     * in case it was not being updated for being idle.
+     * This method is called by the Host itself,
+     * enabling the Datacenter to update just the Hosts
+     * which {@link Host#isProcessingUpdateRequired() require updates},
+     * instead of all of them.
+     *
+     * @param host the Host which has changed
+     */
+    void notifyHostChanged(Host host);
+
+    /**
+     * Performs an action that a Host (or a VM or Cloudlet inside it) carries out of itself
+     * while having its processing updated, such as notifying listeners, sending events
+     * or logging messages.
+     * If the Hosts are being updated in parallel, the action is deferred until
+     * all of them are updated, so that actions are performed in the order of the Hosts,
+     * just as when they are updated sequentially.
+     * Otherwise, the action is performed right away.
+     *
+     * @param action the action to perform
+     */
+    default void runOrDeferUntilHostsUpdated(final Runnable action) {
+        action.run();
+    }
 }
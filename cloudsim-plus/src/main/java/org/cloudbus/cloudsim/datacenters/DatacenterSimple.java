@@ -7,8 +7,8 @@
 package org.cloudbus.cloudsim.datacenters;
 
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
-import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.Simulation;
@@ -18,17 +18,29 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.network.IcmpPacket;
 import org.cloudbus.cloudsim.resources.DatacenterStorage;
 import org.cloudbus.cloudsim.resources.FileStorage;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.listeners.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 
@@ -44,6 +56,13 @@ import static java.util.stream.Collectors.toList;
 public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     private static final Logger logger = LoggerFactory.getLogger(DatacenterSimple.class.getSimpleName());
 
+    /**
+     * Number of groups of Hosts created for each thread
+     * when updating Hosts in parallel, enabling to balance the load among threads
+     * when Hosts take different times to be updated.
+     */
+    private static final int HOST_GROUPS_PER_THREAD = 4;
+
     /**
      * @see #getBandwidthPercentForMigration()
      */
@@ -77,6 +96,68 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getDatacenterStorage() */
 	private DatacenterStorage datacenterStorage;
 
+    /**
+     * The VMs having finished Cloudlets that were not returned to their brokers yet,
+     * in the order their Cloudlets finished.
+     * @see #notifyCloudletsFinished(Vm)
+     */
+    private final Set<Vm> vmsWithFinishedCloudlets;
+
+    /**
+     * The finished Cloudlets to be returned into a single event to each broker
+     * which {@link DatacenterBroker#isBatchCloudletMessages() batches Cloudlet messages}.
+     * @see #sendFinishedCloudletsBatches()
+     */
+    private final Map<DatacenterBroker, List<Cloudlet>> finishedCloudletsBatches;
+
+    /**
+     * The position of each Host inside the {@link #getHostList() Host List}.
+     */
+    private final Map<Host, Integer> hostIndexes;
+
+    /**
+     * The positions of the Hosts (inside the {@link #getHostList() Host List})
+     * which have to be updated at every processing update.
+     * Idle Hosts are not included, since updating them doesn't change anything.
+     * They are included again when they
+     * {@link #notifyHostChanged(Host) notify some change}.
+     * @see Host#isProcessingUpdateRequired()
+     */
+    private final BitSet hostsToUpdate;
+
+    /**
+     * The power (in Watts) each idle Host, which isn't in the {@link #hostsToUpdate},
+     * consumes while it stays idle.
+     */
+    private final Map<Host, Double> idleHostsPower;
+
+    /**
+     * The sum of the {@link #idleHostsPower}, enabling to compute the energy
+     * consumed by all idle Hosts during a time span, without going through each one.
+     */
+    private double totalIdleHostsPower;
+
+    /**
+     * The executor used to update Hosts in parallel
+     * or null if parallel Hosts processing is disabled.
+     * @see #enableParallelHostsProcessing(int)
+     */
+    private ParallelTaskExecutor hostsExecutor;
+
+    /**
+     * The number of threads used to update Hosts in parallel.
+     * @see #enableParallelHostsProcessing(int)
+     */
+    private int hostsThreads;
+
+    /**
+     * Indicates if the processing of all VMs could be
+     * {@link CloudletScheduler#enableFastForward() fast-forwarded} at the last processing update,
+     * so that the {@link #getSchedulingInterval() scheduling interval} is ignored.
+     * @see #isFastForwardPossible()
+     */
+    private boolean fastForward;
+
     /**
      * Creates a Datacenter with an empty {@link #getDatacenterStorage() storage}.
      *
@@ -125,6 +206,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final DatacenterStorage storage)
     {
         super(simulation);
+        this.hostIndexes = new IdentityHashMap<>();
+        this.hostsToUpdate = new BitSet();
+        this.idleHostsPower = new IdentityHashMap<>();
         setHostList(hostList);
 
         setLastProcessTime(0.0);
@@ -135,6 +219,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.characteristics = new DatacenterCharacteristicsSimple(this);
         this.bandwidthPercentForMigration = DEF_BANDWIDTH_PERCENT_FOR_MIGRATION;
         migrationsEnabled = true;
+        this.vmsWithFinishedCloudlets = new LinkedHashSet<>();
+        this.finishedCloudletsBatches = new LinkedHashMap<>();
 
         setVmAllocationPolicy(vmAllocationPolicy);
     }
@@ -149,6 +235,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         for (final Host host : hostList) {
             host.setDatacenter(this);
             host.setSimulation(getSimulation());
+            addHostToUpdate(host, hostIndexes.size());
         }
 
         Simulation.setIdForEntitiesWithoutOne(this.hostList);
@@ -156,6 +243,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public void processEvent(final SimEvent ev) {
+        /* When fast-forwarding, processing is not updated periodically.
+         * This way, it's updated before any event which may change the progress of Cloudlets,
+         * otherwise their progress would be computed for the entire time span
+         * according to the state after the change. */
+        if (fastForward && ev.getTag() != CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT) {
+            updateCloudletProcessing();
+        }
+
         processCloudletEvents(ev);
         processVmEvents(ev);
         processNetworkEvents(ev);
@@ -181,6 +276,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.VM_CREATE_ACK:
                 processVmCreate(ev, true);
             break;
+            case CloudSimTags.VM_CREATE_BATCH:
+                processVmCreateBatch(ev);
+            break;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(ev);
             break;
@@ -198,7 +296,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             break;
             case CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT:
                 updateCloudletProcessing();
-                checkCloudletsCompletionForAllHosts();
+                returnFinishedCloudlets();
             break;
         }
     }
@@ -230,6 +328,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 processCloudletSubmit(ev, true);
             break;
 
+            // A batch of new Cloudlets arrives
+            case CloudSimTags.CLOUDLET_SUBMIT_BATCH:
+                processCloudletSubmitBatch(ev);
+            break;
+
             // Cancels a previously submitted Cloudlet
             case CloudSimTags.CLOUDLET_CANCEL:
                 processCloudlet(ev, CloudSimTags.CLOUDLET_CANCEL);
@@ -329,6 +432,39 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         submitCloudletToVm(cl, ack);
     }
 
+    /**
+     * Processes the submission of a batch of Cloudlets by a DatacenterBroker,
+     * without sending an acknowledge message.
+     * Each Cloudlet is submitted just as it would be by {@link #processCloudletSubmit(SimEvent, boolean)},
+     * but a single update of Cloudlets processing is scheduled for the whole batch,
+     * at the time the first Cloudlet is expected to finish.
+     *
+     * @param ev information about the event just happened,
+     *           where the {@link SimEvent#getData()} is the array of submitted Cloudlets
+     * @see CloudSimTags#CLOUDLET_SUBMIT_BATCH
+     */
+    protected void processCloudletSubmitBatch(final SimEvent ev) {
+        boolean cloudletInExecution = false;
+        double earliestFinishTime = Double.MAX_VALUE;
+        for (final Cloudlet cl : (Cloudlet[]) ev.getData()) {
+            if (cl.isFinished()) {
+                notifyBrokerAboutFinishedCloudlet(cl, false);
+                continue;
+            }
+
+            cl.assignToDatacenter(this);
+            final double estimatedFinishTime = submitCloudletToScheduler(cl);
+            if (isCloudletInExecution(estimatedFinishTime)) {
+                cloudletInExecution = true;
+                earliestFinishTime = Math.min(earliestFinishTime, estimatedFinishTime);
+            }
+        }
+
+        if (cloudletInExecution) {
+            scheduleCloudletProcessingUpdate(earliestFinishTime);
+        }
+    }
+
     /**
      * Submits a cloudlet to be executed inside its bind VM.
      *
@@ -337,20 +473,45 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * receives the cloudlet submission
      */
     private void submitCloudletToVm(final Cloudlet cl, final boolean ack) {
+        final double estimatedFinishTime = submitCloudletToScheduler(cl);
+
+        // if this cloudlet is in the exec queue
+        if (isCloudletInExecution(estimatedFinishTime)) {
+            scheduleCloudletProcessingUpdate(estimatedFinishTime);
+        }
+
+        sendCloudletSubmitAckToBroker(ack, cl);
+    }
+
+    /**
+     * Submits a cloudlet to the {@link CloudletScheduler} of its bind VM.
+     *
+     * @param cl the cloudlet to the executed
+     * @return the estimated finish time of the Cloudlet
+     */
+    private double submitCloudletToScheduler(final Cloudlet cl) {
         // time to transfer cloudlet's files
         final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cl.getRequiredFiles());
 
         final CloudletScheduler scheduler = cl.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cl, fileTransferTime);
+        fastForward = fastForward && scheduler.isFastForwardPossible();
+        return estimatedFinishTime;
+    }
 
-        // if this cloudlet is in the exec queue
-        if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
-            send(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
-        }
+    private boolean isCloudletInExecution(final double estimatedFinishTime) {
+        return estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime);
+    }
 
-        sendCloudletSubmitAckToBroker(ack, cl);
+    /**
+     * Schedules an update of Cloudlets processing for when a submitted Cloudlet is expected to finish.
+     *
+     * @param estimatedFinishTime the estimated finish time of the submitted Cloudlet
+     */
+    private void scheduleCloudletProcessingUpdate(final double estimatedFinishTime) {
+        send(this,
+            getCloudletProcessingUpdateInterval(estimatedFinishTime),
+            CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
     }
 
     /**
@@ -359,6 +520,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * (if the scheduling interval is enable, i.e. if it's greater than 0),
      * which represents when the next update of Cloudlets processing
      * has to be performed.
+     * If the processing of all VMs can be {@link CloudletScheduler#enableFastForward() fast-forwarded},
+     * the scheduling interval is ignored.
      *
      * @param nextFinishingCloudletTime the predicted completion time of the earliest finishing cloudlet
      * (which is a relative delay from the current simulation time),
@@ -368,7 +531,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @see #updateCloudletProcessing()
      */
     protected double getCloudletProcessingUpdateInterval(final double nextFinishingCloudletTime){
-        return (schedulingInterval == 0 ?
+        return (schedulingInterval == 0 || fastForward ?
             nextFinishingCloudletTime :
             Math.min(nextFinishingCloudletTime, schedulingInterval));
     }
@@ -381,8 +544,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletResume(final Cloudlet cloudlet, final boolean ack) {
-        final double estimatedFinishTime = cloudlet.getVm()
-            .getCloudletScheduler().cloudletResume(cloudlet.getId());
+        final CloudletScheduler scheduler = cloudlet.getVm().getCloudletScheduler();
+        final double estimatedFinishTime = scheduler.cloudletResume(cloudlet.getId());
+        fastForward = fastForward && scheduler.isFastForwardPossible();
 
         if (estimatedFinishTime > 0.0 && estimatedFinishTime > getSimulation().clock()) {
             schedule(this,
@@ -440,15 +604,55 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         if (hostAllocatedForVm) {
-            if (!vm.isCreated()) {
-                vm.setCreated(true);
+            startCreatedVm(vm);
+        }
+
+        return hostAllocatedForVm;
+    }
+
+    /**
+     * Process the event for a Broker which wants to create a batch of VMs in this
+     * Datacenter. The {@link VmAllocationPolicy} places the whole batch at once
+     * and a single acknowledge message is sent back to the Broker
+     * with the requested VMs.
+     *
+     * @param ev information about the event just happened,
+     *           where the {@link SimEvent#getData()} is the array of VMs to create
+     * @return the List of VMs which could not be allocated to any Host
+     * @see CloudSimTags#VM_CREATE_BATCH
+     */
+    protected List<Vm> processVmCreateBatch(final SimEvent ev) {
+        final Vm[] vms = (Vm[]) ev.getData();
+        final List<Vm> vmList = Arrays.asList(vms);
+
+        final List<Vm> notAllocatedVms = vmAllocationPolicy.allocateHostForVm(vmList);
+        send(ev.getSource(), getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_CREATE_BATCH, vms);
+
+        /* The VMs which were not allocated are usually just a few ones,
+         * thus they are put into a Set to avoid iterating over them for each requested VM. */
+        final Set<Vm> notAllocatedSet = notAllocatedVms.isEmpty() ? Collections.emptySet() : new HashSet<>(notAllocatedVms);
+        for (final Vm vm : vmList) {
+            if (!notAllocatedSet.contains(vm)) {
+                startCreatedVm(vm);
             }
+        }
+
+        return notAllocatedVms;
+    }
 
-            final List<Double> mipsList = vm.getHost().getVmScheduler().getAllocatedMips(vm);
-            vm.updateProcessing(getSimulation().clock(), mipsList);
+    /**
+     * Sets a VM which was just allocated to a Host as created
+     * and updates its processing for the first time.
+     *
+     * @param vm the VM just allocated to a Host
+     */
+    private void startCreatedVm(final Vm vm) {
+        if (!vm.isCreated()) {
+            vm.setCreated(true);
         }
 
-        return hostAllocatedForVm;
+        final MipsShare mipsShare = vm.getHost().getVmScheduler().getAllocatedMips(vm);
+        vm.updateProcessing(getSimulation().clock(), mipsShare);
     }
 
     /**
@@ -577,25 +781,145 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     private double updateHostsProcessing() {
-        double nextSimulationTime = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double time = host.updateProcessing(getSimulation().clock());
-            nextSimulationTime = Math.min(time, nextSimulationTime);
-        }
+        double nextSimulationTime =
+            hostsExecutor == null ? updateHostsProcessingSequentially() : updateHostsProcessingInParallel();
 
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
         nextSimulationTime = Math.max(nextSimulationTime, minTimeBetweenEvents);
 
-        if (nextSimulationTime == Double.MAX_VALUE) {
-            return nextSimulationTime;
+        if (nextSimulationTime != Double.MAX_VALUE) {
+            power += getDatacenterPowerUsageForTimeSpan();
         }
 
-        power += getDatacenterPowerUsageForTimeSpan();
+        removeIdleHostsFromUpdate();
+        fastForward = isFastForwardPossible();
+        return nextSimulationTime;
+    }
+
+    /**
+     * Checks if the processing of all VMs in the Datacenter can be
+     * {@link CloudletScheduler#enableFastForward() fast-forwarded}.
+     * @return true if there is some VM and the processing of all VMs can be fast-forwarded, false otherwise
+     */
+    private boolean isFastForwardPossible() {
+        boolean vmFound = false;
+        //Hosts having VMs are never removed from the Hosts to update
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            for (final Vm vm : hostList.get(i).getVmList()) {
+                if (!vm.getCloudletScheduler().isFastForwardPossible()) {
+                    return false;
+                }
+
+                vmFound = true;
+            }
+        }
+
+        return vmFound;
+    }
+
+    private double updateHostsProcessingSequentially() {
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final double time = hostList.get(i).updateProcessing(getSimulation().clock());
+            nextSimulationTime = Math.min(time, nextSimulationTime);
+        }
 
         return nextSimulationTime;
     }
 
+    /**
+     * Updates the processing of Hosts in parallel, splitting them into groups
+     * of consecutive Hosts which are updated by the {@link #hostsExecutor}.
+     * The actions that Hosts perform out of them (such as notifying listeners)
+     * are deferred until all groups finish and then performed in the order of the Hosts.
+     *
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * @see #enableParallelHostsProcessing(int)
+     */
+    private double updateHostsProcessingInParallel() {
+        final List<Host> hosts = new ArrayList<>(hostsToUpdate.cardinality());
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
+            //A VM migrating into a Host may be at the VM List of both source and target Hosts
+            if(!host.getVmsMigratingIn().isEmpty()){
+                return updateHostsProcessingSequentially();
+            }
+
+            hosts.add(host);
+        }
+
+        final double clock = getSimulation().clock();
+        final int groups = Math.min(hosts.size(), hostsThreads * HOST_GROUPS_PER_THREAD);
+        final List<Supplier<Double>> tasks = new ArrayList<>(groups);
+        for (int group = 0; group < groups; group++) {
+            final List<Host> groupHosts = hosts.subList(group * hosts.size() / groups, (group + 1) * hosts.size() / groups);
+            tasks.add(() -> updateHostsProcessing(groupHosts, clock));
+        }
+
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (final double time : hostsExecutor.run(tasks)) {
+            nextSimulationTime = Math.min(time, nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    private static double updateHostsProcessing(final List<Host> hosts, final double clock) {
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (final Host host : hosts) {
+            nextSimulationTime = Math.min(host.updateProcessing(clock), nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    /**
+     * Stops updating the processing of Hosts which have become idle,
+     * accounting the power they consume while idle into the {@link #totalIdleHostsPower}.
+     * @see Host#isProcessingUpdateRequired()
+     */
+    private void removeIdleHostsFromUpdate() {
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
+            if (!host.isProcessingUpdateRequired()) {
+                hostsToUpdate.clear(i);
+                //An idle Host has the same CPU utilization (zero) along the entire time span
+                final double hostPower = host.getPowerModel().getEnergyLinearInterpolation(0, 0, 1);
+                idleHostsPower.put(host, hostPower);
+                totalIdleHostsPower += hostPower;
+            }
+        }
+    }
+
+    /**
+     * Includes a Host into the ones which have their processing updated at every processing update.
+     * @param host the Host to include
+     * @param index the position of the Host inside the {@link #getHostList() Host List}
+     */
+    private void addHostToUpdate(final Host host, final int index) {
+        hostIndexes.put(host, index);
+        hostsToUpdate.set(index);
+    }
+
+    @Override
+    public void notifyHostChanged(final Host host) {
+        ParallelTaskExecutor.runOrDefer(() -> includeHostIntoUpdate(host));
+    }
+
+    @Override
+    public void runOrDeferUntilHostsUpdated(final Runnable action) {
+        ParallelTaskExecutor.runOrDefer(action);
+    }
+
+    private void includeHostIntoUpdate(final Host host) {
+        final Double hostPower = idleHostsPower.remove(host);
+        if (hostPower != null) {
+            totalIdleHostsPower -= hostPower;
+            hostsToUpdate.set(hostIndexes.get(host));
+        }
+    }
+
     /**
      * Gets an <b>estimation</b> of total power consumed (in Watts-sec) by all Hosts of the Datacenter
      * since the last time the processing of Cloudlets in this Host was updated.
@@ -605,16 +929,19 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @see #getPowerInKWattsHour()
      */
     private double getDatacenterPowerUsageForTimeSpan() {
-        if (getSimulation().clock() - getLastProcessTime() == 0) { //time span
+        final double timeSpan = getSimulation().clock() - getLastProcessTime();
+        if (timeSpan == 0) {
             return 0;
         }
 
-        double datacenterTimeSpanPowerUse = 0;
-        for (final Host host : this.getHostList()) {
+        //Idle Hosts which aren't being updated consume the same power along the entire time span
+        double datacenterTimeSpanPowerUse = totalIdleHostsPower * timeSpan;
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
             final double prevCpuUsage = host.getPreviousUtilizationOfCpu();
             final double cpuUsage = host.getUtilizationOfCpu();
             final double timeFrameHostEnergy =
-                host.getPowerModel().getEnergyLinearInterpolation(prevCpuUsage, cpuUsage, getSimulation().clock() - getLastProcessTime());
+                host.getPowerModel().getEnergyLinearInterpolation(prevCpuUsage, cpuUsage, timeSpan);
             datacenterTimeSpanPowerUse += timeFrameHostEnergy;
         }
 
@@ -723,24 +1050,56 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /**
      * Verifies if some cloudlet inside the hosts of this Datacenter have already finished.
      * If yes, send them to the User/Broker
+     *
+     * @deprecated This method isn't called by the Datacenter anymore,
+     * since just the VMs which have {@link #notifyCloudletsFinished(Vm) notified}
+     * that some of their Cloudlets have finished are checked.
+     * Use {@link #returnFinishedCloudlets()} instead, to which this method just delegates.
      */
+    @Deprecated
     protected void checkCloudletsCompletionForAllHosts() {
-        final List<? extends Host> hosts = vmAllocationPolicy.getHostList();
-        hosts.forEach(this::checkCloudletsCompletionForGivenHost);
+        returnFinishedCloudlets();
     }
 
-    private void checkCloudletsCompletionForGivenHost(final Host host) {
-        host.getVmList().forEach(this::checkCloudletsCompletionForGivenVm);
+    @Override
+    public void notifyCloudletsFinished(final Vm vm) {
+        //Hosts may be updated in parallel, but the VMs must be kept in the order their Cloudlets finished
+        ParallelTaskExecutor.runOrDefer(() -> vmsWithFinishedCloudlets.add(vm));
+    }
+
+    /**
+     * Sends the Cloudlets that have finished since the last time this method was called
+     * back to their brokers.
+     * Instead of checking all VMs of all Hosts,
+     * it just goes through the VMs which have {@link #notifyCloudletsFinished(Vm) notified}
+     * that some of their Cloudlets have finished.
+     * VMs destroyed in the meantime are ignored, since they are not inside any Host anymore.
+     */
+    protected void returnFinishedCloudlets() {
+        if(vmsWithFinishedCloudlets.isEmpty()){
+            return;
+        }
+
+        //Copies the set because returning Cloudlets may lead to new notifications
+        final List<Vm> vms = new ArrayList<>(vmsWithFinishedCloudlets);
+        vmsWithFinishedCloudlets.clear();
+        for (final Vm vm : vms) {
+            if(vm.getHost().getVmList().contains(vm)) {
+                checkCloudletsCompletionForGivenVm(vm);
+            }
+        }
+
+        sendFinishedCloudletsBatches();
     }
 
     private void checkCloudletsCompletionForGivenVm(final Vm vm) {
-        final List<Cloudlet> nonReturnedCloudlets =
-            vm.getCloudletScheduler().getCloudletFinishedList().stream()
-                .map(CloudletExecution::getCloudlet)
-                .filter(c -> !vm.getCloudletScheduler().isCloudletReturned(c))
-                .collect(toList());
+        final Set<Cloudlet> nonReturnedCloudlets = vm.getCloudletScheduler().getCloudletToReturnList();
+        if(nonReturnedCloudlets.isEmpty()){
+            return;
+        }
 
-        nonReturnedCloudlets.forEach(this::returnFinishedCloudletToBroker);
+        //Copies the set because returning a Cloudlet removes it from such a set
+        new ArrayList<>(nonReturnedCloudlets).forEach(this::returnFinishedCloudletToBroker);
     }
 
     /**
@@ -750,13 +1109,36 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @param cloudlet the Cloudlet to return to broker in order to notify it about the Cloudlet execution end
      */
     private void returnFinishedCloudletToBroker(final Cloudlet cloudlet) {
-        sendNow(cloudlet.getBroker(), CloudSimTags.CLOUDLET_RETURN, cloudlet);
+        final DatacenterBroker broker = cloudlet.getBroker();
+        if (broker.isBatchCloudletMessages()) {
+            finishedCloudletsBatches.computeIfAbsent(broker, b -> new ArrayList<>()).add(cloudlet);
+        } else {
+            sendNow(broker, CloudSimTags.CLOUDLET_RETURN, cloudlet);
+        }
+
         cloudlet.getVm().getCloudletScheduler().addCloudletToReturnedList(cloudlet);
     }
 
+    /**
+     * Returns the finished Cloudlets collected for each broker which
+     * {@link DatacenterBroker#isBatchCloudletMessages() batches Cloudlet messages},
+     * using a single event for each broker.
+     * @see CloudSimTags#CLOUDLET_RETURN_BATCH
+     */
+    private void sendFinishedCloudletsBatches() {
+        if (finishedCloudletsBatches.isEmpty()) {
+            return;
+        }
+
+        finishedCloudletsBatches.forEach((broker, cloudlets) ->
+            sendNow(broker, CloudSimTags.CLOUDLET_RETURN_BATCH, cloudlets.toArray(new Cloudlet[0])));
+        finishedCloudletsBatches.clear();
+    }
+
     @Override
     public void shutdownEntity() {
         super.shutdownEntity();
+        shutdownHostsExecutor();
         logger.info("{}: {} is shutting down...", getSimulation().clock(), getName());
     }
 
@@ -872,6 +1254,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         host.setDatacenter(this);
         ((List<T>)hostList).add(host);
+        addHostToUpdate(host, hostList.size()-1);
 
         //Sets the Datacenter again so that the new Host is registered internally on the VmAllocationPolicy
         vmAllocationPolicy.setDatacenter(this);
@@ -952,4 +1335,67 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.migrationsEnabled = false;
         return this;
     }
+
+    /**
+     * Enables updating the processing of Hosts in parallel,
+     * which may speed up the simulation of Datacenters with a large number of busy Hosts.
+     *
+     * <p>Each Host is updated in a thread, but the actions that
+     * it performs out of itself, such as notifying
+     * {@link Host#addOnUpdateProcessingListener(EventListener) Host},
+     * VM and Cloudlet listeners, sending events and logging messages
+     * (all of them performed through {@link #runOrDeferUntilHostsUpdated(Runnable)}),
+     * are deferred until all Hosts are updated. They are then performed in the order of the Hosts,
+     * so that the simulation results are the same as when Hosts are updated sequentially.
+     * Hosts are updated sequentially while there are VMs migrating.</p>
+     *
+     * <p><b>Since listeners are notified after all Hosts are updated, they
+     * will see the state of other Hosts after the update.
+     * Objects shared by Cloudlets in different Hosts, such as {@link UtilizationModel}s
+     * that store the last computed utilization, must not be changed when Hosts are updated,
+     * otherwise results may differ among executions.</b></p>
+     *
+     * <p>The threads are released when the Datacenter is shut down at the end of the simulation
+     * or when {@link #disableParallelHostsProcessing()} is called.</p>
+     *
+     * @param threads the maximum number of threads to update Hosts
+     * @return
+     * @see #isParallelHostsProcessingEnabled()
+     */
+    public final Datacenter enableParallelHostsProcessing(final int threads) {
+        final ParallelTaskExecutor executor = new ParallelTaskExecutor(threads);
+        shutdownHostsExecutor();
+        this.hostsExecutor = executor;
+        this.hostsThreads = threads;
+        return this;
+    }
+
+    /**
+     * Disables updating the processing of Hosts in parallel,
+     * releasing the threads used to update them.
+     *
+     * @return
+     * @see #enableParallelHostsProcessing(int)
+     */
+    public final Datacenter disableParallelHostsProcessing() {
+        shutdownHostsExecutor();
+        return this;
+    }
+
+    private void shutdownHostsExecutor() {
+        if (hostsExecutor != null) {
+            hostsExecutor.shutdown();
+            hostsExecutor = null;
+            hostsThreads = 0;
+        }
+    }
+
+    /**
+     * Checks if Hosts have their processing updated in parallel.
+     * @return true if parallel Hosts processing is enabled, false otherwise
+     * @see #enableParallelHostsProcessing(int)
+     */
+    public boolean isParallelHostsProcessingEnabled() {
+        return hostsExecutor != null;
+    }
 }
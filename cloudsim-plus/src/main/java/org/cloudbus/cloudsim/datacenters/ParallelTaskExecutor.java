@@ -0,0 +1,162 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs the tasks that update the Hosts of a {@link DatacenterSimple} in parallel,
+ * deferring the actions they perform out of the Hosts until all tasks finish.
+ *
+ * <p>While a task runs, the actions given to {@link #runOrDefer(Runnable)}
+ * (such as notifying listeners, sending events or logging messages)
+ * are stored instead of being performed.
+ * When all tasks finish, the deferred actions are performed in the calling thread,
+ * in the order of the tasks and, for each task, in the order they were deferred.
+ * As a result, such actions are performed in exactly the same order
+ * as if the tasks were run sequentially.</p>
+ *
+ * @author agent
+ * @see DatacenterSimple#enableParallelHostsProcessing(int)
+ */
+final class ParallelTaskExecutor {
+    /**
+     * The actions deferred by the task running in the current thread.
+     * It's null when the current thread isn't running a task in parallel.
+     */
+    private static final ThreadLocal<List<Runnable>> DEFERRED_ACTIONS = new ThreadLocal<>();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an executor that runs tasks in parallel.
+     * @param threads the maximum number of tasks to run at the same time
+     */
+    ParallelTaskExecutor(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be greater than zero.");
+        }
+
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Runs a list of tasks in parallel, then performs the actions they have deferred,
+     * in the order of the tasks.
+     * A single task just runs in the current thread, without deferring any action,
+     * since there is nothing to be parallelized.
+     *
+     * @param tasks the tasks to run
+     * @param <T> the type of the result of the tasks
+     * @return the list of results of the tasks, in the order of the tasks
+     */
+    <T> List<T> run(final List<? extends Supplier<T>> tasks) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        if (tasks.size() == 1) {
+            return Collections.singletonList(tasks.get(0).get());
+        }
+
+        final List<ForkJoinTask<TaskResult<T>>> submittedTasks = new ArrayList<>(tasks.size());
+        for (final Supplier<T> task : tasks) {
+            submittedTasks.add(pool.submit(() -> runTask(task)));
+        }
+
+        /* Waits all tasks to finish before performing any deferred action,
+         * so that such actions don't run concurrently with the tasks. */
+        final List<TaskResult<T>> taskResults = new ArrayList<>(tasks.size());
+        for (final ForkJoinTask<TaskResult<T>> task : submittedTasks) {
+            taskResults.add(task.join());
+        }
+
+        final List<T> results = new ArrayList<>(tasks.size());
+        for (final TaskResult<T> taskResult : taskResults) {
+            taskResult.deferredActions.forEach(Runnable::run);
+            results.add(taskResult.value);
+        }
+
+        return results;
+    }
+
+    private static <T> TaskResult<T> runTask(final Supplier<T> task) {
+        final List<Runnable> actions = new ArrayList<>();
+        //The thread may be already running a task when tasks are nested
+        final List<Runnable> previousActions = DEFERRED_ACTIONS.get();
+        DEFERRED_ACTIONS.set(actions);
+        try {
+            return new TaskResult<>(task.get(), actions);
+        } finally {
+            if (previousActions == null) {
+                DEFERRED_ACTIONS.remove();
+            } else {
+                DEFERRED_ACTIONS.set(previousActions);
+            }
+        }
+    }
+
+    /**
+     * Checks if the current thread is running a task in parallel with other ones.
+     * @return true if a task is running in parallel in the current thread, false otherwise
+     */
+    static boolean isRunningInParallel() {
+        return DEFERRED_ACTIONS.get() != null;
+    }
+
+    /**
+     * Defers an action performed by a task running in parallel
+     * until all tasks running in parallel finish.
+     *
+     * @param action the action to defer
+     * @return true if the action was deferred,
+     *         false if the current thread isn't running a task in parallel
+     *         (and the action must be performed right away)
+     */
+    static boolean defer(final Runnable action) {
+        final List<Runnable> actions = DEFERRED_ACTIONS.get();
+        if (actions == null) {
+            return false;
+        }
+
+        actions.add(action);
+        return true;
+    }
+
+    /**
+     * Performs an action right away if the current thread isn't running a task in parallel,
+     * otherwise defers it until all tasks running in parallel finish.
+     *
+     * @param action the action to perform
+     * @see #defer(Runnable)
+     */
+    static void runOrDefer(final Runnable action) {
+        if (!defer(action)) {
+            action.run();
+        }
+    }
+
+    /**
+     * Shuts down the threads used to run tasks in parallel.
+     */
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * The value returned by a task and the actions it has deferred.
+     * @param <T> the type of the value
+     */
+    private static final class TaskResult<T> {
+        private final T value;
+        private final List<Runnable> deferredActions;
+
+        private TaskResult(final T value, final List<Runnable> deferredActions) {
+            this.value = value;
+            this.deferredActions = deferredActions;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 
 import java.util.List;
@@ -172,7 +173,7 @@ public interface Host extends Machine, Comparable<Host> {
      * @pre $none
      * @post $none
      */
-    List<Double> getAllocatedMipsForVm(Vm vm);
+    MipsShare getAllocatedMipsForVm(Vm vm);
 
     /**
      * Gets the total allocated MIPS for a VM along all its PEs.
@@ -361,6 +362,21 @@ public interface Host extends Machine, Comparable<Host> {
      */
     double updateProcessing(double currentTime);
 
+    /**
+     * Checks if the processing of this Host has to be updated
+     * every time the {@link Datacenter} updates the processing of its Hosts.
+     * It's not required when the Host is idle, i.e., it has no VMs
+     * (including VMs migrating into it), no listeners to be notified
+     * about processing updates and its state history is disabled.
+     * In such a case, updating the Host doesn't change anything
+     * and the power it consumes can be computed for any time span
+     * without updating it.
+     *
+     * @return true if the Host processing has to be updated, false otherwise
+     * @see Datacenter#notifyHostChanged(Host)
+     */
+    boolean isProcessingUpdateRequired();
+
     /**
      * Try to allocate resources to a new VM in the Host.
      *
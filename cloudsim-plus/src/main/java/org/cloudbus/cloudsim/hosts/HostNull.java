@@ -7,6 +7,7 @@ import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Resource;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventListener;
@@ -44,8 +45,8 @@ final class HostNull implements Host {
         return false;
     }
     @Override public void deallocatePesForVm(Vm vm) {/**/}
-    @Override public List<Double> getAllocatedMipsForVm(Vm vm) {
-        return Collections.emptyList();
+    @Override public MipsShare getAllocatedMipsForVm(Vm vm) {
+        return new MipsShare();
     }
     @Override public double getAvailableMips() {
         return 0;
@@ -121,6 +122,7 @@ final class HostNull implements Host {
     @Override public double updateProcessing(double currentTime) {
         return 0.0;
     }
+    @Override public boolean isProcessingUpdateRequired() { return false; }
     @Override public boolean createVm(Vm vm) {
         return false;
     }
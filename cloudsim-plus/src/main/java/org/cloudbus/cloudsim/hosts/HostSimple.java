@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.*;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
@@ -20,7 +21,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
 
@@ -92,6 +92,48 @@ public class HostSimple implements Host {
      */
     private List<Pe> peList;
 
+    /**
+     * A read-only view of the {@link #peList} returned by {@link #getPeList()},
+     * so that PEs can't be replaced without updating the {@link #pesByStatus} index
+     * and the PE caches.
+     */
+    private List<Pe> readOnlyPeList;
+
+    /**
+     * The positions into the {@link #peList} of the PEs in each {@link Pe.Status},
+     * indexed by the status ordinal.
+     * They are updated as the status of PEs change (see {@link #peChanged(int, Pe, Pe.Status)}),
+     * avoiding iterating over all PEs to find the ones in a given status.
+     */
+    private BitSet[] pesByStatus;
+
+    /**
+     * The number of PEs in each {@link Pe.Status}, indexed by the status ordinal.
+     */
+    private int[] pesCountByStatus;
+
+    /**
+     * The number of PEs in the {@link #peList} when the {@link #pesByStatus} was built,
+     * used to find out if PEs were added to or removed from such a List after that.
+     */
+    private int indexedPes;
+
+    /**
+     * The lists of working, busy and free PEs, which are built when requested
+     * and discarded when some PE changes. They are null when they have to be built again.
+     * @see #getWorkingPeList()
+     * @see #getBuzyPeList()
+     * @see #getFreePeList()
+     */
+    private List<Pe> workingPeList, buzyPeList, freePeList;
+
+    /**
+     * The total MIPS capacity of working PEs, which is recomputed
+     * just when some PE changes. It's negative when it has to be computed again.
+     * @see #getTotalMipsCapacity()
+     */
+    private double totalMipsCapacity;
+
     /**
      * @see #getVmsMigratingIn()
      */
@@ -192,10 +234,11 @@ public class HostSimple implements Host {
 
     @Override
     public double getTotalMipsCapacity() {
-        return peList.stream()
-                .filter(Pe::isWorking)
-                .mapToDouble(Pe::getCapacity)
-                .sum();
+        if(isPeListChanged() || totalMipsCapacity < 0) {
+            totalMipsCapacity = getWorkingPeList().stream().mapToDouble(Pe::getCapacity).sum();
+        }
+
+        return totalMipsCapacity;
     }
 
     @SuppressWarnings("ForLoopReplaceableByForEach")
@@ -217,8 +260,34 @@ public class HostSimple implements Host {
         return nextSimulationTime;
     }
 
+    @Override
+    public boolean isProcessingUpdateRequired() {
+        return !vmList.isEmpty() || !vmsMigratingIn.isEmpty() ||
+               !onUpdateProcessingListeners.isEmpty() || stateHistoryEnabled ||
+               previousUtilizationMips != 0;
+    }
+
+    /**
+     * Notifies the {@link Datacenter} that this Host has changed,
+     * so that its processing starts to be updated again in case
+     * it wasn't being updated for being idle.
+     *
+     * @see #isProcessingUpdateRequired()
+     */
+    protected void notifyDatacenterHostChanged() {
+        //The Datacenter isn't set yet when the constructor calls setters
+        if(datacenter != null) {
+            datacenter.notifyHostChanged(this);
+        }
+    }
+
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
-        onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime)));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        getDatacenter().runOrDeferUntilHostsUpdated(() ->
+            onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime))));
     }
 
     @Override
@@ -252,6 +321,7 @@ public class HostSimple implements Host {
         }
 
         vmList.add(vm);
+        notifyDatacenterHostChanged();
         return true;
     }
 
@@ -333,6 +403,7 @@ public class HostSimple implements Host {
     @Override
     public final Host setActive(final boolean active) {
         this.active = active;
+        notifyDatacenterHostChanged();
         return this;
     }
 
@@ -408,7 +479,7 @@ public class HostSimple implements Host {
 
     @Override
     public int getNumberOfFreePes() {
-        return (int)peList.stream().filter(Pe::isFree).count();
+        return getNumberOfPes(Pe.Status.FREE);
     }
 
     @Override
@@ -417,7 +488,7 @@ public class HostSimple implements Host {
     }
 
     @Override
-    public List<Double> getAllocatedMipsForVm(final Vm vm) {
+    public MipsShare getAllocatedMipsForVm(final Vm vm) {
         return vmScheduler.getAllocatedMips(vm);
     }
 
@@ -433,7 +504,7 @@ public class HostSimple implements Host {
 
     @Override
     public double getMips() {
-        return peList.stream().mapToDouble(Pe::getCapacity).findFirst().orElse(0);
+        return peList.isEmpty() ? 0 : peList.get(0).getCapacity();
     }
 
     @Override
@@ -512,13 +583,23 @@ public class HostSimple implements Host {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned List is read-only, since the Host keeps an index of its PEs by status
+     * that would be out-of-date if PEs were replaced into the List.</p>
+     *
+     * @return {@inheritDoc} (a read-only List)
+     */
     @Override
     public List<Pe> getPeList() {
-        return peList;
+        return readOnlyPeList;
     }
 
     /**
      * Sets the pe list.
+     * PEs must not be replaced into the given List after calling this method,
+     * since just additions and removals are detected.
      *
      * @param peList the new pe list
      * @return
@@ -526,7 +607,11 @@ public class HostSimple implements Host {
     protected final Host setPeList(final List<Pe> peList) {
         Objects.requireNonNull(peList);
         checkSimulationIsRunningAndAttemptedToChangeHost("List of PE");
+        if(this.peList != null) {
+            this.peList.forEach(pe -> pe.setChangeListener(null));
+        }
         this.peList = peList;
+        this.readOnlyPeList = Collections.unmodifiableList(peList);
 
         int peId = this.peList.stream().filter(pe -> pe.getId() > 0).mapToInt(Pe::getId).max().orElse(-1);
         final List<Pe> pesWithoutIds = this.peList.stream().filter(pe -> pe.getId() < 0).collect(toList());
@@ -534,9 +619,88 @@ public class HostSimple implements Host {
             pe.setId(++peId);
         }
 
+        indexPes();
         return this;
     }
 
+    /**
+     * Builds the {@link #pesByStatus} index and registers a listener for every PE
+     * to keep such an index updated.
+     */
+    private void indexPes() {
+        final Pe.Status[] statuses = Pe.Status.values();
+        pesByStatus = new BitSet[statuses.length];
+        pesCountByStatus = new int[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            pesByStatus[i] = new BitSet(peList.size());
+        }
+
+        for (int i = 0; i < peList.size(); i++) {
+            final int index = i;
+            final Pe pe = peList.get(i);
+            addPeToStatusIndex(index, pe.getStatus());
+            pe.setChangeListener((changedPe, previousStatus) -> peChanged(index, changedPe, previousStatus));
+        }
+
+        indexedPes = peList.size();
+        clearPeCaches();
+    }
+
+    /**
+     * Updates the {@link #pesByStatus} index when a PE changes.
+     *
+     * @param index the position of the PE into the {@link #peList}
+     * @param pe the PE that has changed
+     * @param previousStatus the status of the PE before the change
+     */
+    private void peChanged(final int index, final Pe pe, final Pe.Status previousStatus) {
+        if(previousStatus != null && pesByStatus[previousStatus.ordinal()].get(index)) {
+            pesByStatus[previousStatus.ordinal()].clear(index);
+            pesCountByStatus[previousStatus.ordinal()]--;
+        }
+
+        addPeToStatusIndex(index, pe.getStatus());
+        clearPeCaches();
+    }
+
+    private void addPeToStatusIndex(final int index, final Pe.Status status) {
+        if(status != null && !pesByStatus[status.ordinal()].get(index)) {
+            pesByStatus[status.ordinal()].set(index);
+            pesCountByStatus[status.ordinal()]++;
+        }
+    }
+
+    private void clearPeCaches() {
+        workingPeList = null;
+        buzyPeList = null;
+        freePeList = null;
+        totalMipsCapacity = -1;
+    }
+
+    /**
+     * Checks if PEs were added to or removed from the {@link #peList}
+     * after the {@link #pesByStatus} index was built and, if so, builds it again.
+     * @return true if the PE list has changed, false otherwise
+     */
+    private boolean isPeListChanged() {
+        if(indexedPes == peList.size()) {
+            return false;
+        }
+
+        indexPes();
+        return true;
+    }
+
+    /**
+     * Gets the number of PEs in a given status.
+     * @param status the status to get the number of PEs
+     * @return
+     */
+    private int getNumberOfPes(final Pe.Status status) {
+        isPeListChanged();
+        return pesCountByStatus[status.ordinal()];
+    }
+
     @Override
     public <T extends Vm> List<T> getVmList() {
         return (List<T>) Collections.unmodifiableList(vmList);
@@ -550,6 +714,7 @@ public class HostSimple implements Host {
     protected void addVmToList(final Vm vm){
         Objects.requireNonNull(vm);
         vmList.add(vm);
+        notifyDatacenterHostChanged();
     }
 
     protected void addVmToCreatedList(final Vm vm){
@@ -574,6 +739,7 @@ public class HostSimple implements Host {
         * it must remain inactive.*/
         if(failed && active){
             active = false;
+            notifyDatacenterHostChanged();
         }
 
         return true;
@@ -596,6 +762,7 @@ public class HostSimple implements Host {
             return false;
         }
 
+        notifyDatacenterHostChanged();
         updateProcessing(simulation.clock());
         vm.getHost().updateProcessing(simulation.clock());
 
@@ -653,6 +820,7 @@ public class HostSimple implements Host {
     public Host addOnUpdateProcessingListener(final EventListener<HostUpdatesVmsProcessingEventInfo> listener) {
         Objects.requireNonNull(listener);
         this.onUpdateProcessingListeners.add(listener);
+        notifyDatacenterHostChanged();
         return this;
     }
 
@@ -668,9 +836,7 @@ public class HostSimple implements Host {
 
     @Override
     public long getNumberOfFailedPes() {
-        return peList.stream()
-                .filter(Pe::isFailed)
-                .count();
+        return getNumberOfPes(Pe.Status.FAILED);
     }
 
     private Host setStorage(final long size) {
@@ -741,21 +907,52 @@ public class HostSimple implements Host {
 
     @Override
     public List<Pe> getWorkingPeList() {
-        return getFilteredPeList(Pe::isWorking);
+        if(isPeListChanged() || workingPeList == null) {
+            //Working PEs are the ones which aren't failed
+            final BitSet failedPes = pesByStatus[Pe.Status.FAILED.ordinal()];
+            final List<Pe> list = new ArrayList<>(peList.size() - failedPes.cardinality());
+            for (int i = failedPes.nextClearBit(0); i < peList.size(); i = failedPes.nextClearBit(i + 1)) {
+                list.add(peList.get(i));
+            }
+            workingPeList = Collections.unmodifiableList(list);
+        }
+
+        return workingPeList;
     }
 
     @Override
     public List<Pe> getBuzyPeList() {
-        return getFilteredPeList(Pe::isBuzy);
+        if(isPeListChanged() || buzyPeList == null) {
+            buzyPeList = getPeList(Pe.Status.BUSY);
+        }
+
+        return buzyPeList;
     }
 
     @Override
     public List<Pe> getFreePeList() {
-        return getFilteredPeList(Pe::isFree);
+        if(isPeListChanged() || freePeList == null) {
+            freePeList = getPeList(Pe.Status.FREE);
+        }
+
+        return freePeList;
     }
 
-    private List<Pe> getFilteredPeList(final Predicate<Pe> status) {
-        return peList.stream().filter(status).collect(toList());
+    /**
+     * Gets a read-only list of the PEs in a given status,
+     * in the same order they are in the {@link #peList}.
+     *
+     * @param status the status of the PEs to get
+     * @return
+     */
+    private List<Pe> getPeList(final Pe.Status status) {
+        final BitSet pes = pesByStatus[status.ordinal()];
+        final List<Pe> list = new ArrayList<>(pesCountByStatus[status.ordinal()]);
+        for (int i = pes.nextSetBit(0); i >= 0; i = pes.nextSetBit(i + 1)) {
+            list.add(peList.get(i));
+        }
+
+        return Collections.unmodifiableList(list);
     }
 
     @Override
@@ -823,6 +1020,7 @@ public class HostSimple implements Host {
 
         this.powerModel = powerModel;
         powerModel.setHost(this);
+        notifyDatacenterHostChanged();
         return this;
     }
 
@@ -834,6 +1032,7 @@ public class HostSimple implements Host {
     @Override
     public void enableStateHistory() {
         this.stateHistoryEnabled = true;
+        notifyDatacenterHostChanged();
     }
 
     @Override
@@ -122,6 +122,11 @@ public class NetworkHost extends HostSimple {
         return  timeOfNextFinishingCloudlet;
     }
 
+    @Override
+    public boolean isProcessingUpdateRequired() {
+        return super.isProcessingUpdateRequired() || !hostPktsReceived.isEmpty();
+    }
+
     /**
      * Receives packets and forwards them to targeting VMs and respective Cloudlets.
      */
@@ -132,23 +137,25 @@ public class NetworkHost extends HostSimple {
             final Vm destinationVm = hostPkt.getVmPacket().getDestination();
             //Checks if the destinationVm is inside this host
             if(!getVmList().contains(destinationVm)){
-                logger.error(
-                    "{}: {}: Destination {} was not found inside {}",
-                    getSimulation().clock(), getClass(),
-                    hostPkt.getVmPacket().getDestination(), this);
+                getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                    logger.error(
+                        "{}: {}: Destination {} was not found inside {}",
+                        getSimulation().clock(), getClass(),
+                        hostPkt.getVmPacket().getDestination(), this));
                 return;
             }
 
             final CloudletTaskScheduler taskScheduler = getVmPacketScheduler(destinationVm);
             taskScheduler.addPacketToListOfPacketsSentFromVm(hostPkt.getVmPacket());
-            logger.trace(
-                "{}: {}: {} received pkt with {} bytes from {} in {} and forwarded it to {} in {}",
-                getSimulation().clock(), getClass().getSimpleName(),
-                this, hostPkt.getVmPacket().getSize(),
-                hostPkt.getVmPacket().getSenderCloudlet(),
-                hostPkt.getVmPacket().getSource(),
-                hostPkt.getVmPacket().getReceiverCloudlet(),
-                hostPkt.getVmPacket().getDestination());
+            getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                logger.trace(
+                    "{}: {}: {} received pkt with {} bytes from {} in {} and forwarded it to {} in {}",
+                    getSimulation().clock(), getClass().getSimpleName(),
+                    this, hostPkt.getVmPacket().getSize(),
+                    hostPkt.getVmPacket().getSenderCloudlet(),
+                    hostPkt.getVmPacket().getSource(),
+                    hostPkt.getVmPacket().getReceiverCloudlet(),
+                    hostPkt.getVmPacket().getDestination()));
         }
 
         hostPktsReceived.clear();
@@ -198,9 +205,10 @@ public class NetworkHost extends HostSimple {
             totalDataTransferBytes += hostPkt.getVmPacket().getSize();
 
             // send to Datacenter with delay
-            getSimulation().send(
+            getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                getSimulation().send(
                     getDatacenter(), getEdgeSwitch(),
-                    delay, CloudSimTags.NETWORK_EVENT_UP, hostPkt);
+                    delay, CloudSimTags.NETWORK_EVENT_UP, hostPkt));
         }
 
         pktsToSendForExternalVms.clear();
@@ -297,6 +305,7 @@ public class NetworkHost extends HostSimple {
      */
     public void addReceivedNetworkPacket(HostPacket hostPacket){
         hostPktsReceived.add(hostPacket);
+        notifyDatacenterHostChanged();
     }
 
     /**
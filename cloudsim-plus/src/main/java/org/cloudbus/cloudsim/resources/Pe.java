@@ -43,6 +43,23 @@ public interface Pe extends Identifiable, ResourceManageable {
         FAILED
     }
 
+    /**
+     * A listener notified when the {@link Status} or the capacity of a PE changes.
+     * It enables the {@link org.cloudbus.cloudsim.hosts.Host} owning the PE
+     * to keep track of its PEs in each status, without iterating over all of them.
+     */
+    @FunctionalInterface
+    interface ChangeListener {
+        /**
+         * Notifies the listener that a PE has changed.
+         *
+         * @param pe the PE that has changed
+         * @param previousStatus the status of the PE before the change,
+         *                       which is equal to the current one when just the capacity has changed
+         */
+        void peChanged(Pe pe, Status previousStatus);
+    }
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link Pe}
      * objects.
@@ -130,6 +147,26 @@ public interface Pe extends Identifiable, ResourceManageable {
      */
     boolean setStatus(Status status);
 
+    /**
+     * Sets a listener to be notified when the {@link #getStatus() status}
+     * or the {@link #getCapacity() capacity} of the PE changes.
+     *
+     * <p>A PE has just one listener, which is set by the Host owning the PE.
+     * Setting a new listener replaces the current one. This way, a PE must not be
+     * shared between Hosts: just the last Host that got the PE is notified about its changes.</p>
+     *
+     * <p>The default implementation ignores the listener.
+     * A PE which doesn't notify its changes must not be used by a
+     * {@link org.cloudbus.cloudsim.hosts.HostSimple}, which tracks its PEs by status
+     * using such notifications. {@link PeSimple} notifies its changes.</p>
+     *
+     * @param listener the listener to set or null to remove the current one
+     * @return this PE
+     */
+    default Pe setChangeListener(final ChangeListener listener) {
+        return this;
+    }
+
     /**
      * Checks if the PE is working (not failed).
      * @return
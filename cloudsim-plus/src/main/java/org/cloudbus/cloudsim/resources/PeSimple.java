@@ -36,6 +36,9 @@ public class PeSimple extends ResourceManageableAbstract implements Pe {
     /** @see #getPeProvisioner() */
     private PeProvisioner peProvisioner;
 
+    /** @see #setChangeListener(ChangeListener) */
+    private ChangeListener changeListener;
+
     /**
      * Instantiates a new PE object.
      * The id of the PE is just set when a List of PEs is assigned to a Host.
@@ -86,15 +89,40 @@ public class PeSimple extends ResourceManageableAbstract implements Pe {
 
     @Override
     public final boolean setStatus(Status status) {
+        final Status previousStatus = this.status;
         this.status = status;
+        if(changeListener != null && previousStatus != status){
+            changeListener.peChanged(this, previousStatus);
+        }
+
         return true;
     }
 
+    @Override
+    public final Pe setChangeListener(final ChangeListener listener) {
+        this.changeListener = listener;
+        return this;
+    }
+
     @Override
     public boolean setCapacity(double mipsCapacity) {
         return setCapacity((long)mipsCapacity);
     }
 
+    @Override
+    public boolean setCapacity(final long mipsCapacity) {
+        final long previousCapacity = getCapacity();
+        if(!super.setCapacity(mipsCapacity)) {
+            return false;
+        }
+
+        if(changeListener != null && previousCapacity != mipsCapacity){
+            changeListener.peChanged(this, status);
+        }
+
+        return true;
+    }
+
     @Override
     public final Pe setPeProvisioner(PeProvisioner peProvisioner) {
         Objects.requireNonNull(peProvisioner);
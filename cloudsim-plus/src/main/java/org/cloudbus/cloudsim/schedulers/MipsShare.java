@@ -0,0 +1,234 @@
+package org.cloudbus.cloudsim.schedulers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The MIPS share of a set of PEs, such as the MIPS requested by each PE of a {@link Vm}
+ * or the MIPS allocated to each one of them.
+ *
+ * <p>MIPS are stored as primitive values, avoiding boxing a {@link Double} for each PE
+ * every time a share is built or read. When all PEs have the same MIPS (the usual case),
+ * the share is stored in a compact form, just keeping the number of PEs and the MIPS of each one,
+ * no matter how many PEs there are.</p>
+ *
+ * <p>The class is a {@link List} of MIPS, so that it can be used wherever a {@code List<Double>}
+ * is expected. However, methods such as {@link #get(int)} and {@link #iterator()} box every
+ * returned value. Inside the simulation engine, the primitive {@link #getMips(int)},
+ * {@link #totalMips()} and {@link #maxMips()} methods must be used instead.</p>
+ *
+ * <p>PEs can just be removed from a share. Elements cannot be added or changed.</p>
+ *
+ * @author agent
+ */
+public final class MipsShare extends AbstractList<Double> implements RandomAccess {
+    /**
+     * The MIPS of each PE or null if the share is in the compact form,
+     * where all PEs have the same {@link #mips}.
+     * When not null, just the first {@link #pes} elements are valid.
+     */
+    private double[] values;
+
+    /**
+     * The MIPS of every PE when the share is in the compact form.
+     */
+    private double mips;
+
+    /**
+     * The number of PEs in the share.
+     */
+    private int pes;
+
+    /**
+     * Creates an empty MIPS share.
+     */
+    public MipsShare() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a MIPS share where all PEs have the same MIPS.
+     *
+     * @param pes the number of PEs
+     * @param mips the MIPS of each PE
+     */
+    public MipsShare(final long pes, final double mips) {
+        if (pes < 0) {
+            throw new IllegalArgumentException("The number of PEs cannot be negative.");
+        }
+
+        this.pes = Math.toIntExact(pes);
+        this.mips = mips;
+    }
+
+    /**
+     * Creates a MIPS share from a list containing the MIPS of each PE.
+     * The given list is copied, thus changing it doesn't change the created share.
+     *
+     * @param mipsList the MIPS of each PE
+     */
+    public MipsShare(final List<Double> mipsList) {
+        Objects.requireNonNull(mipsList);
+        if (mipsList instanceof MipsShare) {
+            final MipsShare share = (MipsShare) mipsList;
+            this.pes = share.pes;
+            this.mips = share.mips;
+            this.values = share.values == null ? null : Arrays.copyOf(share.values, share.pes);
+            return;
+        }
+
+        this.pes = mipsList.size();
+        final double[] array = new double[pes];
+        for (int i = 0; i < pes; i++) {
+            array[i] = mipsList.get(i);
+        }
+        setValues(array);
+    }
+
+    private MipsShare(final double[] values) {
+        this.pes = values.length;
+        setValues(values);
+    }
+
+    /**
+     * Sets the MIPS of each PE, storing them in the compact form if all PEs have the same MIPS.
+     * @param array the MIPS of each PE, whose length must be equal to {@link #pes}
+     */
+    private void setValues(final double[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] != array[0]) {
+                this.values = array;
+                return;
+            }
+        }
+
+        this.values = null;
+        this.mips = array.length == 0 ? 0 : array[0];
+    }
+
+    /**
+     * Gets the MIPS of a given PE, without boxing it.
+     *
+     * @param index the index of the PE
+     * @return the MIPS of the PE
+     * @throws IndexOutOfBoundsException when the index is not between [0 and {@link #size()}[
+     */
+    public double getMips(final int index) {
+        if (index < 0 || index >= pes) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + pes);
+        }
+
+        return values == null ? mips : values[index];
+    }
+
+    /**
+     * Gets the sum of the MIPS of all PEs.
+     * @return the total MIPS
+     */
+    public double totalMips() {
+        /* The MIPS are added one by one even in the compact form,
+         * so that the total is the same no matter how the share is stored. */
+        double total = 0;
+        for (int i = 0; i < pes; i++) {
+            total += values == null ? mips : values[i];
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the highest MIPS among all PEs.
+     * @return the maximum MIPS or 0 if the share is empty
+     */
+    public double maxMips() {
+        if (pes == 0) {
+            return 0;
+        }
+
+        if (values == null) {
+            return mips;
+        }
+
+        double max = values[0];
+        for (int i = 1; i < pes; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Creates a new MIPS share by applying a function to the MIPS of each PE.
+     * If the share is in the compact form, the function is applied just once.
+     *
+     * @param operator the function to apply to the MIPS of each PE
+     * @return the new MIPS share
+     */
+    public MipsShare map(final DoubleUnaryOperator operator) {
+        if (values == null) {
+            return new MipsShare(pes, operator.applyAsDouble(mips));
+        }
+
+        final double[] array = new double[pes];
+        for (int i = 0; i < pes; i++) {
+            array[i] = operator.applyAsDouble(values[i]);
+        }
+
+        return new MipsShare(array);
+    }
+
+    /**
+     * Removes a given number of PEs from the beginning of the share.
+     *
+     * @param pesToRemove the number of PEs to remove
+     * @return the number of PEs actually removed,
+     *         which is lower than the requested one if there aren't enough PEs
+     */
+    public int removePes(final int pesToRemove) {
+        final int removed = Math.max(0, Math.min(pesToRemove, pes));
+        if (removed == 0) {
+            return 0;
+        }
+
+        pes -= removed;
+        if (values != null) {
+            System.arraycopy(values, removed, values, 0, pes);
+        }
+
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public Double get(final int index) {
+        return getMips(index);
+    }
+
+    @Override
+    public Double remove(final int index) {
+        final double removed = getMips(index);
+        pes--;
+        if (values != null) {
+            System.arraycopy(values, index + 1, values, index, pes - index);
+        }
+
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return pes;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return pes == 0;
+    }
+}
@@ -11,10 +11,13 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.network.VmPacket;
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.io.Serializable;
@@ -135,6 +138,17 @@ public interface CloudletScheduler extends Serializable {
      */
     Set<Cloudlet> getCloudletReturnedList();
 
+    /**
+     * Gets a <b>read-only</b> set of Cloudlets that finished executing but were not returned to their broker yet,
+     * in the order they finished.
+     * This way, there is no need to go through all the {@link #getCloudletFinishedList() finished Cloudlets}
+     * to find out which ones have to be returned.
+     *
+     * @return
+     * @see #addCloudletToReturnedList(Cloudlet)
+     */
+    Set<Cloudlet> getCloudletToReturnList();
+
     /**
      * Gets a list of finished cloudlets.
      *
@@ -311,7 +325,26 @@ public interface CloudletScheduler extends Serializable {
      * @pre currentTime >= 0
      * @post $none
      */
-    double updateProcessing(double currentTime, List<Double> mipsShare);
+    double updateProcessing(double currentTime, MipsShare mipsShare);
+
+    /**
+     * Updates the processing of cloudlets inside the Vm running under management of this scheduler.
+     * It's just an adapter for {@link #updateProcessing(double, MipsShare)}
+     * that copies the given list into a {@link MipsShare}.
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare list with MIPS share of each Pe available to the scheduler
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @deprecated Use {@link #updateProcessing(double, MipsShare)} instead.
+     * The simulation just calls the {@link MipsShare} version of this method.
+     * Overriding this one has no effect on the simulation.
+     */
+    @Deprecated
+    default double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        return updateProcessing(currentTime, new MipsShare(mipsShare));
+    }
 
     /**
      * Gets the Vm that uses the scheduler.
@@ -382,4 +415,75 @@ public interface CloudletScheduler extends Serializable {
      * @param cloudlet the Cloudlet to be added
      */
 	void addCloudletToReturnedList(Cloudlet cloudlet);
+
+    /**
+     * Enables removing finished Cloudlets from the scheduler
+     * as soon as they are returned to their {@link DatacenterBroker}.
+     * This way, such Cloudlets are neither kept in the {@link #getCloudletFinishedList() finished}
+     * nor in the {@link #getCloudletReturnedList() returned} lists,
+     * so that the memory used by the scheduler doesn't grow
+     * in simulations with a huge number of Cloudlets.
+     * The broker keeps receiving every finished Cloudlet as usual.
+     *
+     * @see #disableFinishedCloudletsRemoval()
+     */
+    void enableFinishedCloudletsRemoval();
+
+    /**
+     * Disables removing finished Cloudlets from the scheduler when they are returned to their broker,
+     * which is the default behaviour.
+     * Cloudlets already removed are not restored.
+     *
+     * @see #enableFinishedCloudletsRemoval()
+     */
+    void disableFinishedCloudletsRemoval();
+
+    /**
+     * Checks if finished Cloudlets are removed from the scheduler when they are returned to their broker.
+     * @return
+     * @see #enableFinishedCloudletsRemoval()
+     */
+    boolean isFinishedCloudletsRemovalEnabled();
+
+    /**
+     * Enables fast-forwarding the processing of Cloudlets
+     * while all of them have {@link UtilizationModel#isConstant() constant utilization}.
+     * In such a case, the progress of Cloudlets is linear along the time
+     * and can be computed for any time span.
+     * This way, if the processing of all VMs in a {@link Datacenter} can be fast-forwarded,
+     * such a Datacenter just updates the processing of Cloudlets when some Cloudlet
+     * is expected to finish or something changes (such as the arrival of a new Cloudlet),
+     * ignoring its {@link Datacenter#getSchedulingInterval() scheduling interval}.
+     * That may largely reduce the number of events for batch workloads.
+     *
+     * <p><b>Since there are fewer processing updates, there are fewer notifications
+     * to update processing listeners and fewer entries in utilization and state histories.</b></p>
+     *
+     * @see #disableFastForward()
+     * @see #isFastForwardPossible()
+     */
+    void enableFastForward();
+
+    /**
+     * Disables fast-forwarding the processing of Cloudlets, which is the default behaviour.
+     *
+     * @see #enableFastForward()
+     */
+    void disableFastForward();
+
+    /**
+     * Checks if fast-forwarding the processing of Cloudlets is enabled.
+     * @return
+     * @see #enableFastForward()
+     */
+    boolean isFastForwardEnabled();
+
+    /**
+     * Checks if the processing of Cloudlets can be fast-forwarded currently,
+     * i.e., if {@link #enableFastForward() fast-forward} is enabled and
+     * all Cloudlets in execution have constant CPU, RAM and BW utilization.
+     *
+     * @return true if the processing can be fast-forwarded, false otherwise
+     */
+    boolean isFastForwardPossible();
 }
@@ -12,8 +12,10 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.resources.Ram;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.IndexedList;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
@@ -22,7 +24,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.collectingAndThen;
@@ -67,15 +68,71 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     /**
      * @see #getCurrentMipsShare()
      */
-    private List<Double> currentMipsShare;
+    private MipsShare currentMipsShare;
+
+    /**
+     * The sum of all MIPS in the {@link #currentMipsShare},
+     * which is just recomputed when such a List changes.
+     * @see #getTotalMipsShare()
+     */
+    private double totalMipsShare;
+
+    /**
+     * The size of the {@link #currentMipsShare} when the {@link #totalMipsShare} was computed,
+     * used to find out if PEs were removed from such a List after that.
+     */
+    private int totalMipsShareSize;
+
+    /**
+     * The sum of PEs required by all cloudlets in the {@link #cloudletExecList},
+     * which is updated as cloudlets are added to or removed from such a List,
+     * instead of iterating over it every time this value is needed.
+     * @see #totalPesOfAllExecCloudlets()
+     */
+    private long totalPesOfAllExecCloudlets;
+    /**
+     * The Cloudlets in execution, in the order they were added.
+     * Since a {@link CloudletExecution} is identified by the Cloudlet id,
+     * a Cloudlet is removed from this Set in constant time.
+     * @see #getCloudletExecList()
+     */
+    private final Set<CloudletExecution> cloudletExecList;
+
     /**
+     * A read-only copy of the {@link #cloudletExecList}, which is created
+     * when requested and cleared when such a Set changes.
      * @see #getCloudletExecList()
      */
-    private final List<CloudletExecution> cloudletExecList;
+    private List<CloudletExecution> cloudletExecListView;
+
     /**
+     * The Cloudlets waiting to run, which may be kept
+     * in an ordered structure by a scheduler that requires so.
      * @see #getCloudletWaitingList()
      */
-    private final List<CloudletExecution> cloudletWaitingList;
+    private final Collection<CloudletExecution> cloudletWaitingList;
+
+    /**
+     * A read-only view of the {@link #cloudletWaitingList}.
+     * If the waiting Cloudlets are stored into a {@link List}, it's a view
+     * created just once. Otherwise, it's a copy which is created when requested
+     * and cleared when the waiting Cloudlets change.
+     * @see #getCloudletWaitingList()
+     */
+    private List<CloudletExecution> cloudletWaitingListView;
+
+    /**
+     * An index of Cloudlets in the {@link #cloudletExecList}, {@link #cloudletWaitingList}
+     * and {@link #cloudletPausedList}, where each key is a Cloudlet id.
+     * It enables finding such Cloudlets without iterating over these lists.
+     * Every Cloudlet added to these lists is indexed, including the ones
+     * sub-classes add directly to the {@link #getCloudletPausedList() paused list}.
+     * Since sub-classes may also remove Cloudlets from the paused list,
+     * the lists are the ones defining the state of each Cloudlet.
+     *
+     * @see #findActiveCloudlet(double)
+     */
+    private final Map<Integer, CloudletExecution> cloudletsById;
 
     /**
      * @see #getVm()
@@ -87,19 +144,66 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private final Set<Cloudlet> cloudletReturnedList;
 
+    /**
+     * @see #getCloudletToReturnList()
+     */
+    private final Set<Cloudlet> cloudletToReturnList;
+
+    /**
+     * Returned Cloudlets which have to be removed from the {@link #cloudletFinishedList}
+     * when the {@link #isFinishedCloudletsRemovalEnabled() finished Cloudlets removal} is enabled.
+     * They are removed all at once the next time the finished list is used,
+     * instead of going through such a list for every returned Cloudlet.
+     */
+    private final Set<Cloudlet> cloudletsToRemoveFromFinishedList;
+
+    /**
+     * @see #isFinishedCloudletsRemovalEnabled()
+     */
+    private boolean finishedCloudletsRemovalEnabled;
+
+    /**
+     * @see #isFastForwardEnabled()
+     */
+    private boolean fastForwardEnabled;
+
+    /**
+     * Indicates if all Cloudlets in the {@link #getCloudletExecList() execution list}
+     * have constant utilization, as checked at the last processing update and
+     * when Cloudlets started executing after that.
+     * It's just checked when {@link #isFastForwardEnabled() fast-forward} is enabled.
+     */
+    private boolean utilizationOfAllCloudletsConstant;
+
     /**
      * Creates a new CloudletScheduler object.
      */
     protected CloudletSchedulerAbstract() {
+        this(new IndexedList<>());
+    }
+
+    /**
+     * Creates a new CloudletScheduler object that stores waiting Cloudlets into a given Collection.
+     * A scheduler requiring waiting Cloudlets to be always sorted in a given order
+     * may provide a sorted Collection such as a {@link TreeSet}.
+     * In such a case, the scheduler must ensure that the attributes used to sort the Collection
+     * aren't changed while a Cloudlet is inside it.
+     *
+     * @param cloudletWaitingList the empty Collection to store waiting Cloudlets
+     */
+    protected CloudletSchedulerAbstract(final Collection<CloudletExecution> cloudletWaitingList) {
         setPreviousTime(0.0);
         vm = Vm.NULL;
-        cloudletExecList = new ArrayList<>();
-        cloudletPausedList = new ArrayList<>();
+        cloudletExecList = new LinkedHashSet<>();
+        cloudletPausedList = new PausedCloudletList();
+        cloudletsById = new HashMap<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingList = Objects.requireNonNull(cloudletWaitingList);
         cloudletReturnedList = new HashSet<>();
-        currentMipsShare = new ArrayList<>();
+        cloudletsToRemoveFromFinishedList = new HashSet<>();
+        cloudletToReturnList = new LinkedHashSet<>();
+        currentMipsShare = new MipsShare();
         taskScheduler = CloudletTaskScheduler.NULL;
     }
 
@@ -130,11 +234,29 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param currentMipsShare the new current mips share
      * @see #getCurrentMipsShare()
      */
-    protected void setCurrentMipsShare(final List<Double> currentMipsShare) {
+    protected void setCurrentMipsShare(final MipsShare currentMipsShare) {
         if(currentMipsShare.size() > vm.getNumberOfPes()){
-            logger.warn("Requested {} PEs but {} has just {}", currentMipsShare.size(), vm, vm.getNumberOfPes());
+            vm.getHost().getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                logger.warn("Requested {} PEs but {} has just {}", currentMipsShare.size(), vm, vm.getNumberOfPes()));
         }
         this.currentMipsShare = currentMipsShare;
+        updateTotalMipsShare();
+    }
+
+    /**
+     * Sets the list of current mips share available for the VM using the
+     * scheduler, copying the given list into a {@link MipsShare}.
+     *
+     * @param currentMipsShare the new current mips share
+     * @see #setCurrentMipsShare(MipsShare)
+     */
+    protected void setCurrentMipsShare(final List<Double> currentMipsShare) {
+        setCurrentMipsShare(new MipsShare(currentMipsShare));
+    }
+
+    private void updateTotalMipsShare() {
+        totalMipsShare = currentMipsShare.totalMips();
+        totalMipsShareSize = currentMipsShare.size();
     }
 
     /**
@@ -167,8 +289,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return getPeCapacity();
     }
 
-    private Double getPeCapacity() {
-        return currentMipsShare.stream().findFirst().orElse(0.0);
+    private double getPeCapacity() {
+        return currentMipsShare.isEmpty() ? 0.0 : currentMipsShare.getMips(0);
     }
 
     /**
@@ -176,18 +298,26 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return
      */
     private long totalPesOfAllExecCloudlets() {
-        return cloudletExecList.stream()
-            .map(CloudletExecution::getCloudlet)
-            .mapToLong(Cloudlet::getNumberOfPes).sum();
+        return totalPesOfAllExecCloudlets;
     }
 
     private double getTotalMipsShare(){
-        return currentMipsShare.stream().mapToDouble(d -> d).sum();
+        /* The List may be shared with the VmScheduler, which can remove PEs from it.
+         * In such a case, the total is recomputed. */
+        if(totalMipsShareSize != currentMipsShare.size()){
+            updateTotalMipsShare();
+        }
+
+        return totalMipsShare;
     }
 
     @Override
     public List<CloudletExecution> getCloudletExecList() {
-        return Collections.unmodifiableList(cloudletExecList);
+        if(cloudletExecListView == null){
+            cloudletExecListView = Collections.unmodifiableList(new ArrayList<>(cloudletExecList));
+        }
+
+        return cloudletExecListView;
     }
 
     protected void addCloudletToWaitingList(final CloudletExecution cloudlet) {
@@ -198,11 +328,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
         cloudlet.setCloudletStatus(Cloudlet.Status.QUEUED);
         cloudletWaitingList.add(cloudlet);
+        cloudletsById.put(cloudlet.getCloudletId(), cloudlet);
+        clearCloudletWaitingListCopy();
     }
 
 
     /**
-     * Gets the list of paused cloudlets.
+     * Gets the list of paused cloudlets, in the order they were paused.
+     * The list finds and removes Cloudlets in constant time
+     * and doesn't accept the same Cloudlet twice.
      *
      * @return the cloudlet paused list
      */
@@ -212,11 +346,27 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public List<CloudletExecution> getCloudletFinishedList() {
+        removeReturnedCloudletsFromFinishedList();
         return cloudletFinishedList;
     }
 
+    /**
+     * Removes from the {@link #cloudletFinishedList} the Cloudlets returned
+     * since the last time such a list was used, going through the list just once.
+     */
+    private void removeReturnedCloudletsFromFinishedList() {
+        if(cloudletsToRemoveFromFinishedList.isEmpty()){
+            return;
+        }
+
+        cloudletFinishedList.removeIf(ce -> cloudletsToRemoveFromFinishedList.contains(ce.getCloudlet()));
+        cloudletsToRemoveFromFinishedList.clear();
+    }
+
     protected void addCloudletToFinishedList(final CloudletExecution cloudlet) {
         cloudletFinishedList.add(cloudlet);
+        cloudletToReturnList.add(cloudlet.getCloudlet());
+        vm.getHost().getDatacenter().notifyCloudletsFinished(vm);
     }
 
     /**
@@ -230,15 +380,49 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public List<CloudletExecution> getCloudletWaitingList() {
-        return Collections.unmodifiableList(cloudletWaitingList);
+        if(cloudletWaitingListView == null){
+            cloudletWaitingListView = cloudletWaitingList instanceof List ?
+                Collections.unmodifiableList((List<CloudletExecution>) cloudletWaitingList) :
+                Collections.unmodifiableList(new ArrayList<>(cloudletWaitingList));
+        }
+
+        return cloudletWaitingListView;
+    }
+
+    /**
+     * Clears the read-only copy of the {@link #cloudletWaitingList}
+     * after such a Collection changes.
+     * If the waiting Cloudlets are stored into a {@link List},
+     * the view already reflects the changes and is kept.
+     */
+    private void clearCloudletWaitingListCopy() {
+        if(!(cloudletWaitingList instanceof List)){
+            cloudletWaitingListView = null;
+        }
     }
 
     /**
      * Sorts the {@link #cloudletWaitingList} using a given {@link Comparator}.
+     * If the waiting Cloudlets are stored into a {@link SortedSet},
+     * they are already kept in the order defined by such a Set and aren't sorted again.
+     *
      * @param comparator the {@link Comparator} to sort the Waiting Cloudlets List
      */
     protected void sortCloudletWaitingList(final Comparator<CloudletExecution> comparator){
-        cloudletWaitingList.sort(comparator);
+        if(cloudletWaitingList instanceof SortedSet){
+            return;
+        }
+
+        if(cloudletWaitingList instanceof List){
+            ((List<CloudletExecution>) cloudletWaitingList).sort(comparator);
+            return;
+        }
+
+        final List<CloudletExecution> sortedList = new ArrayList<>(cloudletWaitingList);
+        sortedList.sort(comparator);
+        cloudletWaitingList.clear();
+        cloudletWaitingList.addAll(sortedList);
+        clearCloudletWaitingListCopy();
     }
 
     @Override
@@ -276,12 +460,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudlet.setCloudletStatus(Cloudlet.Status.INEXEC);
         cloudlet.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cloudlet);
+        cloudletExecListView = null;
+        cloudletsById.put(cloudlet.getCloudletId(), cloudlet);
+        totalPesOfAllExecCloudlets += cloudlet.getNumberOfPes();
         addUsedPes(cloudlet.getNumberOfPes());
+        if(fastForwardEnabled) {
+            utilizationOfAllCloudletsConstant = utilizationOfAllCloudletsConstant && isUtilizationConstant(cloudlet.getCloudlet());
+        }
     }
 
     @Override
     public boolean hasFinishedCloudlets() {
-        return !cloudletFinishedList.isEmpty();
+        return !getCloudletFinishedList().isEmpty();
     }
 
     @Override
@@ -330,14 +520,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecution> findCloudletInAllLists(final double cloudletId) {
-        //Concatenate all lists into a stream
-        final Stream<List<CloudletExecution>> streamOfAllLists
-            = Stream.of(cloudletExecList, cloudletPausedList, cloudletWaitingList,
-            cloudletFinishedList, cloudletFailedList);
-
-        //Gets all elements in each list and makes them a single full list,
-        //returning the first Cloudlet with the given id
-        return streamOfAllLists
+        final CloudletExecution ce = findActiveCloudlet(cloudletId);
+        if(ce != CloudletExecution.NULL){
+            return Optional.of(ce);
+        }
+
+        return Stream.of(getCloudletFinishedList(), cloudletFailedList)
             .flatMap(List::stream)
             .filter(c -> c.getCloudletId() == cloudletId)
             .findFirst();
@@ -345,18 +533,46 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     /**
      * Search for a Cloudlet into a given list.
+     * If the list is the execution, waiting or paused one,
+     * the Cloudlet is usually found without iterating over the list.
      *
      * @param cloudletId the id of the Cloudlet to search for
      * @param list       the list to search the Cloudlet into
      * @return an {@link Optional} value that is able to indicate if the
      * Cloudlet was found or not
      */
-    protected Optional<CloudletExecution> findCloudletInList(final double cloudletId, final List<CloudletExecution> list) {
+    protected Optional<CloudletExecution> findCloudletInList(final double cloudletId, final Collection<CloudletExecution> list) {
+        if(isActiveCloudletList(list)){
+            final CloudletExecution ce = findActiveCloudlet(cloudletId);
+            return ce != CloudletExecution.NULL && list.contains(ce) ? Optional.of(ce) : Optional.empty();
+        }
+
         return list.stream()
             .filter(ce -> ce.getCloudletId() == cloudletId)
             .findFirst();
     }
 
+    private boolean isActiveCloudletList(final Collection<CloudletExecution> list) {
+        return list == cloudletExecList || list == cloudletWaitingList || list == cloudletPausedList;
+    }
+
+    /**
+     * Finds a Cloudlet in the execution, waiting or paused list,
+     * using the {@link #cloudletsById} index, without iterating over these lists.
+     *
+     * @param cloudletId the id of the Cloudlet to search for
+     * @return the found Cloudlet or {@link CloudletExecution#NULL} if it's not
+     *         in the execution, waiting or paused list
+     */
+    private CloudletExecution findActiveCloudlet(final double cloudletId) {
+        final CloudletExecution ce = cloudletsById.get((int)cloudletId);
+        return ce != null && ce.getCloudletId() == cloudletId && isCloudletActive(ce) ? ce : CloudletExecution.NULL;
+    }
+
+    private boolean isCloudletActive(final CloudletExecution ce) {
+        return cloudletExecList.contains(ce) || cloudletPausedList.contains(ce) || cloudletWaitingList.contains(ce);
+    }
+
     @Override
     public void cloudletFinish(final CloudletExecution ce) {
         ce.setCloudletStatus(Cloudlet.Status.SUCCESS);
@@ -384,10 +600,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     @Override
     public Cloudlet cloudletCancel(final int cloudletId) {
         Cloudlet cloudlet;
-        //Removes finished cloudlets from the list
-        cloudlet = changeStatusOfCloudletIntoList(cloudletFinishedList, cloudletId, c -> {});
-        if (cloudlet != Cloudlet.NULL) {
-            return cloudlet;
+        /*Removes finished cloudlets from the list.
+        * An unfinished Cloudlet which is running, waiting or paused isn't searched there,
+        * avoiding iterating over the usually large finished list.*/
+        final CloudletExecution activeCloudlet = findActiveCloudlet(cloudletId);
+        if(activeCloudlet == CloudletExecution.NULL || activeCloudlet.getCloudlet().isFinished()) {
+            cloudlet = changeStatusOfCloudletIntoList(getCloudletFinishedList(), cloudletId, c -> cloudletToReturnList.remove(c.getCloudlet()));
+            if (cloudlet != Cloudlet.NULL) {
+                return cloudlet;
+            }
         }
 
         cloudlet = changeStatusOfCloudletIntoList(
@@ -434,6 +655,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         switch (newStatus) {
             case PAUSED:
                 cloudletPausedList.add(cloudlet);
+                cloudletsById.put(cloudlet.getCloudletId(), cloudlet);
             break;
         }
     }
@@ -450,25 +672,31 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * given list
      */
     private Cloudlet changeStatusOfCloudletIntoList(
-        final List<CloudletExecution> cloudletList,
+        final Collection<CloudletExecution> cloudletList,
         final int cloudletId,
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
         final Function<CloudletExecution, Cloudlet> removeCloudletFromListAndUpdateItsStatus = c -> {
+            if(cloudletList == cloudletExecList){
+                totalPesOfAllExecCloudlets -= c.getNumberOfPes();
+                cloudletExecListView = null;
+            }
             cloudletList.remove(c);
+            cloudletsById.remove(c.getCloudletId());
+            if(cloudletList == cloudletWaitingList){
+                clearCloudletWaitingListCopy();
+            }
             cloudletStatusUpdaterConsumer.accept(c);
             return c.getCloudlet();
         };
 
-        return cloudletList.stream()
-            .filter(c -> c.getCloudlet().getId() == cloudletId)
-            .findFirst()
+        return findCloudletInList(cloudletId, cloudletList)
             .map(removeCloudletFromListAndUpdateItsStatus)
             .orElse(Cloudlet.NULL);
     }
 
     @Override
-    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+    public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
         setCurrentMipsShare(mipsShare);
 
         if (isEmpty()) {
@@ -480,6 +708,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         updateVmRamAbsoluteUtilization();
         removeFinishedCloudletsFromExecutionListAndAddToFinishedList();
         moveNextCloudletsFromWaitingToExecList();
+        if(fastForwardEnabled) {
+            utilizationOfAllCloudletsConstant = isUtilizationOfAllCloudletsConstant();
+        }
 
         final double nextSimulationTime = getEstimatedFinishTimeOfSoonerFinishingCloudlet(currentTime);
         setPreviousTime(currentTime);
@@ -495,11 +726,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private void updateCloudletsProcessing(final double currentTime) {
-        /* Uses a traditional for to avoid ConcurrentModificationException,
-         * e.g., in cases when Cloudlet is cancelled during simulation execution. */
-        for (int i = 0; i < cloudletExecList.size(); i++) {
-            final CloudletExecution ce = cloudletExecList.get(i);
-            updateCloudletProcessingAndPacketsDispatch(ce, currentTime);
+        /* Iterates over a copy of the exec list to avoid ConcurrentModificationException,
+         * e.g., in cases when Cloudlet is cancelled during simulation execution.
+         * Cloudlets removed from the exec list meanwhile are not updated. */
+        final List<CloudletExecution> execList = getCloudletExecList();
+        for (int i = 0; i < execList.size(); i++) {
+            final CloudletExecution ce = execList.get(i);
+            if(cloudletExecList.contains(ce)) {
+                updateCloudletProcessingAndPacketsDispatch(ce, currentTime);
+            }
         }
     }
 
@@ -556,9 +791,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
                         ram.getAvailableResource() > 0 ?
                         String.format("just %d was available and allocated to it.", ram.getAvailableResource()):
                         "no amount is available.";
-                logger.warn(
-                    "{}: {}: {} requested {} MB of RAM but {}",
-                    vm.getSimulation().clock(), getClass().getSimpleName(), cloudlet, requested, msg);
+                vm.getHost().getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                    logger.warn(
+                        "{}: {}: {} requested {} MB of RAM but {}",
+                        vm.getSimulation().clock(), getClass().getSimpleName(), cloudlet, requested, msg));
             }
             ram.allocateResource(Math.min(requested, ram.getAvailableResource()));
         }
@@ -682,7 +918,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cloudlet) {
         removeUsedPes(cloudlet.getNumberOfPes());
-        return cloudletExecList.remove(cloudlet) ? cloudlet : CloudletExecution.NULL;
+        if(!cloudletExecList.remove(cloudlet)){
+            return CloudletExecution.NULL;
+        }
+
+        cloudletExecListView = null;
+        cloudletsById.remove(cloudlet.getCloudletId());
+        totalPesOfAllExecCloudlets -= cloudlet.getNumberOfPes();
+        return cloudlet;
     }
 
     /**
@@ -705,10 +948,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * (which is a relative delay from the current simulation time)
      */
     protected double getEstimatedFinishTimeOfSoonerFinishingCloudlet(final double currentTime) {
-        return cloudletExecList
-            .stream()
-            .mapToDouble(c -> getEstimatedFinishTimeOfCloudlet(c, currentTime))
-            .min().orElse(Double.MAX_VALUE);
+        double soonerFinishTime = Double.MAX_VALUE;
+        for (final CloudletExecution ce : cloudletExecList) {
+            soonerFinishTime = Math.min(soonerFinishTime, getEstimatedFinishTimeOfCloudlet(ce, currentTime));
+        }
+
+        return soonerFinishTime;
     }
 
     /**
@@ -753,7 +998,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * <p>
      * <p>
      * This method is called internally by the
-     * {@link CloudletScheduler#updateProcessing(double, List)} one.</p>
+     * {@link CloudletScheduler#updateProcessing(double, MipsShare)} one.</p>
      *
      * @pre currentTime >= 0
      * @post $none
@@ -798,6 +1043,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         /*If the Cloudlet is not found in the waiting List, there is no problem.
         * Just add it to the exec List.*/
         cloudletWaitingList.remove(cloudlet);
+        cloudletsById.remove(cloudlet.getCloudletId());
+        clearCloudletWaitingListCopy();
         addCloudletToExecList(cloudlet);
         return cloudlet;
     }
@@ -970,21 +1217,102 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return Collections.unmodifiableSet(cloudletReturnedList);
     }
 
+    @Override
+    public Set<Cloudlet> getCloudletToReturnList() {
+        return Collections.unmodifiableSet(cloudletToReturnList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the {@link #isFinishedCloudletsRemovalEnabled() finished Cloudlets removal} is enabled,
+     * returned Cloudlets aren't stored anymore. This way, any finished Cloudlet
+     * that was executed by this scheduler's VM and isn't waiting to be returned
+     * is considered as returned.
+     *
+     * @param cloudlet {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean isCloudletReturned(final Cloudlet cloudlet) {
+        if(finishedCloudletsRemovalEnabled) {
+            return vm.equals(cloudlet.getVm()) && cloudlet.isFinished() && !cloudletToReturnList.contains(cloudlet);
+        }
+
         return cloudletReturnedList.contains(cloudlet);
     }
 
     @Override
     public void addCloudletToReturnedList(final Cloudlet cloudlet) {
+        this.cloudletToReturnList.remove(cloudlet);
+        if(finishedCloudletsRemovalEnabled){
+            /* Since returned Cloudlets are removed from the finished list,
+             * it just stores the few ones waiting to be returned.
+             * A batch of returned Cloudlets is removed at once when the list is used again. */
+            cloudletsToRemoveFromFinishedList.add(cloudlet);
+            return;
+        }
+
         this.cloudletReturnedList.add(cloudlet);
     }
 
+    @Override
+    public void enableFinishedCloudletsRemoval() {
+        this.finishedCloudletsRemovalEnabled = true;
+    }
+
+    @Override
+    public void disableFinishedCloudletsRemoval() {
+        this.finishedCloudletsRemovalEnabled = false;
+    }
+
+    @Override
+    public boolean isFinishedCloudletsRemovalEnabled() {
+        return finishedCloudletsRemovalEnabled;
+    }
+
+    @Override
+    public void enableFastForward() {
+        this.fastForwardEnabled = true;
+        this.utilizationOfAllCloudletsConstant = isUtilizationOfAllCloudletsConstant();
+    }
+
+    @Override
+    public void disableFastForward() {
+        this.fastForwardEnabled = false;
+    }
+
+    @Override
+    public boolean isFastForwardEnabled() {
+        return fastForwardEnabled;
+    }
+
+    @Override
+    public boolean isFastForwardPossible() {
+        return fastForwardEnabled && utilizationOfAllCloudletsConstant;
+    }
+
+    private boolean isUtilizationOfAllCloudletsConstant() {
+        for (final CloudletExecution ce : cloudletExecList) {
+            if (!isUtilizationConstant(ce.getCloudlet())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isUtilizationConstant(final Cloudlet cloudlet) {
+        return cloudlet.getUtilizationModelCpu().isConstant() &&
+               cloudlet.getUtilizationModelRam().isConstant() &&
+               cloudlet.getUtilizationModelBw().isConstant();
+    }
+
     @Override
     public void deallocatePesFromVm(int pesToRemove) {
         pesToRemove = Math.min(pesToRemove, currentMipsShare.size());
         removeUsedPes(pesToRemove);
-        IntStream.range(0, pesToRemove).forEach(i -> currentMipsShare.remove(0));
+        currentMipsShare.removePes(pesToRemove);
+        updateTotalMipsShare();
     }
 
     @Override
@@ -998,4 +1326,70 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     public boolean isEmpty() {
         return cloudletExecList.isEmpty() && cloudletWaitingList.isEmpty();
     }
+
+    /**
+     * A {@link List} of paused Cloudlets that finds and removes Cloudlets in constant time
+     * and indexes the Cloudlets added to it into the {@link #cloudletsById},
+     * including the ones sub-classes add directly to the List.
+     */
+    private final class PausedCloudletList extends AbstractList<CloudletExecution> implements RandomAccess {
+        private final List<CloudletExecution> cloudlets = new IndexedList<>();
+
+        @Override
+        public CloudletExecution get(final int index) {
+            return cloudlets.get(index);
+        }
+
+        @Override
+        public CloudletExecution set(final int index, final CloudletExecution cloudlet) {
+            final CloudletExecution previous = cloudlets.set(index, cloudlet);
+            cloudletsById.put(cloudlet.getCloudletId(), cloudlet);
+            return previous;
+        }
+
+        @Override
+        public void add(final int index, final CloudletExecution cloudlet) {
+            cloudlets.add(index, cloudlet);
+            cloudletsById.put(cloudlet.getCloudletId(), cloudlet);
+            modCount++;
+        }
+
+        @Override
+        public CloudletExecution remove(final int index) {
+            modCount++;
+            return cloudlets.remove(index);
+        }
+
+        @Override
+        public boolean remove(final Object cloudlet) {
+            modCount++;
+            return cloudlets.remove(cloudlet);
+        }
+
+        @Override
+        public boolean contains(final Object cloudlet) {
+            return cloudlets.contains(cloudlet);
+        }
+
+        @Override
+        public int indexOf(final Object cloudlet) {
+            return cloudlets.indexOf(cloudlet);
+        }
+
+        @Override
+        public int lastIndexOf(final Object cloudlet) {
+            return cloudlets.lastIndexOf(cloudlet);
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            cloudlets.clear();
+        }
+
+        @Override
+        public int size() {
+            return cloudlets.size();
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.util.MathUtil;
 
 import java.util.function.Predicate;
@@ -61,6 +62,13 @@ import static java.util.stream.Collectors.toList;
  *     The timeslice is the amount of time that a process is allowed to use the CPU before be preempted to make
  *     room for other process to run.
  *     The CFS scheduler uses a dynamic defined timeslice.</li>
+ *     <li>Keeps the runqueue into a Red-Black tree (a {@link TreeSet}), as in real implementations of CFS,
+ *     sorting waiting Cloudlets increasingly based on their virtual runtime (vruntime or VRT)
+ *     (placing the Cloudlets that have run the least at the top of the tree).
+ *     Since different Cloudlets may have the same virtual runtime, Cloudlets are sorted
+ *     by their priorities and IDs when their virtual runtimes are equal.
+ *     This way, inserting, removing and getting the next Cloudlet to run are O(log n) operations,
+ *     no matter how many Cloudlets are waiting.</li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -82,14 +90,6 @@ import static java.util.stream.Collectors.toList;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS,
- *	   to sort waiting Cloudlets (runqueue list) increasingly, based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree).
- *	   Furthermore, the use of such a data structure added some complexity to the implementation.
- *	   Since different Cloudlets may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.</li>
  * </ul>
  * </p>
  *
@@ -127,6 +127,27 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 */
 	private int latency = 3;
 
+    /**
+     * The runqueue, where waiting Cloudlets are kept sorted by the {@link #waitingCloudletsComparator(CloudletExecution, CloudletExecution)}.
+     * It's the same Collection used by the super class to store waiting Cloudlets.
+     * The virtual runtime of a Cloudlet must not be changed while it's inside this Set.
+     *
+     * @see #getCloudletWaitingList()
+     */
+    private final NavigableSet<CloudletExecution> runQueue;
+
+    /**
+     * Creates a Completely Fair Scheduler.
+     */
+    public CloudletSchedulerCompletelyFair() {
+        this(new TreeSet<>(CloudletSchedulerCompletelyFair::waitingCloudletsComparator));
+    }
+
+    private CloudletSchedulerCompletelyFair(final NavigableSet<CloudletExecution> runQueue) {
+        super(runQueue);
+        this.runQueue = runQueue;
+    }
+
     /**
      * A comparator used to ascendingly sort Cloudlets into the waiting list
      * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
@@ -134,12 +155,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * prioritized when getting Cloudlets from this list to add to the execution
      * list.
      *
+     * <p>Cloudlets having the same vruntime are sorted by priority and then by ID.
+     * Since the IDs of Cloudlets running inside a VM are unique, the comparator
+     * never considers two distinct Cloudlets as equal.</p>
+     *
      * @param c1 first Cloudlet to compare
      * @param c2 second Cloudlet to compare
      * @return a negative value if c1 is lower than c2, zero if they are equals,
      * a positive value if c1 is greater than c2
      */
-    private int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
+    private static int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
         final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
         if (vRuntimeDiff != 0) {
             return MathUtil.doubleToInt(vRuntimeDiff);
@@ -218,25 +243,17 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * there is no point in using different run queues.
      * </p>
      *
-     * @return
-     */
-    @Override
-    public List<CloudletExecution> getCloudletWaitingList() {
-        return super.getCloudletWaitingList();
-    }
-
-    /**
-     * {@inheritDoc}
-     * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime or VRT),
+     * <p>The list is sorted according to the virtual runtime (vruntime or VRT),
      * which indicates the amount of time the Cloudlet has run.
      * This runtime increases as the Cloudlet executes.
+     * Since the runqueue is stored into a Red-Black tree, a new list is created
+     * each time this method is called.</p>
      *
-     * @return {@inheritDoc}
+     * @return
      */
     @Override
-    protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
-        return super.findSuitableWaitingCloudlet();
+    public List<CloudletExecution> getCloudletWaitingList() {
+        return super.getCloudletWaitingList();
     }
 
 	/**
@@ -356,7 +373,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * the time of the next expiring Cloudlet, enabling the preemption process), or Double.MAX_VALUE if there is no next events
      */
     @Override
-    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+    public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
         super.updateProcessing(currentTime, mipsShare);
         return getCloudletExecList().stream()
                 .mapToDouble(CloudletExecution::getTimeSlice)
@@ -480,9 +497,15 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reset so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again.
+        Cloudlets still waiting are removed from the runqueue before
+        changing their vruntime, then inserted again at their new position.*/
         for(final CloudletExecution c: preemptedCloudlets) {
+            final boolean waiting = runQueue.remove(c);
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(waiting) {
+                runQueue.add(c);
+            }
         }
     }
 
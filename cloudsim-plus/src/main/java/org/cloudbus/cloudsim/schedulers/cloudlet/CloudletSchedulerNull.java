@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -74,7 +75,7 @@ final class CloudletSchedulerNull implements CloudletScheduler {
     @Override public int runningCloudletsNumber() {
         return 0;
     }
-    @Override public double updateProcessing(double currentTime, List<Double> mipsShare) {
+    @Override public double updateProcessing(double currentTime, MipsShare mipsShare) {
         return 0.0;
     }
     @Override public Vm getVm() {
@@ -89,6 +90,14 @@ final class CloudletSchedulerNull implements CloudletScheduler {
     @Override public Set<Cloudlet> getCloudletReturnedList() { return Collections.EMPTY_SET; }
     @Override public boolean isCloudletReturned(Cloudlet cloudlet) { return false; }
     @Override public void addCloudletToReturnedList(Cloudlet cloudlet) {/**/}
+    @Override public Set<Cloudlet> getCloudletToReturnList() { return Collections.emptySet(); }
+    @Override public void enableFinishedCloudletsRemoval() {/**/}
+    @Override public void disableFinishedCloudletsRemoval() {/**/}
+    @Override public boolean isFinishedCloudletsRemovalEnabled() { return false; }
+    @Override public void enableFastForward() {/**/}
+    @Override public void disableFastForward() {/**/}
+    @Override public boolean isFastForwardEnabled() { return false; }
+    @Override public boolean isFastForwardPossible() { return false; }
     @Override public List<CloudletExecution> getCloudletFinishedList() { return Collections.emptyList(); }
     @Override public boolean isEmpty() { return false; }
     @Override public List<CloudletExecution> getCloudletWaitingList() { return Collections.EMPTY_LIST; }
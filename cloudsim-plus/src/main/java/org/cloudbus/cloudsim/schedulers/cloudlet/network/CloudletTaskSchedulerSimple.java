@@ -135,11 +135,13 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
     private void addPacketsToBeSentFromVm(final NetworkCloudlet sourceCloudlet) {
         final Optional<CloudletSendTask> optional = getCloudletCurrentTask(sourceCloudlet);
         optional.ifPresent(task -> {
-            logger.trace(
-                "{}: {}: {} pkts added to be sent from {} in {}",
-                sourceCloudlet.getSimulation().clock(), getClass().getSimpleName(),
-                task.getPacketsToSend().size(), sourceCloudlet,
-                sourceCloudlet.getVm());
+            final int pktsToSend = task.getPacketsToSend().size();
+            sourceCloudlet.getVm().getHost().getDatacenter().runOrDeferUntilHostsUpdated(() ->
+                logger.trace(
+                    "{}: {}: {} pkts added to be sent from {} in {}",
+                    sourceCloudlet.getSimulation().clock(), getClass().getSimpleName(),
+                    pktsToSend, sourceCloudlet,
+                    sourceCloudlet.getVm()));
 
             vmPacketsToSend.addAll(task.getPacketsToSend(sourceCloudlet.getSimulation().clock()));
             scheduleNextTaskIfCurrentIsFinished(sourceCloudlet);
@@ -159,15 +161,17 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
             final List<VmPacket> receivedPkts = getPacketsSentToCloudlet(task);
             // Assumption: packet will not arrive in the same cycle
             receivedPkts.forEach(task::receivePacket);
+            final Datacenter dc = candidateDestinationCloudlet.getVm().getHost().getDatacenter();
             receivedPkts.forEach(pkt ->
-                logger.trace(
-                    "{}: {}: {} in {} received pkt with {} bytes from {} in {}",
-                    candidateDestinationCloudlet.getSimulation().clock(), getClass().getSimpleName(),
-                    pkt.getReceiverCloudlet(),
-                    pkt.getDestination(),
-                    pkt.getSize(),
-                    pkt.getSenderCloudlet(),
-                    pkt.getSource())
+                dc.runOrDeferUntilHostsUpdated(() ->
+                    logger.trace(
+                        "{}: {}: {} in {} received pkt with {} bytes from {} in {}",
+                        candidateDestinationCloudlet.getSimulation().clock(), getClass().getSimpleName(),
+                        pkt.getReceiverCloudlet(),
+                        pkt.getDestination(),
+                        pkt.getSize(),
+                        pkt.getSenderCloudlet(),
+                        pkt.getSource()))
             );
 
             /*Removes the received packets from the list of sent packets of the VM,
@@ -222,7 +226,8 @@ public class CloudletTaskSchedulerSimple implements CloudletTaskScheduler {
         }
 
         final Datacenter dc = getVm().getHost().getDatacenter();
-        dc.schedule(dc, dc.getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
+        dc.runOrDeferUntilHostsUpdated(() ->
+            dc.schedule(dc, dc.getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT));
     }
 
     @Override
@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.schedulers.vm;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Resource;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.util.List;
@@ -61,7 +62,24 @@ public interface VmScheduler {
      * if the total requested mips is available, while only the difference has
      * to be checked. It has to be added some tests to check this issue.
      */
-    boolean allocatePesForVm(Vm vm, List<Double> requestedMips);
+    boolean allocatePesForVm(Vm vm, MipsShare requestedMips);
+
+    /**
+     * Requests the allocation of PEs for a VM.
+     * It's just an adapter for {@link #allocatePesForVm(Vm, MipsShare)}
+     * that copies the given list into a {@link MipsShare}.
+     *
+     * @param vm the vm to allocate PEs to
+     * @param requestedMips the list of MIPS share to be allocated to a VM
+     * @return true if the PEs were allocated to the VM, false otherwise
+     * @deprecated Use {@link #allocatePesForVm(Vm, MipsShare)} instead.
+     * The simulation just calls the {@link MipsShare} version of this method.
+     * Overriding this one has no effect on the simulation.
+     */
+    @Deprecated
+    default boolean allocatePesForVm(final Vm vm, final List<Double> requestedMips) {
+        return allocatePesForVm(vm, new MipsShare(requestedMips));
+    }
 
     /**
      * Requests the allocation of PEs for a VM, according
@@ -114,7 +132,7 @@ public interface VmScheduler {
      * @pre $none
      * @post $none
      */
-    List<Double> getAllocatedMips(Vm vm);
+    MipsShare getAllocatedMips(Vm vm);
 
     /**
      * Gets the total amount of MIPS that is currently free.
@@ -133,7 +151,7 @@ public interface VmScheduler {
      * @param vm the VM to get the List of requested MIPS
      * @return
      */
-    List<Double> getRequestedMips(Vm vm);
+    MipsShare getRequestedMips(Vm vm);
 
     /**
      * Checks if the PM using this scheduler has enough MIPS capacity
@@ -178,7 +196,7 @@ public interface VmScheduler {
      * @param requestedMips a list of MIPS requested by a VM
      * @return true if the requested MIPS List is allowed to be allocated to the VM, false otherwise
      */
-    default boolean isSuitableForVm(final Vm vm, final List<Double> requestedMips) {
+    default boolean isSuitableForVm(final Vm vm, final MipsShare requestedMips) {
         return isSuitableForVm(vm, requestedMips, false);
     }
 
@@ -190,9 +208,44 @@ public interface VmScheduler {
      * @param showLog if a log message should be printed when the Host isn't suitable for the given VM
      * @return true if the requested MIPS List is allowed to be allocated to the VM, false otherwise
      *
-     * @see #isSuitableForVm(Vm, List)
+     * @see #isSuitableForVm(Vm, MipsShare)
+     */
+    boolean isSuitableForVm(Vm vm, MipsShare requestedMips, boolean showLog);
+
+    /**
+     * Checks if a list of MIPS requested by a VM is allowed to be allocated or not.
+     * It's just an adapter for {@link #isSuitableForVm(Vm, MipsShare)}
+     * that copies the given list into a {@link MipsShare}.
+     *
+     * @param vm the {@link Vm} to check if there are enough MIPS to allocate to
+     * @param requestedMips a list of MIPS requested by a VM
+     * @return true if the requested MIPS List is allowed to be allocated to the VM, false otherwise
+     * @deprecated Use {@link #isSuitableForVm(Vm, MipsShare)} instead.
+     * The simulation just calls the {@link MipsShare} version of this method.
+     * Overriding this one has no effect on the simulation.
+     */
+    @Deprecated
+    default boolean isSuitableForVm(final Vm vm, final List<Double> requestedMips) {
+        return isSuitableForVm(vm, new MipsShare(requestedMips));
+    }
+
+    /**
+     * Checks if a list of MIPS requested by a VM is allowed to be allocated or not.
+     * It's just an adapter for {@link #isSuitableForVm(Vm, MipsShare, boolean)}
+     * that copies the given list into a {@link MipsShare}.
+     *
+     * @param vm the {@link Vm} to check if there are enough MIPS to allocate to
+     * @param requestedMips a list of MIPS requested by a VM
+     * @param showLog if a log message should be printed when the Host isn't suitable for the given VM
+     * @return true if the requested MIPS List is allowed to be allocated to the VM, false otherwise
+     * @deprecated Use {@link #isSuitableForVm(Vm, MipsShare, boolean)} instead.
+     * The simulation just calls the {@link MipsShare} version of this method.
+     * Overriding this one has no effect on the simulation.
      */
-    boolean isSuitableForVm(Vm vm, List<Double> requestedMips, boolean showLog);
+    @Deprecated
+    default boolean isSuitableForVm(final Vm vm, final List<Double> requestedMips, final boolean showLog) {
+        return isSuitableForVm(vm, new MipsShare(requestedMips), showLog);
+    }
 
     /**
      * Gets the maximum available MIPS among all the host's PEs.
@@ -7,17 +7,13 @@
 package org.cloudbus.cloudsim.schedulers.vm;
 
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.provisioners.PeProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.IntStream;
-import java.util.stream.LongStream;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * An abstract class for implementation of {@link VmScheduler}s.
@@ -30,6 +26,12 @@ import static java.util.stream.Collectors.toList;
 public abstract class VmSchedulerAbstract implements VmScheduler {
     private static final Logger logger = LoggerFactory.getLogger(VmSchedulerSpaceShared.class.getSimpleName());
 
+    /**
+     * The MIPS share returned for a VM without allocated MIPS.
+     * Since PEs can't be added to a {@link MipsShare}, an empty one can be shared.
+     */
+    private static final MipsShare EMPTY_MIPS_SHARE = new MipsShare();
+
     /**
      * The default percentage to define the CPU overhead of VM migration
      * if one is not explicitly set.
@@ -40,7 +42,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     /**
      * @see #getRequestedMipsMap()
      */
-    private final Map<Vm, List<Double>> requestedMipsMap;
+    private final Map<Vm, MipsShare> requestedMipsMap;
 
     /**
      * @see #getHost()
@@ -50,7 +52,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     /**
      * @see #getAllocatedMipsMap()
      */
-    private Map<Vm, List<Double>> allocatedMipsMap;
+    private Map<Vm, MipsShare> allocatedMipsMap;
 
     /**
      * @see #getVmMigrationCpuOverhead()
@@ -78,7 +80,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     }
 
     @Override
-    public boolean isSuitableForVm(Vm vm, List<Double> requestedMips, boolean showLog) {
+    public boolean isSuitableForVm(final Vm vm, final MipsShare requestedMips, final boolean showLog) {
         if(requestedMips.isEmpty()){
             logger.warn(
                 "{}: {}: It was requested an empty list of PEs for {} in {}",
@@ -89,19 +91,15 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         return isSuitableForVmInternal(vm, requestedMips, showLog);
     }
 
-    protected abstract boolean isSuitableForVmInternal(final Vm vm, final List<Double> requestedMips, final boolean showLog);
+    protected abstract boolean isSuitableForVmInternal(final Vm vm, final MipsShare requestedMips, final boolean showLog);
 
     @Override
     public final boolean allocatePesForVm(final Vm vm) {
-        final List<Double> mipsShareRequested =
-                LongStream.range(0, vm.getNumberOfPes())
-                        .mapToObj(i -> vm.getMips())
-                        .collect(toList());
-        return allocatePesForVm(vm, mipsShareRequested);
+        return allocatePesForVm(vm, new MipsShare(vm.getNumberOfPes(), vm.getMips()));
     }
 
     @Override
-    public final boolean allocatePesForVm(final Vm vm, final List<Double> requestedMips) {
+    public final boolean allocatePesForVm(final Vm vm, final MipsShare requestedMips) {
         if (!vm.isInMigration() && host.getVmsMigratingOut().contains(vm)) {
             host.removeVmMigratingOut(vm);
         }
@@ -144,7 +142,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
               .forEach(pe -> pe.setStatus(status));
     }
 
-    protected abstract boolean allocatePesForVmInternal(final Vm vm, final List<Double> mipsShareRequested);
+    protected abstract boolean allocatePesForVmInternal(final Vm vm, final MipsShare mipsShareRequested);
 
     @Override
     public void deallocatePesFromVm(final Vm vm) {
@@ -167,41 +165,33 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      */
     private void freeUsedPes() {
         //Gets the total virtual PEs of currently created VMs
-        final long totalVirtualPesNumber = getAllocatedMipsMap().values().stream().mapToLong(Collection::size).sum();
+        final long totalVirtualPesNumber = getAllocatedMipsMap().values().stream().mapToLong(MipsShare::size).sum();
         final List<Pe> peList = getHost().getBuzyPeList();
         final long vPesNumber = Math.min(peList.size() - totalVirtualPesNumber, 0);
         setHostPesStatusForVmUsedPes(peList, Pe.Status.FREE, vPesNumber);
     }
 
     /**
-     * Remove a given number of PEs from a given {@code Vm -> List<PE>} Map,
-     * where each PE in the List associated to each Vm may be an actual
-     * {@link Pe} object or just its capacity in MIPS (Double).
-     *
-     * <p>In other words, the map can be {@code Map<Vm, List<Double>>}
-     * or {@code Map<Vm, List<Pe>>}.</p>
+     * Remove a given number of PEs from the {@link MipsShare} associated to a VM
+     * into a given {@code Vm -> MipsShare} Map.
      *
-     * @param <T> the type of the elements into the List associated to each map key,
-     *            which can be a MIPS number (Double) or an actual {@link Pe} object.
      * @param vm the VM to remove PEs from
      * @param map the map where the PEs will be removed
-     * @param pesToRemove the number of PEs to remove from the List of PEs associated to the Vm
+     * @param pesToRemove the number of PEs to remove from the MIPS share associated to the Vm
      * @return the number of removed PEs
      */
-    protected <T> int removePesFromMap(final Vm vm, final Map<Vm, List<T>> map, int pesToRemove) {
-        final List<T> values = map.getOrDefault(vm, new ArrayList<>());
-        if(values.isEmpty()){
+    protected int removePesFromMap(final Vm vm, final Map<Vm, MipsShare> map, final int pesToRemove) {
+        final MipsShare mipsShare = map.get(vm);
+        if(mipsShare == null || mipsShare.isEmpty()){
             return 0;
         }
 
-        pesToRemove = Math.min((int)vm.getNumberOfPes(), pesToRemove);
-        pesToRemove = Math.min(pesToRemove, values.size());
-        IntStream.range(0, pesToRemove).forEach(i -> values.remove(0));
-        if(values.isEmpty()){
+        final int removedPes = mipsShare.removePes(Math.min((int)vm.getNumberOfPes(), pesToRemove));
+        if(mipsShare.isEmpty()){
             map.remove(vm);
         }
 
-        return pesToRemove;
+        return removedPes;
     }
 
     protected abstract void deallocatePesFromVmInternal(final Vm vm, final int pesToRemove);
@@ -213,8 +203,9 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     }
 
     @Override
-    public List<Double> getAllocatedMips(final Vm vm) {
-        final List<Double> list = allocatedMipsMap.getOrDefault(vm, new ArrayList<>());
+    public MipsShare getAllocatedMips(final Vm vm) {
+        final MipsShare allocatedMips = allocatedMipsMap.get(vm);
+        final MipsShare mipsShare = allocatedMips == null ? EMPTY_MIPS_SHARE : allocatedMips;
         /*
         When a VM is migrating out of the source Host, its allocated MIPS
         is reduced due to migration overhead.
@@ -222,7 +213,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         experience overhead, but for the first time the VM is allocated into
         the target Host, the allocated MIPS is stored already considering this overhead.
          */
-        return host.getVmsMigratingOut().contains(vm) ? getMipsShareRequestedReduced(vm, list) : list;
+        return host.getVmsMigratingOut().contains(vm) ? getMipsShareRequestedReduced(vm, mipsShare) : mipsShare;
     }
 
     /**
@@ -233,29 +224,37 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * @param mipsShareRequested the VM requested MIPS List
      * @return the VM requested MIPS List without MIPS higher than the PE capacity.
      */
-    protected List<Double> getMipsShareRequestedReduced(final Vm vm, final List<Double> mipsShareRequested){
+    protected MipsShare getMipsShareRequestedReduced(final Vm vm, final MipsShare mipsShareRequested){
         final double peMips = getPeCapacity();
-        return mipsShareRequested.stream()
-            .map(mips -> Math.min(mips, peMips)*percentOfMipsToRequest(vm))
-            .collect(toList());
+        final double percentOfMipsToRequest = percentOfMipsToRequest(vm);
+        return mipsShareRequested.map(mips -> Math.min(mips, peMips)*percentOfMipsToRequest);
     }
 
     @Override
     public double getTotalAllocatedMipsForVm(final Vm vm) {
-        return getAllocatedMips(vm).stream().mapToDouble(v -> v).sum();
+        return getAllocatedMips(vm).totalMips();
     }
 
     @Override
+    @SuppressWarnings("ForLoopReplaceableByForEach")
     public double getMaxAvailableMips() {
-        return getWorkingPeList().stream()
-                .map(Pe::getPeProvisioner)
-                .mapToDouble(PeProvisioner::getAvailableResource)
-                .max().orElse(0.0);
+        final List<Pe> workingPeList = getWorkingPeList();
+        if(workingPeList.isEmpty()){
+            return 0.0;
+        }
+
+        long maxAvailableMips = Long.MIN_VALUE;
+        for (int i = 0; i < workingPeList.size(); i++) {
+            maxAvailableMips = Math.max(maxAvailableMips, workingPeList.get(i).getPeProvisioner().getAvailableResource());
+        }
+
+        return maxAvailableMips;
     }
 
     @Override
     public long getPeCapacity() {
-        return getWorkingPeList().stream().map(Pe::getCapacity).findFirst().orElse(0L);
+        final List<Pe> workingPeList = getWorkingPeList();
+        return workingPeList.isEmpty() ? 0L : workingPeList.get(0).getCapacity();
     }
 
     @Override
@@ -272,13 +271,14 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      *
      * @return the requested MIPS map
      */
-    protected Map<Vm, List<Double>> getRequestedMipsMap() {
+    protected Map<Vm, MipsShare> getRequestedMipsMap() {
         return requestedMipsMap;
     }
 
     @Override
-    public List<Double> getRequestedMips(final Vm vm) {
-        return new ArrayList<>(requestedMipsMap.getOrDefault(vm, Collections.emptyList()));
+    public MipsShare getRequestedMips(final Vm vm) {
+        final MipsShare mipsShare = requestedMipsMap.get(vm);
+        return mipsShare == null ? new MipsShare() : new MipsShare(mipsShare);
     }
 
     /**
@@ -295,7 +295,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * @see #getAllocatedMips(Vm)
      * @see #getRequestedMipsMap()
      */
-    protected Map<Vm, List<Double>> getAllocatedMipsMap() {
+    protected Map<Vm, MipsShare> getAllocatedMipsMap() {
         return allocatedMipsMap;
     }
 
@@ -324,9 +324,8 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * @return the actual requested MIPS sum across all VM PEs,
      * including the CPU overhead of the VM is in migration to this Host
      */
-    private double actualVmTotalRequestedMips(final Map.Entry<Vm, List<Double>> entry) {
-        final List<Double> vmMipsList = entry.getValue() == null ? new ArrayList<>() : entry.getValue();
-        final double totalVmRequestedMips = vmMipsList.stream().reduce(0.0, Double::sum);
+    private double actualVmTotalRequestedMips(final Map.Entry<Vm, MipsShare> entry) {
+        final double totalVmRequestedMips = entry.getValue() == null ? 0 : entry.getValue().totalMips();
 
         /*If the VM is migrating in or out this Host,
         there is a migration overhead.
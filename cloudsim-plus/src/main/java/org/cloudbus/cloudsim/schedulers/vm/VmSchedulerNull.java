@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.schedulers.vm;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.util.Collections;
@@ -15,18 +16,18 @@ import java.util.List;
  * @see VmScheduler#NULL
  */
 final class VmSchedulerNull implements VmScheduler {
-    @Override public boolean allocatePesForVm(Vm vm, List<Double> requestedMips) {
+    @Override public boolean allocatePesForVm(Vm vm, MipsShare requestedMips) {
         return false;
     }
     @Override public boolean allocatePesForVm(Vm vm) { return false; }
     @Override public void deallocatePesForAllVms() {/**/}
-    @Override public List<Double> getAllocatedMips(Vm vm) {
-        return Collections.emptyList();
+    @Override public MipsShare getAllocatedMips(Vm vm) {
+        return new MipsShare();
     }
     @Override public double getAvailableMips() {
         return 0.0;
     }
-    @Override public List<Double> getRequestedMips(Vm vm) { return Collections.EMPTY_LIST; }
+    @Override public MipsShare getRequestedMips(Vm vm) { return new MipsShare(); }
     @Override public double getMaxAvailableMips() {
         return 0.0;
     }
@@ -53,8 +54,8 @@ final class VmSchedulerNull implements VmScheduler {
     @Override public VmScheduler setHost(Host host) {
         return this;
     }
-    @Override public boolean isSuitableForVm(Vm vm, List<Double> requestedMips) { return false; }
-    @Override public boolean isSuitableForVm(Vm vm, List<Double> requestedMips, boolean showLog) { return false; }
+    @Override public boolean isSuitableForVm(Vm vm, MipsShare requestedMips) { return false; }
+    @Override public boolean isSuitableForVm(Vm vm, MipsShare requestedMips, boolean showLog) { return false; }
     @Override public void deallocatePesFromVm(Vm vm) {/**/}
     @Override public void deallocatePesFromVm(Vm vm, int pesToRemove) {/**/}
 }
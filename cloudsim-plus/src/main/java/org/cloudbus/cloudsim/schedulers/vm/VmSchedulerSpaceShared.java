@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.schedulers.vm;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,7 +59,7 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
     }
 
     @Override
-    protected boolean isSuitableForVmInternal(final Vm vm, final List<Double> requestedMips, final boolean showLog) {
+    protected boolean isSuitableForVmInternal(final Vm vm, final MipsShare requestedMips, final boolean showLog) {
         final List<Pe> selectedPes = getTotalCapacityToBeAllocatedToVm(requestedMips);
         if(selectedPes.size() >= requestedMips.size()){
             return true;
@@ -69,7 +70,7 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
                 "{}: {}: Allocation of {} to {} failed due to lack of PEs. {}\t\tRequired {} PEs of {} MIPS.{}" +
                     "\t\tHowever, there are just {} available PEs with the required MIPS.",
                 getHost().getSimulation().clock(), getClass().getSimpleName(), vm, getHost(), System.lineSeparator(),
-                requestedMips.size(), requestedMips.get(0), System.lineSeparator(),
+                requestedMips.size(), requestedMips.getMips(0), System.lineSeparator(),
                 selectedPes.size());
         }
         return false;
@@ -82,7 +83,7 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
      *         lower than the size of the requestedMips, it means there aren't enough PEs
      *         with requested MIPS to be allocated to the VM
      */
-    private List<Pe> getTotalCapacityToBeAllocatedToVm(final List<Double> requestedMips) {
+    private List<Pe> getTotalCapacityToBeAllocatedToVm(final MipsShare requestedMips) {
         if (getHost().getFreePeList().size() < requestedMips.size()) {
             return getHost().getFreePeList();
         }
@@ -90,8 +91,8 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
         final List<Pe> selectedPes = new ArrayList<>();
         final Iterator<Pe> peIterator = getHost().getFreePeList().iterator();
         Pe pe = peIterator.next();
-        for (final double mips : requestedMips) {
-            if (mips <= pe.getCapacity()) {
+        for (int i = 0; i < requestedMips.size(); i++) {
+            if (requestedMips.getMips(i) <= pe.getCapacity()) {
                 selectedPes.add(pe);
                 if (!peIterator.hasNext()) {
                     break;
@@ -104,7 +105,7 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
     }
 
     @Override
-    public boolean allocatePesForVmInternal(final Vm vm, final List<Double> requestedMips) {
+    public boolean allocatePesForVmInternal(final Vm vm, final MipsShare requestedMips) {
         final List<Pe> selectedPes = getTotalCapacityToBeAllocatedToVm(requestedMips);
         if(selectedPes.size() < requestedMips.size()){
             return false;
@@ -7,16 +7,14 @@
 package org.cloudbus.cloudsim.schedulers.vm;
 
 import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * VmSchedulerTimeShared is a Virtual Machine Monitor (VMM), also called Hypervisor,
  * that defines a policy to allocate one or more PEs from a PM to a VM, and allows sharing of PEs
@@ -76,7 +74,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
     }
 
     @Override
-    public boolean allocatePesForVmInternal(final Vm vm, final List<Double> requestedMips) {
+    public boolean allocatePesForVmInternal(final Vm vm, final MipsShare requestedMips) {
         if(!allocateMipsShareForVmInternal(vm, requestedMips)) {
             return false;
         }
@@ -93,7 +91,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * @param requestedMips the list of mips share requested by the vm
      * @return true if successful, false otherwise
      */
-    private boolean allocateMipsShareForVmInternal(final Vm vm, final List<Double> requestedMips) {
+    private boolean allocateMipsShareForVmInternal(final Vm vm, final MipsShare requestedMips) {
         if (!isSuitableForVm(vm, requestedMips)) {
             return false;
         }
@@ -110,11 +108,11 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      *
      * @param vm the VM to allocate MIPS to
      * @param requestedMipsReduced the list of MIPS to allocate to the VM,
-     * after it being adjusted by the {@link #getMipsShareRequestedReduced(Vm, List)} method.
-     * @see #getMipsShareRequestedReduced(Vm, List)
+     * after it being adjusted by the {@link #getMipsShareRequestedReduced(Vm, MipsShare)} method.
+     * @see #getMipsShareRequestedReduced(Vm, MipsShare)
      */
-    protected void allocateMipsShareForVm(final Vm vm, final List<Double> requestedMipsReduced) {
-        final List<Double> mipsShare = getMipsShareToAllocate(vm, requestedMipsReduced);
+    protected void allocateMipsShareForVm(final Vm vm, final MipsShare requestedMipsReduced) {
+        final MipsShare mipsShare = getMipsShareToAllocate(vm, requestedMipsReduced);
         getAllocatedMipsMap().put(vm, mipsShare);
     }
 
@@ -142,11 +140,13 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * @param entry an entry from the {@link #getAllocatedMipsMap()} containing a VM and
      *              the list of MIPS to be allocated for each of its PEs
      */
-    private void allocatePesListForVm(final Map.Entry<Vm, List<Double>> entry) {
+    private void allocatePesListForVm(final Map.Entry<Vm, MipsShare> entry) {
         final Vm vm = entry.getKey();
+        final MipsShare mipsShare = entry.getValue();
         final Iterator<Pe> hostPesIterator = getWorkingPeList().iterator();
         //Iterate over the list of MIPS requested by each VM PE
-        for (final double requestedMipsForVmPe : entry.getValue()) {
+        for (int i = 0; i < mipsShare.size(); i++) {
+            final double requestedMipsForVmPe = mipsShare.getMips(i);
             final double allocatedMipsForVmPe = allocateMipsFromHostPesToGivenVirtualPe(vm, requestedMipsForVmPe, hostPesIterator);
             if(requestedMipsForVmPe > 0.1 && allocatedMipsForVmPe <= 0.1){
                 logMipsUnavailable(vm, requestedMipsForVmPe, allocatedMipsForVmPe);
@@ -271,16 +271,13 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
     }
 
     @Override
-    protected boolean isSuitableForVmInternal(final Vm vm, final List<Double> requestedMips, final boolean showLog) {
+    protected boolean isSuitableForVmInternal(final Vm vm, final MipsShare requestedMips, final boolean showLog) {
         final double pmMips = getPeCapacity();
-        double totalRequestedMips = 0;
-        for (final double vmMips : requestedMips) {
-            // each virtual PE of a VM must require not more than the capacity of a physical PE
-            if (vmMips > pmMips) {
-                return false;
-            }
-            totalRequestedMips += vmMips;
+        // each virtual PE of a VM must require not more than the capacity of a physical PE
+        if (requestedMips.maxMips() > pmMips) {
+            return false;
         }
+        final double totalRequestedMips = requestedMips.totalMips();
 
         final int workingPes = getWorkingPeList().size();
         // This scheduler does not allow over-subscription
@@ -293,7 +290,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
                 "{}: {}: Allocation of {} to {} failed due to lack of PEs. {}\t\tRequired {} PEs of {} MIPS.{}" +
                     "\t\tHowever, there are just {} available PEs with the required MIPS.",
                 getHost().getSimulation().clock(), getClass().getSimpleName(), vm, getHost(), System.lineSeparator(),
-                requestedMips.size(), requestedMips.get(0), System.lineSeparator(),
+                requestedMips.size(), requestedMips.getMips(0), System.lineSeparator(),
                 workingPes);
         }
         return false;
@@ -319,7 +316,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * @param requestedMips the list of MIPS requested for each vPE
      * @return the List of MIPS allocated to the VM
      */
-    protected List<Double> getMipsShareToAllocate(final Vm vm, final List<Double> requestedMips) {
+    protected MipsShare getMipsShareToAllocate(final Vm vm, final MipsShare requestedMips) {
         return getMipsShareToAllocate(requestedMips, percentOfMipsToRequest(vm));
     }
 
@@ -334,11 +331,8 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * allocated to each vPE (which is a percentage value between [0 .. 1]) in case the VM is in migration
      * @return the List of MIPS allocated to the VM
      */
-    protected List<Double> getMipsShareToAllocate(final List<Double> requestedMips, final double scalingFactor) {
-        return requestedMips
-                .stream()
-                .map(mips -> mips*scalingFactor)
-                .collect(toList());
+    protected MipsShare getMipsShareToAllocate(final MipsShare requestedMips, final double scalingFactor) {
+        return requestedMips.map(mips -> mips*scalingFactor);
     }
 
     @Override
@@ -346,7 +340,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         removePesFromMap(vm, getRequestedMipsMap(), pesToRemove);
         removePesFromMap(vm, getAllocatedMipsMap(), pesToRemove);
 
-        for (final Map.Entry<Vm, List<Double>> entry : getRequestedMipsMap().entrySet()) {
+        for (final Map.Entry<Vm, MipsShare> entry : getRequestedMipsMap().entrySet()) {
             allocateMipsShareForVmInternal(entry.getKey(), entry.getValue());
         }
 
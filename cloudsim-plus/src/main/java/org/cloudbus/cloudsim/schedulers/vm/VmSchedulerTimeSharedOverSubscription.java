@@ -6,12 +6,12 @@
  */
 package org.cloudbus.cloudsim.schedulers.vm;
 
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -70,10 +70,10 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      * @param requestedMips {@inheritDoc}
      * @param showLog
      * @return true if the requested MIPS List is allowed to be allocated to the VM, false otherwise
-     * @see #allocateMipsShareForVm(Vm, List)
+     * @see #allocateMipsShareForVm(Vm, MipsShare)
      */
     @Override
-    protected boolean isSuitableForVmInternal(final Vm vm, final List<Double> requestedMips, final boolean showLog){
+    protected boolean isSuitableForVmInternal(final Vm vm, final MipsShare requestedMips, final boolean showLog){
         final int workingPes = getWorkingPeList().size();
         if(workingPes >= requestedMips.size()){
             return true;
@@ -84,15 +84,15 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
                 "{}: {}: Allocation of {} to {} failed due to lack of PEs. {}\t\tRequired {} PEs of {} MIPS.{}" +
                     "\t\tHowever, there are just {} available PEs.",
                 getHost().getSimulation().clock(), getClass().getSimpleName(), vm, getHost(), System.lineSeparator(),
-                requestedMips.size(), requestedMips.get(0), System.lineSeparator(),
+                requestedMips.size(), requestedMips.getMips(0), System.lineSeparator(),
                 workingPes);
         }
         return false;
     }
 
     @Override
-    protected void allocateMipsShareForVm(final Vm vm, final List<Double> requestedMipsReduced) {
-        final double totalRequestedMips = requestedMipsReduced.stream().reduce(0.0, Double::sum);
+    protected void allocateMipsShareForVm(final Vm vm, final MipsShare requestedMipsReduced) {
+        final double totalRequestedMips = requestedMipsReduced.totalMips();
         if (getAvailableMips() >= totalRequestedMips) {
             super.allocateMipsShareForVm(vm, requestedMipsReduced);
             return;
@@ -116,14 +116,14 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      */
     private void redistributeMipsDueToOverSubscription() {
         // First, we calculate the scaling factor - the MIPS allocation for all VMs will be scaled proportionally
-        final Map<Vm, List<Double>> mipsMapRequestedReduced = getNewTotalRequestedMipsByAllVms();
+        final Map<Vm, MipsShare> mipsMapRequestedReduced = getNewTotalRequestedMipsByAllVms();
 
         final double scalingFactor = getVmsMipsScalingFactor(mipsMapRequestedReduced);
 
         getAllocatedMipsMap().clear();
-        for (final Entry<Vm, List<Double>> entry : mipsMapRequestedReduced.entrySet()) {
+        for (final Entry<Vm, MipsShare> entry : mipsMapRequestedReduced.entrySet()) {
             final Vm vm = entry.getKey();
-            List<Double> updatedMipsAllocation = getMipsShareToAllocate(vm, entry.getValue());
+            MipsShare updatedMipsAllocation = getMipsShareToAllocate(vm, entry.getValue());
             updatedMipsAllocation = getMipsShareToAllocate(updatedMipsAllocation, scalingFactor);
             getAllocatedMipsMap().put(vm, updatedMipsAllocation);
         }
@@ -140,9 +140,9 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      *                                adjusted to avoid allocating more MIPS for a vPE
      *                                than there is in the physical PE
      * @return the scaling factor to apply for VMs requested MIPS (a percentage value in scale from 0 to 1)
-     * @see #getMipsShareRequestedReduced(Vm, List)
+     * @see #getMipsShareRequestedReduced(Vm, MipsShare)
      */
-    private double getVmsMipsScalingFactor(final Map<Vm, List<Double>> mipsMapRequestedReduced) {
+    private double getVmsMipsScalingFactor(final Map<Vm, MipsShare> mipsMapRequestedReduced) {
         final double totalMipsCapacity = getHost().getTotalMipsCapacity();
         final double totalMipsToAllocateForAllVms = getTotalMipsToAllocateForAllVms(mipsMapRequestedReduced);
         return Math.min(1, totalMipsCapacity / totalMipsToAllocateForAllVms);
@@ -156,11 +156,11 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      * @return the new map of requested MIPS for all VMs
      * @see #getRequestedMipsMap()
      */
-    private Map<Vm, List<Double>> getNewTotalRequestedMipsByAllVms() {
-        final Map<Vm, List<Double>> mipsMapRequestedReduced = new HashMap<>(getRequestedMipsMap().entrySet().size());
-        for (final Entry<Vm, List<Double>> entry : getRequestedMipsMap().entrySet()) {
+    private Map<Vm, MipsShare> getNewTotalRequestedMipsByAllVms() {
+        final Map<Vm, MipsShare> mipsMapRequestedReduced = new HashMap<>(getRequestedMipsMap().entrySet().size());
+        for (final Entry<Vm, MipsShare> entry : getRequestedMipsMap().entrySet()) {
             final Vm vm = entry.getKey();
-            final List<Double> requestedMipsReduced = getMipsShareRequestedReduced(entry.getKey(), entry.getValue());
+            final MipsShare requestedMipsReduced = getMipsShareRequestedReduced(entry.getKey(), entry.getValue());
             mipsMapRequestedReduced.put(vm, requestedMipsReduced);
         }
 
@@ -179,9 +179,9 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      *                                than there is in the physical PE
      * @return the total MIPS to be allocated for all VMs, considering the
      * VMs migrating into the Host.
-     * @see #getMipsShareRequestedReduced(Vm, List)
+     * @see #getMipsShareRequestedReduced(Vm, MipsShare)
      */
-    private double getTotalMipsToAllocateForAllVms(final Map<Vm, List<Double>> mipsMapRequestedReduced){
+    private double getTotalMipsToAllocateForAllVms(final Map<Vm, MipsShare> mipsMapRequestedReduced){
         return mipsMapRequestedReduced.entrySet()
             .stream()
             .mapToDouble(this::getMipsToBeAllocatedForVmPes)
@@ -197,8 +197,8 @@ public class VmSchedulerTimeSharedOverSubscription extends VmSchedulerTimeShared
      * @return the sum of required MIPS by all vPEs, considering the VMs
      * in migration process to the Host.
      */
-    private double getMipsToBeAllocatedForVmPes(final Map.Entry<Vm, List<Double>> entry){
-        final double requiredMipsByThisVm = entry.getValue().stream().reduce(0.0, Double::sum);
+    private double getMipsToBeAllocatedForVmPes(final Map.Entry<Vm, MipsShare> entry){
+        final double requiredMipsByThisVm = entry.getValue().totalMips();
         if (getHost().getVmsMigratingIn().contains(entry.getKey())) {
             /*
             the destination host only experiences a percentage of the migrating VM's MIPS
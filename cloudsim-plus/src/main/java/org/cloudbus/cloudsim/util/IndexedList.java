@@ -0,0 +1,260 @@
+package org.cloudbus.cloudsim.util;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A {@link List} of unique elements, kept in the order they were added,
+ * that finds and removes elements in constant time.
+ *
+ * <p>Each element is indexed by a {@link HashMap}, so that {@link #contains(Object)},
+ * {@link #indexOf(Object)} and {@link #remove(Object)} don't iterate over the List.
+ * A removed element just leaves an empty slot behind, instead of shifting all the next elements.
+ * Empty slots are discarded at once when an element is accessed by its index
+ * or when they get more than the elements in the List.
+ * This way, accessing elements by their index is constant time
+ * as long as no element is removed between the accesses.</p>
+ *
+ * <p>The List doesn't accept null or duplicated elements.
+ * Adding an element which is already in the List (according to {@link Object#equals(Object)})
+ * throws an {@link IllegalArgumentException}, since silently ignoring it
+ * would break the {@link List#add(Object)} contract.
+ * Elements must not change their {@link Object#hashCode()} while they are inside the List.</p>
+ *
+ * @param <E> the type of elements in the List
+ * @author agent
+ */
+public final class IndexedList<E> extends AbstractList<E> implements RandomAccess {
+    /**
+     * The elements in the List, where removed ones are replaced by null.
+     */
+    private final List<E> elements;
+
+    /**
+     * The index of each element inside the {@link #elements} List.
+     */
+    private final Map<E, Integer> positions;
+
+    /**
+     * The number of removed elements still using a slot inside the {@link #elements} List.
+     */
+    private int removed;
+
+    /**
+     * Creates an empty List.
+     */
+    public IndexedList() {
+        elements = new ArrayList<>();
+        positions = new HashMap<>();
+    }
+
+    /**
+     * Creates a List containing the elements of a given Collection,
+     * in the order they are returned by its iterator.
+     *
+     * @param collection the Collection whose elements are to be added
+     */
+    public IndexedList(final Collection<? extends E> collection) {
+        this();
+        addAll(collection);
+    }
+
+    @Override
+    public E get(final int index) {
+        compact();
+        return elements.get(index);
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        Objects.requireNonNull(element);
+        compact();
+        final E previous = elements.get(index);
+        if (previous.equals(element)) {
+            elements.set(index, element);
+            positions.put(element, index);
+            return previous;
+        }
+
+        requireAbsent(element);
+        elements.set(index, element);
+        positions.remove(previous);
+        positions.put(element, index);
+        return previous;
+    }
+
+    @Override
+    public boolean add(final E element) {
+        Objects.requireNonNull(element);
+        requireAbsent(element);
+        positions.put(element, elements.size());
+        elements.add(element);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+        Objects.requireNonNull(element);
+        requireAbsent(element);
+        compact();
+        elements.add(index, element);
+        updatePositionsFrom(index);
+        modCount++;
+    }
+
+    @Override
+    public E remove(final int index) {
+        compact();
+        final E element = elements.get(index);
+        removeSlot(element, index);
+        return element;
+    }
+
+    @Override
+    public boolean remove(final Object object) {
+        final Integer index = positions.get(object);
+        if (index == null) {
+            return false;
+        }
+
+        removeSlot(elements.get(index), index);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since elements are unique, it iterates over the given Collection
+     * instead of iterating over this List.
+     *
+     * @param collection {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean removeAll(final Collection<?> collection) {
+        boolean changed = false;
+        for (final Object object : collection) {
+            changed |= remove(object);
+        }
+
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean changed = false;
+        for (int i = 0; i < elements.size(); i++) {
+            final E element = elements.get(i);
+            if (element != null && filter.test(element)) {
+                elements.set(i, null);
+                positions.remove(element);
+                removed++;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            modCount++;
+            compact();
+        }
+
+        return changed;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return positions.containsKey(object);
+    }
+
+    @Override
+    public int indexOf(final Object object) {
+        if (!positions.containsKey(object)) {
+            return -1;
+        }
+
+        compact();
+        return positions.get(object);
+    }
+
+    @Override
+    public int lastIndexOf(final Object object) {
+        return indexOf(object);
+    }
+
+    @Override
+    public void sort(final Comparator<? super E> comparator) {
+        compact();
+        elements.sort(comparator);
+        updatePositionsFrom(0);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        positions.clear();
+        removed = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return elements.size() - removed;
+    }
+
+    private void requireAbsent(final E element) {
+        if (positions.containsKey(element)) {
+            throw new IllegalArgumentException("The element is already in the List: " + element);
+        }
+    }
+
+    /**
+     * Removes an element, leaving its slot empty.
+     * @param element the element to remove
+     * @param index the index of the element inside the {@link #elements} List
+     */
+    private void removeSlot(final E element, final int index) {
+        elements.set(index, null);
+        positions.remove(element);
+        removed++;
+        modCount++;
+        if (removed > size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Discards the empty slots of removed elements,
+     * so that each element is placed at its index in the List.
+     */
+    private void compact() {
+        if (removed == 0) {
+            return;
+        }
+
+        int last = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            final E element = elements.get(i);
+            if (element == null) {
+                continue;
+            }
+
+            if (i != last) {
+                elements.set(last, element);
+                positions.put(element, last);
+            }
+
+            last++;
+        }
+
+        elements.subList(last, elements.size()).clear();
+        removed = 0;
+    }
+
+    private void updatePositionsFrom(final int index) {
+        for (int i = index; i < elements.size(); i++) {
+            positions.put(elements.get(i), i);
+        }
+    }
+}
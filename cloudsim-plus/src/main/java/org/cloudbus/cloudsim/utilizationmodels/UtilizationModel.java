@@ -92,4 +92,18 @@ public interface UtilizationModel {
      */
     double getUtilization();
 
+    /**
+     * Checks if the utilization returned by this model
+     * is always the same, independent of the time.
+     * This enables the progress of Cloudlets using the model to be computed
+     * for any time span, without updating it periodically.
+     * Models which return a constant utilization have to override this method.
+     *
+     * @return true if the utilization is constant, false otherwise (default)
+     * @see org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler#enableFastForward()
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
 }
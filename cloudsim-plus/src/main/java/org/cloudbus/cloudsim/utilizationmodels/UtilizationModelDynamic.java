@@ -53,6 +53,12 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
      */
     private Function<UtilizationModelDynamic, Double> utilizationUpdateFunction;
 
+    /**
+     * Indicates if a {@link #setUtilizationUpdateFunction(Function) utilization update function}
+     * was set. Otherwise, the utilization is always the initial one.
+     */
+    private boolean utilizationUpdateFunctionSet;
+
     /**
      * The last time the utilization was updated.
      */
@@ -268,6 +274,19 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
     public final UtilizationModelDynamic setUtilizationUpdateFunction(final Function<UtilizationModelDynamic, Double> utilizationUpdateFunction) {
         Objects.requireNonNull(utilizationUpdateFunction);
         this.utilizationUpdateFunction = utilizationUpdateFunction;
+        this.utilizationUpdateFunctionSet = true;
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     * The utilization is constant while no
+     * {@link #setUtilizationUpdateFunction(Function) utilization update function} is set.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isConstant() {
+        return !utilizationUpdateFunctionSet;
+    }
 }
@@ -36,4 +36,13 @@ public class UtilizationModelFull extends UtilizationModelAbstract {
     public double getUtilization() {
         return super.getUtilization();
     }
+
+    /**
+     * {@inheritDoc}
+     * @return Always return true, since the utilization is always 100%.
+     */
+    @Override
+    public boolean isConstant() {
+        return true;
+    }
 }
@@ -25,4 +25,7 @@ final class UtilizationModelNull implements UtilizationModel {
     @Override public double getUtilization() {
         return 0;
     }
+    @Override public boolean isConstant() {
+        return true;
+    }
 }
@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.core.UniquelyIdentifiable;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -96,7 +97,7 @@ public interface Vm extends Machine, UniquelyIdentifiable, Comparable<Vm>, Custo
      *
      * @return the current requested MIPS of each Pe
      */
-    List<Double> getCurrentRequestedMips();
+    MipsShare getCurrentRequestedMips();
 
     /**
      * Gets the current requested ram.
@@ -164,7 +165,7 @@ public interface Vm extends Machine, UniquelyIdentifiable, Comparable<Vm>, Custo
      *
      * @param listener the listener to add
      * @return
-     * @see #updateProcessing(double, List)
+     * @see #updateProcessing(double, MipsShare)
      */
     Vm addOnCreationFailureListener(EventListener<VmDatacenterEventInfo> listener);
 
@@ -174,7 +175,7 @@ public interface Vm extends Machine, UniquelyIdentifiable, Comparable<Vm>, Custo
      *
      * @param listener the listener to seaddt
      * @return
-     * @see #updateProcessing(double, List)
+     * @see #updateProcessing(double, MipsShare)
      */
     Vm addOnUpdateProcessingListener(EventListener<VmHostEventInfo> listener);
 
@@ -396,7 +397,27 @@ public interface Vm extends Machine, UniquelyIdentifiable, Comparable<Vm>, Custo
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      * @pre currentTime >= 0
      */
-    double updateProcessing(double currentTime, List<Double> mipsShare);
+    double updateProcessing(double currentTime, MipsShare mipsShare);
+
+    /**
+     * Updates the processing of cloudlets running on this VM.
+     * It's just an adapter for {@link #updateProcessing(double, MipsShare)}
+     * that copies the given list into a {@link MipsShare}.
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare list with MIPS share of each Pe available to the
+     * scheduler
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @deprecated Use {@link #updateProcessing(double, MipsShare)} instead.
+     * The simulation just calls the {@link MipsShare} version of this method.
+     * Overriding this one has no effect on the simulation.
+     */
+    @Deprecated
+    default double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        return updateProcessing(currentTime, new MipsShare(mipsShare));
+    }
 
     /**
      * Sets the Cloudlet scheduler the Vm uses to schedule cloudlets execution.
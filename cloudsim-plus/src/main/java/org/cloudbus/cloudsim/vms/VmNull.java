@@ -8,6 +8,7 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.Processor;
 import org.cloudbus.cloudsim.resources.Resource;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -46,8 +47,8 @@ final class VmNull implements Vm {
     @Override public double getCurrentRequestedMaxMips() {
         return 0.0;
     }
-    @Override public List<Double> getCurrentRequestedMips() {
-        return Collections.emptyList();
+    @Override public MipsShare getCurrentRequestedMips() {
+        return new MipsShare();
     }
     @Override public long getCurrentRequestedRam() {
         return 0;
@@ -149,7 +150,7 @@ final class VmNull implements Vm {
     @Override public Vm setSize(long size) {
         return this;
     }
-    @Override public double updateProcessing(double currentTime, List<Double> mipsShare) {
+    @Override public double updateProcessing(double currentTime, MipsShare mipsShare) {
         return 0.0;
     }
     @Override public Vm setCloudletScheduler(CloudletScheduler cloudletScheduler) {
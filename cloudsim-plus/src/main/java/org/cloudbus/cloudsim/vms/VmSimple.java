@@ -13,6 +13,7 @@ import org.cloudbus.cloudsim.core.UniquelyIdentifiable;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -22,9 +23,6 @@ import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
 
 import java.util.*;
-import java.util.stream.LongStream;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * Implements the basic features of a Virtual Machine (VM) that runs inside a
@@ -211,7 +209,7 @@ public class VmSimple implements Vm {
     }
 
     @Override
-    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+    public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
         Objects.requireNonNull(mipsShare);
 
         if(!cloudletScheduler.getCloudletExecList().isEmpty()){
@@ -246,23 +244,21 @@ public class VmSimple implements Vm {
 
     @Override
     public double getCurrentRequestedMaxMips() {
-        return getCurrentRequestedMips().stream().mapToDouble(m->m).max().orElse(0.0);
+        return getCurrentRequestedMips().maxMips();
     }
 
     @Override
     public double getCurrentRequestedTotalMips() {
-        return getCurrentRequestedMips().stream().mapToDouble(m->m).sum();
+        return getCurrentRequestedMips().totalMips();
     }
 
     @Override
-    public List<Double> getCurrentRequestedMips() {
+    public MipsShare getCurrentRequestedMips() {
         if (isCreated()) {
             return host.getVmScheduler().getRequestedMips(this);
         }
 
-        return LongStream.range(0, getNumberOfPes())
-                .mapToObj(i -> getMips())
-                .collect(toList());
+        return new MipsShare(getNumberOfPes(), getMips());
     }
 
     @Override
@@ -723,7 +719,11 @@ public class VmSimple implements Vm {
          * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
          */
     public void notifyOnUpdateProcessingListeners() {
-        onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l,this)));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        getHost().getDatacenter().runOrDeferUntilHostsUpdated(() -> onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l,this))));
     }
 
     @Override
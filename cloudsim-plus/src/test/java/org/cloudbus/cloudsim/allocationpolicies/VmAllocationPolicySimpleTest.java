@@ -5,6 +5,7 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.HostSimpleTest;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudbus.cloudsim.vms.VmSimpleTest;
 import org.easymock.EasyMock;
 import org.junit.Before;
@@ -85,4 +86,52 @@ public class VmAllocationPolicySimpleTest {
         final Vm vm = VmSimpleTest.createVm(0, 1000, 10);
         assertFalse(policy.allocateHostForVm(vm));
     }
+
+    @Test
+    public void allocateHostForVm_WhenBatchOfVmsIsGiven_ReturnVmsNotAllocated() {
+        final Vm vm0 = VmSimpleTest.createVm(0, 1000, 6);
+        final Vm vm1 = VmSimpleTest.createVm(1, 1000, 10);
+        final Vm vm2 = VmSimpleTest.createVm(2, 1000, 5);
+        final List<Vm> notAllocated = policy.allocateHostForVm(Arrays.asList(vm0, vm1, vm2));
+
+        assertEquals(Collections.singletonList(vm1), notAllocated);
+        final List<Host> hosts = policy.getDatacenter().getHostList();
+        assertEquals(hosts.get(2), vm0.getHost());
+        assertEquals(hosts.get(3), vm2.getHost());
+    }
+
+    @Test
+    public void allocateHostForVm_WhenHostsHaveSameFreePes_AllocateFirstHostFromList() {
+        final Vm vm0 = VmSimpleTest.createVm(0, 1000, 1);
+        final Vm vm1 = VmSimpleTest.createVm(1, 1000, 1);
+        assertTrue(policy.allocateHostForVm(vm0));
+        assertTrue(policy.allocateHostForVm(vm1));
+
+        final List<Host> hosts = policy.getDatacenter().getHostList();
+        assertEquals(hosts.get(2), vm0.getHost());
+        assertEquals(hosts.get(2), vm1.getHost());
+    }
+
+    @Test
+    public void allocateHostForVm_WhenPreviousVmIsDeallocated_AllocateHostWithFreedPes() {
+        final Vm vm0 = VmSimpleTest.createVm(0, 1000, 4);
+        assertTrue(policy.allocateHostForVm(vm0));
+        final Host host = vm0.getHost();
+        policy.deallocateHostForVm(vm0);
+
+        final Vm vm1 = VmSimpleTest.createVm(1, 1000, 1);
+        assertTrue(policy.allocateHostForVm(vm1));
+        assertEquals(host, vm1.getHost());
+        assertEquals(6, (long)policy.getHostFreePesMap().get(host) + vm1.getNumberOfPes());
+    }
+
+    @Test
+    public void findHostForVm_WhenFreePesAreChangedBySubclass_SelectHostWithMostFreePes() {
+        final List<Host> hosts = policy.getDatacenter().getHostList();
+        policy.setHostFreePes(hosts.get(0), 10);
+        assertEquals(10, (long)policy.getHostFreePesMap().get(hosts.get(0)));
+
+        final Vm vm = new VmSimple(0, 1000, 1).setRam(1000).setBw(1000).setSize(100);
+        assertEquals(hosts.get(0), policy.findHostForVm(vm).orElse(Host.NULL));
+    }
 }
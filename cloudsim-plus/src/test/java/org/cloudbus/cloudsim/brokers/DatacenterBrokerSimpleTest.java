@@ -0,0 +1,53 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class DatacenterBrokerSimpleTest {
+    private DatacenterBroker broker;
+
+    @Before
+    public void setUp() {
+        broker = new DatacenterBrokerSimple(new CloudSim());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubmitCloudletListWithTwoCloudletsWithTheSameId() {
+        broker.submitCloudletList(Arrays.asList(new CloudletSimple(0, 1000, 1), new CloudletSimple(0, 2000, 1)));
+    }
+
+    @Test
+    public void testSubmitCloudletWithTheSameIdOfAWaitingOne() {
+        final Cloudlet cloudlet = new CloudletSimple(0, 1000, 1);
+        broker.submitCloudlet(cloudlet);
+        try {
+            broker.submitCloudlet(new CloudletSimple(0, 2000, 1));
+            fail("A Cloudlet with the same id of a waiting one must be rejected.");
+        } catch (IllegalArgumentException e) {
+            assertEquals(Collections.singletonList(cloudlet), broker.getCloudletWaitingList());
+        }
+    }
+
+    @Test
+    public void testSubmitVmListWithTwoVmsWithTheSameIdDoesNotAddAnyVm() {
+        final Vm vm0 = new VmSimple(0, 1000, 1);
+        final Vm vm1 = new VmSimple(1, 1000, 1);
+        try {
+            broker.submitVmList(Arrays.asList(vm0, vm1, new VmSimple(0, 1000, 1)));
+            fail("A VM with the same id of another one in the list must be rejected.");
+        } catch (IllegalArgumentException e) {
+            assertEquals(Collections.emptyList(), broker.getVmWaitingList());
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
+import org.cloudbus.cloudsim.core.events.PredicateType;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class CloudSimTest {
+    private static final int TAG1 = 1000;
+    private static final int TAG2 = 2000;
+
+    private CloudSim simulation;
+    private DatacenterBroker src1;
+    private DatacenterBroker src2;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        src1 = new DatacenterBrokerSimple(simulation);
+        src2 = new DatacenterBrokerSimple(simulation);
+    }
+
+    @Test
+    public void testCancelAllWithPredicateTypeRemovesJustEventsFromSourceAndTag() {
+        final long previousEvents = simulation.getNumberOfFutureEvents(e -> true);
+        simulation.send(src1, src2, 1, TAG1, null);
+        simulation.send(src1, src2, 2, TAG1, null);
+        simulation.sendFirst(src1, src2, 1, TAG1, null);
+        simulation.send(src1, src2, 1, TAG2, null);
+        simulation.send(src2, src1, 1, TAG1, null);
+
+        assertTrue(simulation.cancelAll(src1, new PredicateType(TAG1)));
+        assertEquals(0, simulation.getNumberOfFutureEvents(e -> e.getSource() == src1 && e.getTag() == TAG1));
+        assertEquals(previousEvents + 2, simulation.getNumberOfFutureEvents(e -> true));
+        assertFalse(simulation.cancelAll(src1, new PredicateType(TAG1)));
+    }
+
+    @Test
+    public void testCancelAllWithCustomPredicate() {
+        simulation.send(src1, src2, 1, TAG1, null);
+        simulation.send(src1, src2, 2, TAG1, null);
+
+        assertTrue(simulation.cancelAll(src1, e -> e.getTime() > 1));
+        assertEquals(1, simulation.getNumberOfFutureEvents(e -> e.getSource() == src1));
+        assertFalse(simulation.cancelAll(src1, e -> e.getTime() > 1));
+    }
+
+    @Test
+    public void testCancelAllWithPredicateTypeSubclassUsesItsOwnTest() {
+        simulation.send(src1, src2, 1, TAG1, null);
+        simulation.send(src1, src2, 2, TAG2, null);
+
+        final PredicateType tag2Predicate = new PredicateType(TAG1) {
+            @Override
+            public boolean test(final SimEvent evt) {
+                return evt.getTag() == TAG2;
+            }
+        };
+
+        assertTrue(simulation.cancelAll(src1, tag2Predicate));
+        assertEquals(1, simulation.getNumberOfFutureEvents(e -> e.getSource() == src1 && e.getTag() == TAG1));
+        assertEquals(0, simulation.getNumberOfFutureEvents(e -> e.getSource() == src1 && e.getTag() == TAG2));
+    }
+
+    @Test
+    public void testCancelRemovesEventFromIndex() {
+        simulation.send(src1, src2, 1, TAG1, null);
+        simulation.send(src1, src2, 2, TAG1, null);
+
+        assertEquals(1, simulation.cancel(src1, new PredicateType(TAG1)).getTime(), 0);
+        assertTrue(simulation.cancelAll(src1, new PredicateType(TAG1)));
+        assertEquals(0, simulation.getNumberOfFutureEvents(e -> e.getSource() == src1));
+    }
+
+    @Test
+    public void testEventPoolingDoesNotChangeProcessedEvents() {
+        assertEquals(processPingPongEvents(false), processPingPongEvents(true));
+    }
+
+    @Test
+    public void testRetainedEventsAreNotReused() {
+        final CloudSim sim = new CloudSim();
+        sim.enableEventPooling();
+        assertTrue(sim.isEventPoolingEnabled());
+
+        final List<SimEvent> retained = new ArrayList<>();
+        sim.addOnEventProcessingListener(evt -> {
+            if(evt.getTag() == TAG1) {
+                sim.retainEvent(evt);
+                retained.add(evt);
+            }
+        });
+        new PingPongEntity(sim);
+        sim.start();
+
+        assertEquals(PingPongEntity.EVENTS, retained.size());
+        for (int i = 0; i < retained.size(); i++) {
+            assertEquals(TAG1, retained.get(i).getTag());
+            assertEquals(i + 1, retained.get(i).getTime(), 0);
+        }
+    }
+
+    /**
+     * Runs a simulation where an entity sends events to itself,
+     * collecting the time and tag of every processed event.
+     */
+    private List<String> processPingPongEvents(final boolean eventPooling) {
+        final CloudSim sim = new CloudSim();
+        if(eventPooling) {
+            sim.enableEventPooling();
+        }
+
+        final List<String> processed = new ArrayList<>();
+        sim.addOnEventProcessingListener(evt -> processed.add(evt.getTime() + ":" + evt.getTag()));
+        new PingPongEntity(sim);
+        sim.start();
+        return processed;
+    }
+
+    /**
+     * An entity that sends events to itself, one at each second.
+     */
+    private static class PingPongEntity extends CloudSimEntity {
+        private static final int EVENTS = 100;
+        private int received;
+
+        PingPongEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            schedule(this, 1, TAG1, 0);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == TAG1 && (Integer)evt.getData() == received && ++received < EVENTS) {
+                schedule(this, 1, TAG1, received);
+            }
+        }
+    }
+
+    @Test
+    public void testEachEntityKeepsJustItsEventsIntoItsDeferredQueueSortedByTime() {
+        final CloudSim sim = new CloudSim();
+        final WaitingEntity waiting1 = new WaitingEntity(sim);
+        final WaitingEntity waiting2 = new WaitingEntity(sim);
+        new CloudSimEntity(sim) {
+            @Override
+            protected void startEntity() {
+                schedule(waiting1, 2, TAG1);
+                schedule(waiting2, 1, TAG1);
+                schedule(waiting1, 1, TAG2);
+                schedule(waiting2, 3, TAG2);
+                //Keeps the simulation running after the time the events are checked
+                schedule(this, 10, TAG1);
+            }
+
+            @Override
+            public void processEvent(final SimEvent evt) {/**/}
+        };
+
+        sim.runUntil(5);
+        assertEquals(Arrays.asList("1.0:" + TAG2, "2.0:" + TAG1), deferredEvents(waiting1));
+        assertEquals(Arrays.asList("1.0:" + TAG1, "3.0:" + TAG2), deferredEvents(waiting2));
+    }
+
+    @Test
+    public void testEventsBeforeTheLastOnesAreInsertedIntoTheEntityDeferredQueueInTimeOrder() {
+        final CloudSim sim = new CloudSim();
+        final WaitingEntity waiting = new WaitingEntity(sim);
+        final DeferredQueue queue = waiting.getDeferredQueue();
+        queue.addEvent(new CloudSimEvent(sim, SimEvent.Type.SEND, 1, src1, waiting, TAG1, null));
+        queue.addEvent(new CloudSimEvent(sim, SimEvent.Type.SEND, 3, src1, waiting, TAG1, null));
+        queue.addEvent(new CloudSimEvent(sim, SimEvent.Type.SEND, 1, src1, waiting, TAG2, null));
+        queue.addEventFirst(new CloudSimEvent(sim, SimEvent.Type.SEND, 1, src2, waiting, TAG2, null));
+        queue.addEvent(new CloudSimEvent(sim, SimEvent.Type.SEND, 2, src2, waiting, TAG1, null));
+
+        assertEquals(
+            Arrays.asList("1.0:" + TAG2, "1.0:" + TAG1, "1.0:" + TAG2, "2.0:" + TAG1, "3.0:" + TAG1),
+            deferredEvents(waiting));
+        assertSame(src2, queue.first().getSource());
+        assertTrue(getDeferredQueue(src1).isEmpty());
+    }
+
+    private static DeferredQueue getDeferredQueue(final DatacenterBroker broker) {
+        return ((CloudSimEntity) broker).getDeferredQueue();
+    }
+
+    /**
+     * Gets the time and tag of the events into the deferred queue of an entity.
+     */
+    private static List<String> deferredEvents(final CloudSimEntity entity) {
+        return entity.getDeferredQueue().stream().map(evt -> evt.getTime() + ":" + evt.getTag()).collect(toList());
+    }
+
+    @Test
+    public void testEntityMadeRunnableBySetStateProcessesItsDeferredEvents() {
+        final CloudSim sim = new CloudSim();
+        final WakerEntity waker = new WakerEntity(sim);
+        final WaitingEntity waiting = new WaitingEntity(sim);
+        waker.waiting = waiting;
+
+        /* Runs up to a time before the simulation end, since
+         * the end of simulation event would wake the waiting entity anyway. */
+        sim.runUntil(5);
+
+        assertEquals(Arrays.asList(TAG1, TAG2), waiting.received);
+    }
+
+    /**
+     * An entity that waits for an event which is never sent,
+     * keeping the events it receives into its deferred queue.
+     */
+    private static class WaitingEntity extends CloudSimEntity {
+        private final List<Integer> received = new ArrayList<>();
+
+        WaitingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            waitForEvent(evt -> false);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == TAG1 || evt.getTag() == TAG2) {
+                received.add(evt.getTag());
+            }
+        }
+    }
+
+    /**
+     * An entity that sends events to a {@link WaitingEntity} and
+     * later makes it runnable again through {@link SimEntity#setState(SimEntity.State)}.
+     */
+    private static class WakerEntity extends CloudSimEntity {
+        private WaitingEntity waiting;
+
+        WakerEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            schedule(waiting, 1, TAG1);
+            schedule(waiting, 2, TAG2);
+            schedule(this, 3, TAG1);
+            schedule(this, 10, TAG2);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == TAG1) {
+                waiting.setState(State.RUNNABLE);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelExecutionProducesTheSameResultsOfSequentialOne() {
+        final List<String> sequential = runMultipleDatacenters(false);
+        final List<String> parallel = runMultipleDatacenters(true);
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testBatchedVmCreationProducesTheSameCloudletResults() {
+        final List<String> perVm = runMultipleDatacentersCloudletResults(false);
+        final List<String> batched = runMultipleDatacentersCloudletResults(true);
+        assertFalse(perVm.isEmpty());
+        assertEquals(perVm, batched);
+    }
+
+    /**
+     * Runs a simulation with some Datacenters, each one used by a different broker,
+     * collecting the processed events and the results of finished Cloudlets.
+     */
+    private List<String> runMultipleDatacenters(final boolean parallel) {
+        final CloudSim sim = new CloudSim();
+        if(parallel) {
+            sim.enableParallelExecution(4);
+            assertTrue(sim.isParallelExecutionEnabled());
+        }
+
+        final List<String> results = new ArrayList<>();
+        sim.addOnEventProcessingListener(evt -> results.add(evt.getTime() + ":" + evt.getTag() + ":" + evt.getSerial()));
+
+        final List<DatacenterBroker> brokers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Datacenter dc = createDatacenter(sim);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(sim);
+            broker.setDatacenterSupplier(() -> dc);
+            broker.submitVmList(createVms());
+            broker.submitCloudletList(createCloudlets(i));
+            brokers.add(broker);
+        }
+
+        sim.start();
+        for (final DatacenterBroker broker : brokers) {
+            for (final Cloudlet cloudlet : broker.getCloudletFinishedList()) {
+                results.add(cloudlet.getId() + ":" + cloudlet.getVm().getHost().getDatacenter().getId() + ":" + cloudlet.getFinishTime());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Runs a simulation with some Datacenters, each one used by a different broker,
+     * collecting just the results of finished Cloudlets,
+     * since the processed events change when VM creation is batched.
+     */
+    private List<String> runMultipleDatacentersCloudletResults(final boolean batchVmCreation) {
+        final CloudSim sim = new CloudSim();
+        final List<DatacenterBroker> brokers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Datacenter dc = createDatacenter(sim);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(sim);
+            broker.setDatacenterSupplier(() -> dc);
+            broker.setBatchVmCreationRequests(batchVmCreation);
+            broker.submitVmList(createVms());
+            broker.submitCloudletList(createCloudlets(i));
+            brokers.add(broker);
+        }
+
+        sim.start();
+        final List<String> results = new ArrayList<>();
+        for (final DatacenterBroker broker : brokers) {
+            for (final Cloudlet cloudlet : broker.getCloudletFinishedList()) {
+                results.add(cloudlet.getId() + ":" + cloudlet.getVm().getHost().getDatacenter().getId() + ":" + cloudlet.getFinishTime());
+            }
+        }
+
+        return results;
+    }
+
+    private Datacenter createDatacenter(final CloudSim sim) {
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final List<Pe> pes = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                pes.add(new PeSimple(1000, new PeProvisionerSimple()));
+            }
+
+            final Host host = new HostSimple(4096, 10000, 100000, pes);
+            host.setRamProvisioner(new ResourceProvisionerSimple())
+                .setBwProvisioner(new ResourceProvisionerSimple())
+                .setVmScheduler(new VmSchedulerTimeShared());
+            hosts.add(host);
+        }
+
+        return new DatacenterSimple(sim, hosts, new VmAllocationPolicySimple()).setSchedulingInterval(1);
+    }
+
+    private List<Vm> createVms() {
+        final List<Vm> vms = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            vms.add(new VmSimple(i, 1000, 2).setRam(512).setBw(1000).setSize(1000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        return vms;
+    }
+
+    private List<Cloudlet> createCloudlets(final int datacenterIndex) {
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000 * (i + datacenterIndex + 1), 1);
+            cloudlets.add(cloudlet.setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        return cloudlets;
+    }
+
+    @Test
+    public void testRunUntilStopsAfterEventsUpToTheGivenTime() {
+        final CloudSim sim = new CloudSim();
+        final PingPongEntity entity = new PingPongEntity(sim);
+
+        assertEquals(10, sim.runUntil(10.5), 0);
+        assertEquals(10, entity.received);
+        assertTrue(sim.isRunning());
+
+        assertEquals(20, sim.runUntil(20), 0);
+        assertEquals(20, entity.received);
+
+        sim.runUntil(Double.MAX_VALUE);
+        assertEquals(PingPongEntity.EVENTS, entity.received);
+        assertFalse(sim.isRunning());
+    }
+
+    @Test
+    public void testRunEventsThenStart() {
+        final CloudSim sim = new CloudSim();
+        final PingPongEntity entity = new PingPongEntity(sim);
+
+        final long processed = sim.runEvents(5);
+        assertTrue(processed >= 5);
+        assertTrue(entity.received > 0 && entity.received < PingPongEntity.EVENTS);
+
+        sim.start();
+        assertEquals(PingPongEntity.EVENTS, entity.received);
+        assertFalse(sim.isRunning());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRunEventsAfterSimulationFinished() {
+        final CloudSim sim = new CloudSim();
+        new PingPongEntity(sim);
+        sim.start();
+        sim.runEvents(1);
+    }
+
+    @Test(timeout = 5000)
+    public void testResumeUnblocksPausedSimulation() throws InterruptedException {
+        final CloudSim sim = new CloudSim();
+        final PingPongEntity entity = new PingPongEntity(sim);
+        sim.pause(10);
+
+        final Thread thread = new Thread(sim::start);
+        thread.start();
+        while (!sim.isPaused()) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(10, sim.clock(), 0);
+        assertTrue(sim.resume());
+        thread.join();
+        assertEquals(PingPongEntity.EVENTS, entity.received);
+    }
+}
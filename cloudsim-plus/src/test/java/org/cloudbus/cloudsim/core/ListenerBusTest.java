@@ -0,0 +1,95 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class ListenerBusTest {
+    private ListenerBus<EventInfo> bus;
+    private List<Double> times;
+
+    @Before
+    public void setUp() {
+        bus = new ListenerBus<>();
+        times = new ArrayList<>();
+    }
+
+    @Test
+    public void testAddSameListenerTwice() {
+        final EventListener<EventInfo> listener = info -> times.add(info.getTime());
+        assertTrue(bus.add(listener));
+        assertFalse(bus.add(listener));
+        bus.notify(1);
+        assertEquals(1, times.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final EventListener<EventInfo> listener = info -> times.add(info.getTime());
+        bus.add(listener);
+        assertTrue(bus.remove(listener));
+        assertFalse(bus.remove(listener));
+        assertTrue(bus.isEmpty());
+        bus.notify(1);
+        assertTrue(times.isEmpty());
+    }
+
+    @Test
+    public void testNotifyReusesEventInfo() {
+        final List<EventInfo> infos = new ArrayList<>();
+        final EventListener<EventInfo> listener = infos::add;
+        bus.add(listener);
+        bus.notify(1);
+        bus.notify(2);
+        assertSame(infos.get(0), infos.get(1));
+        assertSame(listener, infos.get(1).getListener());
+        assertEquals(2, infos.get(1).getTime(), 0);
+    }
+
+    @Test
+    public void testNotifyAtInterval() {
+        bus.add(info -> times.add(info.getTime()), 10);
+        for (final double time : new double[]{1, 5, 12, 15, 19, 20, 31, 35}) {
+            bus.notify(time);
+        }
+
+        assertEquals(3, times.size());
+        assertEquals(12, times.get(0), 0);
+        assertEquals(20, times.get(1), 0);
+        assertEquals(31, times.get(2), 0);
+    }
+
+    @Test
+    public void testListenerRemovingItselfDuringNotification() {
+        final EventListener<EventInfo> first = new EventListener<EventInfo>() {
+            @Override
+            public void update(final EventInfo info) {
+                times.add(info.getTime());
+                bus.remove(this);
+            }
+        };
+        bus.add(first);
+        bus.add(info -> times.add(-info.getTime()));
+
+        bus.notify(1);
+        bus.notify(2);
+        assertEquals(3, times.size());
+        assertEquals(1, times.get(0), 0);
+        assertEquals(-1, times.get(1), 0);
+        assertEquals(-2, times.get(2), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddWithNegativeInterval() {
+        bus.add(info -> {}, -1);
+    }
+}
@@ -0,0 +1,143 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class CalendarEventQueueTest {
+    private CloudSim simulation;
+    private CalendarEventQueue instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new CalendarEventQueue(0.5);
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithInvalidBucketWidth() {
+        new CalendarEventQueue(0);
+    }
+
+    @Test
+    public void testPollFirstWhenEmpty() {
+        assertTrue(instance.isEmpty());
+        assertSame(SimEvent.NULL, instance.pollFirst());
+    }
+
+    /**
+     * Interleaves additions and removals of events, with clustered and sparse times,
+     * so that buckets are resized many times.
+     */
+    @Test
+    public void testPollFirstFollowsTheSameOrderOfFutureQueue() {
+        final FutureQueue treeQueue = new FutureQueue();
+        final Random random = new Random(1);
+        double clock = 0;
+        for (int i = 0; i < 20000; i++) {
+            final double delay = i % 7 == 0 ? random.nextInt(10000) : random.nextInt(5) * 10;
+            final SimEvent evt = createEvent(clock + delay);
+            if(i % 10 == 0) {
+                treeQueue.addEventFirst(evt);
+                instance.addEventFirst(evt);
+            } else {
+                treeQueue.addEvent(evt);
+                instance.addEvent(evt);
+            }
+
+            if (i % 3 == 0) {
+                final SimEvent first = treeQueue.pollFirst();
+                assertSame(first, instance.pollFirst());
+                clock = first.eventTime();
+            }
+        }
+
+        assertEquals(treeQueue.size(), instance.size());
+        assertEquals(treeQueue.stream().collect(toList()), instance.stream().collect(toList()));
+        while (!treeQueue.isEmpty()) {
+            assertSame(treeQueue.pollFirst(), instance.pollFirst());
+        }
+
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        final SimEvent evt1 = createEvent(1);
+        final SimEvent evt2 = createEvent(100);
+        instance.addEvent(evt2);
+        instance.addEvent(evt1);
+
+        assertTrue(instance.remove(evt1));
+        assertFalse(instance.remove(evt1));
+        assertEquals(1, instance.size());
+        assertSame(evt2, instance.first());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithMinBucketWidthGreaterThanInitialWidth() {
+        new CalendarEventQueue(1, 2);
+    }
+
+    /**
+     * Drains a burst of events happening at the same time,
+     * followed by events in a grid of distinct times.
+     * The burst must not make the buckets narrower than the grid,
+     * otherwise every removal would go through lots of empty days.
+     * Events must still be removed in time order.
+     */
+    @Test
+    public void testPollFirstAfterSameTimeBurstKeepsBucketWidthAndOrder() {
+        final int burstEvents = 20000;
+        final int gridEvents = 2000;
+        final double gridInterval = 10;
+        for (int i = 0; i < burstEvents; i++) {
+            instance.addEvent(createEvent(5));
+        }
+
+        for (int i = 1; i <= gridEvents; i++) {
+            instance.addEvent(createEvent(i * gridInterval));
+        }
+
+        for (int i = 0; i < burstEvents; i++) {
+            instance.pollFirst();
+        }
+
+        double previousTime = 0;
+        while (!instance.isEmpty()) {
+            final double time = instance.pollFirst().eventTime();
+            assertTrue(time > previousTime);
+            previousTime = time;
+            assertTrue(instance.getBucketWidth() >= gridInterval);
+        }
+
+        assertEquals(gridEvents * gridInterval, previousTime, 0);
+    }
+
+    @Test
+    public void testBucketWidthIsNotSmallerThanMinWidth() {
+        final double minWidth = 0.1;
+        instance = new CalendarEventQueue(1, minWidth);
+        for (int i = 0; i < 1000; i++) {
+            instance.addEvent(createEvent(i * 0.001));
+        }
+
+        while (!instance.isEmpty()) {
+            instance.pollFirst();
+            assertTrue(instance.getBucketWidth() >= minWidth);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class DeferredQueueTest {
+    private CloudSim simulation;
+    private DeferredQueue instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new DeferredQueue();
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test
+    public void testPollFirstWhenEmpty() {
+        assertTrue(instance.isEmpty());
+        assertSame(SimEvent.NULL, instance.pollFirst());
+    }
+
+    @Test
+    public void testAddEventKeepsTimeOrderAndInsertsAfterSameTimeEvents() {
+        final SimEvent evt1 = createEvent(1);
+        final SimEvent evt2 = createEvent(2);
+        final SimEvent evt3 = createEvent(3);
+        final SimEvent evt4 = createEvent(2);
+        final SimEvent evt5 = createEvent(0);
+        instance.addEvent(evt1);
+        instance.addEvent(evt2);
+        instance.addEvent(evt3);
+        instance.addEvent(evt4);
+        instance.addEvent(evt5);
+
+        assertEquals(Arrays.asList(evt5, evt1, evt2, evt4, evt3), instance.stream().collect(toList()));
+    }
+
+    @Test
+    public void testAddEventFirstInsertsBeforeSameTimeEvents() {
+        final SimEvent evt1 = createEvent(1);
+        final SimEvent evt2 = createEvent(2);
+        final SimEvent evt3 = createEvent(2);
+        final SimEvent evt4 = createEvent(3);
+        instance.addEvent(evt1);
+        instance.addEvent(evt2);
+        instance.addEventFirst(evt3);
+        instance.addEventFirst(evt4);
+
+        assertEquals(Arrays.asList(evt1, evt3, evt2, evt4), instance.stream().collect(toList()));
+        assertSame(evt1, instance.pollFirst());
+        assertSame(evt3, instance.first());
+        assertTrue(instance.remove(evt2));
+        assertEquals(2, instance.size());
+    }
+}
@@ -0,0 +1,119 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the default methods of {@link EventQueue},
+ * using a queue which implements just the abstract ones.
+ *
+ * @author agent
+ */
+public class EventQueueTest {
+    private CloudSim simulation;
+    private EventQueue instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new ListEventQueue();
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddEventFirstIsNotSupportedByDefault() {
+        instance.addEventFirst(createEvent(0));
+    }
+
+    @Test
+    public void testPollFirst() {
+        assertSame(SimEvent.NULL, instance.pollFirst());
+        final SimEvent evt1 = createEvent(2);
+        final SimEvent evt0 = createEvent(1);
+        instance.addEvent(evt1);
+        instance.addEvent(evt0);
+
+        assertSame(evt0, instance.pollFirst());
+        assertSame(evt1, instance.pollFirst());
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAndRemoveAll() {
+        final SimEvent evt0 = createEvent(0);
+        final SimEvent evt1 = createEvent(1);
+        final SimEvent evt2 = createEvent(2);
+        Stream.of(evt0, evt1, evt2).forEach(instance::addEvent);
+
+        assertTrue(instance.remove(evt1));
+        assertFalse(instance.remove(evt1));
+        assertTrue(instance.removeAll(Arrays.asList(evt0, evt2)));
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        instance.addEvent(createEvent(0));
+        instance.addEvent(createEvent(1));
+        instance.clear();
+        assertTrue(instance.isEmpty());
+    }
+
+    /**
+     * An {@link EventQueue} implementing just the abstract methods,
+     * as implementations written before the default ones were added.
+     */
+    private static final class ListEventQueue implements EventQueue {
+        private final List<SimEvent> events = new ArrayList<>();
+
+        @Override
+        public void addEvent(final SimEvent newEvent) {
+            events.add(newEvent);
+            events.sort(Comparator.comparingDouble(SimEvent::getTime));
+        }
+
+        @Override
+        public Iterator<SimEvent> iterator() {
+            return events.iterator();
+        }
+
+        @Override
+        public Stream<SimEvent> stream() {
+            return events.stream();
+        }
+
+        @Override
+        public int size() {
+            return events.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        @Override
+        public SimEvent first() throws NoSuchElementException {
+            if (events.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            return events.get(0);
+        }
+    }
+}
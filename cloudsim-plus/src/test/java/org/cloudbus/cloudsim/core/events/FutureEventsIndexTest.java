@@ -0,0 +1,105 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class FutureEventsIndexTest {
+    private CloudSim simulation;
+    private FutureEventsIndex instance;
+    private List<SimEntity> entities;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new FutureEventsIndex();
+        entities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entities.add(new DatacenterBrokerSimple(simulation));
+        }
+    }
+
+    private SimEvent createEvent(final SimEntity src, final int tag) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, 0, src, SimEntity.NULL, tag, null);
+    }
+
+    @Test
+    public void testRemoveAllWhenEmpty() {
+        assertTrue(instance.isEmpty());
+        assertTrue(instance.removeAll(entities.get(0), 1).isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        final SimEvent evt1 = createEvent(entities.get(0), 1);
+        final SimEvent evt2 = createEvent(entities.get(0), 1);
+        final SimEvent evt3 = createEvent(entities.get(0), 2);
+        instance.add(evt1);
+        instance.add(evt2);
+        instance.add(evt3);
+        assertEquals(2, instance.size());
+
+        assertTrue(instance.remove(evt1));
+        assertFalse(instance.remove(evt1));
+        assertEquals(2, instance.size());
+        assertTrue(instance.remove(evt2));
+        assertEquals(1, instance.size());
+        assertEquals(Collections.singletonList(evt3), instance.removeAll(entities.get(0), 2));
+        assertTrue(instance.isEmpty());
+    }
+
+    /**
+     * Randomly adds and removes events for many sources and tags,
+     * so that the hash table is resized and its entries are shifted back after removals,
+     * comparing the index with a map of sets.
+     */
+    @Test
+    public void testAddAndRemoveKeepTheSameEventsOfAMapOfSets() {
+        final Map<List<Integer>, Set<SimEvent>> expected = new HashMap<>();
+        final List<SimEvent> added = new ArrayList<>();
+        final Random random = new Random(3);
+        for (int i = 0; i < 20000; i++) {
+            final int operation = random.nextInt(10);
+            final SimEntity src = entities.get(random.nextInt(entities.size()));
+            final int tag = random.nextInt(30);
+            final List<Integer> key = Arrays.asList(src.getId(), tag);
+            if (operation < 6) {
+                final SimEvent evt = createEvent(src, tag);
+                instance.add(evt);
+                added.add(evt);
+                expected.computeIfAbsent(key, k -> new HashSet<>()).add(evt);
+            } else if (operation < 9 && !added.isEmpty()) {
+                final SimEvent evt = added.remove(random.nextInt(added.size()));
+                final List<Integer> evtKey = Arrays.asList(evt.getSource().getId(), evt.getTag());
+                assertEquals(expected.get(evtKey).remove(evt), instance.remove(evt));
+                if (expected.get(evtKey).isEmpty()) {
+                    expected.remove(evtKey);
+                }
+            } else {
+                final Set<SimEvent> expectedEvents = expected.getOrDefault(key, Collections.emptySet());
+                final List<SimEvent> removed = instance.removeAll(src, tag);
+                assertEquals(expectedEvents, new HashSet<>(removed));
+                added.removeAll(removed);
+                expected.remove(key);
+            }
+
+            assertEquals(expected.size(), instance.size());
+        }
+
+        for (final Map.Entry<List<Integer>, Set<SimEvent>> entry : expected.entrySet()) {
+            final SimEntity src = entities.get(entry.getKey().get(0) - entities.get(0).getId());
+            assertEquals(entry.getValue(), new HashSet<>(instance.removeAll(src, entry.getKey().get(1))));
+        }
+
+        assertTrue(instance.isEmpty());
+    }
+}
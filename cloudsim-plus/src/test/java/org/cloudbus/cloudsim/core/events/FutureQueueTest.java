@@ -0,0 +1,45 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class FutureQueueTest {
+    private CloudSim simulation;
+    private FutureQueue instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new FutureQueue();
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test
+    public void testPollAllAt() {
+        final SimEvent evt1 = createEvent(1);
+        final SimEvent evt2 = createEvent(1);
+        final SimEvent evt3 = createEvent(2);
+        final SimEvent evt4 = createEvent(1);
+        instance.addEvent(evt3);
+        instance.addEvent(evt1);
+        instance.addEvent(evt2);
+        instance.addEventFirst(evt4);
+
+        assertTrue(instance.pollAllAt(2).isEmpty());
+        assertEquals(Arrays.asList(evt4, evt1, evt2), instance.pollAllAt(1));
+        assertEquals(1, instance.size());
+        assertSame(evt3, instance.first());
+    }
+}
@@ -0,0 +1,121 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class HeapEventQueueTest {
+    private CloudSim simulation;
+    private HeapEventQueue instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        instance = new HeapEventQueue();
+    }
+
+    private SimEvent createEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, 0, null);
+    }
+
+    @Test
+    public void testPollFirstWhenEmpty() {
+        assertTrue(instance.isEmpty());
+        assertSame(SimEvent.NULL, instance.pollFirst());
+    }
+
+    @Test
+    public void testPollFirstFollowsTheSameOrderOfFutureQueue() {
+        final FutureQueue treeQueue = new FutureQueue();
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final double time = random.nextInt(50);
+            final SimEvent evt = createEvent(time);
+            if(i % 10 == 0) {
+                treeQueue.addEventFirst(evt);
+                instance.addEventFirst(evt);
+            } else {
+                treeQueue.addEvent(evt);
+                instance.addEvent(evt);
+            }
+        }
+
+        assertEquals(treeQueue.stream().collect(toList()), instance.stream().collect(toList()));
+        while (!treeQueue.isEmpty()) {
+            assertSame(treeQueue.pollFirst(), instance.pollFirst());
+        }
+
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testPollAllAt() {
+        instance.addEvent(createEvent(2));
+        instance.addEvent(createEvent(1));
+        instance.addEvent(createEvent(1));
+        instance.addEvent(createEvent(3));
+
+        assertEquals(0, instance.pollAllAt(0).size());
+        assertEquals(2, instance.pollAllAt(1).size());
+        assertEquals(2, instance.first().eventTime(), 0);
+        assertEquals(2, instance.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final List<SimEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final SimEvent evt = createEvent(10 - i);
+            events.add(evt);
+            instance.addEvent(evt);
+        }
+
+        assertTrue(instance.remove(events.get(9)));
+        assertFalse(instance.remove(events.get(9)));
+        assertTrue(instance.removeAll(events.subList(0, 3)));
+        assertEquals(6, instance.size());
+        assertSame(events.get(8), instance.pollFirst());
+        assertSame(events.get(7), instance.pollFirst());
+    }
+
+    /**
+     * Randomly removes events from both a {@link FutureQueue} and the heap,
+     * checking the heap keeps the same order after the positions of the events change.
+     */
+    @Test
+    public void testRemoveAllKeepsTheSameOrderOfFutureQueue() {
+        final FutureQueue treeQueue = new FutureQueue();
+        final Random random = new Random(2);
+        final List<SimEvent> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            final SimEvent evt = createEvent(random.nextInt(100));
+            events.add(evt);
+            treeQueue.addEvent(evt);
+            instance.addEvent(evt);
+        }
+
+        final List<SimEvent> removed = new ArrayList<>();
+        for (int i = 0; i < events.size(); i += 3) {
+            removed.add(events.get(i));
+        }
+
+        assertTrue(treeQueue.removeAll(removed));
+        assertTrue(instance.removeAll(removed));
+        assertFalse(instance.removeAll(removed));
+        assertEquals(treeQueue.size(), instance.size());
+        while (!treeQueue.isEmpty()) {
+            assertSame(treeQueue.pollFirst(), instance.pollFirst());
+        }
+    }
+}
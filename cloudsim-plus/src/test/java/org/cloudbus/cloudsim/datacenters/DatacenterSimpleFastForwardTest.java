@@ -0,0 +1,86 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.cloudbus.cloudsim.datacenters.DatacenterSimpleScenario.CLOUDLETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the fast-forward processing of Cloudlets running inside the Hosts of a {@link DatacenterSimple}.
+ *
+ * @author agent
+ */
+public class DatacenterSimpleFastForwardTest {
+    private static final double SCHEDULING_INTERVAL = 0.1;
+
+    @Test
+    public void testFastForwardSkipsSchedulingIntervalForConstantUtilization() {
+        final DatacenterSimpleScenario regular = new DatacenterSimpleScenario(SCHEDULING_INTERVAL);
+        final int[] regularUpdates = countHostUpdates(regular);
+        regular.start();
+
+        final DatacenterSimpleScenario fastForward = new DatacenterSimpleScenario(SCHEDULING_INTERVAL);
+        final int[] fastForwardUpdates = countHostUpdates(fastForward);
+        fastForward.getVmList().forEach(vm -> vm.getCloudletScheduler().enableFastForward());
+        fastForward.start();
+
+        assertTrue(fastForwardUpdates[0] * 5 < regularUpdates[0]);
+        final List<Double> finishTimes = regular.getFinishTimes();
+        final List<Double> fastForwardFinishTimes = fastForward.getFinishTimes();
+        assertEquals(CLOUDLETS, fastForwardFinishTimes.size());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            //Finish times may differ up to the minimum time between events, when finished Cloudlets are detected
+            final double delta = fastForward.getSimulation().getMinTimeBetweenEvents() + 0.01;
+            assertEquals(finishTimes.get(i), fastForwardFinishTimes.get(i), delta);
+        }
+    }
+
+    @Test
+    public void testFastForwardIsNotPossibleForDynamicUtilization() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario();
+        final Vm vm = scenario.getVmList().get(0);
+        vm.getCloudletScheduler().enableFastForward();
+
+        final Cloudlet cloudlet = new CloudletSimple(1000, 1)
+            .setUtilizationModelCpu(new UtilizationModelDynamic(0.5).setUtilizationUpdateFunction(um -> um.getUtilization() + 0.1))
+            .setUtilizationModelRam(new UtilizationModelFull())
+            .setUtilizationModelBw(new UtilizationModelFull());
+        final DatacenterBroker broker = scenario.getBroker();
+        broker.submitCloudlet(cloudlet);
+        broker.bindCloudletToVm(cloudlet, vm);
+
+        final List<Boolean> fastForwardPossibleWhileRunning = new ArrayList<>();
+        scenario.getSimulation().addOnClockTickListener(info -> {
+            if (cloudlet.getStatus() == Cloudlet.Status.INEXEC) {
+                fastForwardPossibleWhileRunning.add(vm.getCloudletScheduler().isFastForwardPossible());
+            }
+        });
+        scenario.start();
+
+        assertTrue(cloudlet.isFinished());
+        assertFalse(fastForwardPossibleWhileRunning.isEmpty());
+        assertFalse(fastForwardPossibleWhileRunning.contains(true));
+    }
+
+    /**
+     * Counts the processing updates of all Hosts in the Datacenter of a scenario.
+     * @param scenario the scenario to count the Host updates
+     * @return a single-element array with the number of updates, which is increased while the simulation runs
+     */
+    private int[] countHostUpdates(final DatacenterSimpleScenario scenario) {
+        final int[] updates = new int[1];
+        scenario.getDatacenter().getHostList().forEach(host -> host.addOnUpdateProcessingListener(info -> updates[0]++));
+        return updates;
+    }
+}
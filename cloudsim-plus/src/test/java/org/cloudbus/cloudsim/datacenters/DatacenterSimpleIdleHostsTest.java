@@ -0,0 +1,104 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.power.models.PowerModelLinear;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.cloudbus.cloudsim.datacenters.DatacenterSimpleScenario.CLOUDLETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a {@link DatacenterSimple} stops updating idle Hosts
+ * and still accounts the power they consume.
+ *
+ * @author agent
+ */
+public class DatacenterSimpleIdleHostsTest {
+    @Test
+    public void testIdleHostIsUpdatedJustOnce() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario();
+        final UpdateCountingHost host = addIdleHost(scenario);
+        scenario.start();
+
+        assertEquals(CLOUDLETS, scenario.getBroker().getCloudletFinishedList().size());
+        assertEquals(1, host.getUpdates());
+    }
+
+    @Test
+    public void testIdleHostIsUpdatedAgainAfterChanging() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario();
+        final UpdateCountingHost host = addIdleHost(scenario);
+        scenario.getSimulation().addOnClockTickListener(info -> {
+            if(info.getTime() >= 2 && !host.isStateHistoryEnabled()) {
+                host.enableStateHistory();
+            }
+        });
+        scenario.start();
+
+        assertTrue(host.getUpdates() > 1);
+        assertTrue(host.getStateHistory().size() > 1);
+    }
+
+    @Test
+    public void testPowerOfIdleHostIsTheSameWhenNotUpdated() {
+        //A listener requires the idle Host to be updated at every Datacenter processing
+        final DatacenterSimpleScenario updatedScenario = new DatacenterSimpleScenario();
+        final UpdateCountingHost updatedHost = addIdleHost(updatedScenario);
+        updatedHost.addOnUpdateProcessingListener(info -> {});
+        updatedScenario.start();
+
+        final DatacenterSimpleScenario notUpdatedScenario = new DatacenterSimpleScenario();
+        final UpdateCountingHost notUpdatedHost = addIdleHost(notUpdatedScenario);
+        notUpdatedScenario.start();
+
+        assertTrue(updatedHost.getUpdates() > 1);
+        assertEquals(1, notUpdatedHost.getUpdates());
+        final double expectedPower = updatedScenario.getDatacenter().getPower();
+        assertTrue(expectedPower > 0);
+        assertEquals(expectedPower, notUpdatedScenario.getDatacenter().getPower(), 0.000001);
+    }
+
+    /**
+     * Adds to the Datacenter of a scenario a Host which isn't suitable for any VM,
+     * so that it stays idle.
+     * @param scenario the scenario to add the Host to
+     * @return the created Host
+     */
+    private UpdateCountingHost addIdleHost(final DatacenterSimpleScenario scenario) {
+        final UpdateCountingHost host = new UpdateCountingHost();
+        host.setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared())
+            .setPowerModel(new PowerModelLinear(100, 0.5));
+        scenario.getDatacenter().addHost(host);
+        return host;
+    }
+
+    /**
+     * A Host with a single PE which counts how many times its processing was updated.
+     */
+    private static final class UpdateCountingHost extends HostSimple {
+        private int updates;
+
+        private UpdateCountingHost() {
+            super(4096, 10000, 100000, Collections.singletonList(new PeSimple(100, new PeProvisionerSimple())));
+        }
+
+        @Override
+        public double updateProcessing(final double currentTime) {
+            updates++;
+            return super.updateProcessing(currentTime);
+        }
+
+        private int getUpdates() {
+            return updates;
+        }
+    }
+}
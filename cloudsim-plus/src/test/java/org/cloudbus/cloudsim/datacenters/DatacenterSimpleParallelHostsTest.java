@@ -0,0 +1,71 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.cloudbus.cloudsim.datacenters.DatacenterSimpleScenario.CLOUDLETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the parallel processing of the Hosts of a {@link DatacenterSimple}.
+ *
+ * @author agent
+ */
+public class DatacenterSimpleParallelHostsTest {
+    @Test
+    public void testParallelHostsProcessingHasSameResultsAsSequential() {
+        final List<String> sequentialResults = runAndGetResults(new DatacenterSimpleScenario());
+
+        final DatacenterSimpleScenario parallel = new DatacenterSimpleScenario();
+        parallel.getDatacenter().enableParallelHostsProcessing(2);
+        assertTrue(parallel.getDatacenter().isParallelHostsProcessingEnabled());
+        final List<String> parallelResults = runAndGetResults(parallel);
+
+        assertEquals(CLOUDLETS, parallel.getBroker().getCloudletFinishedList().size());
+        assertEquals(sequentialResults, parallelResults);
+    }
+
+    @Test
+    public void testParallelHostsProcessingIsDisabledWhenSimulationFinishes() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario();
+        scenario.getDatacenter().enableParallelHostsProcessing(2);
+        scenario.start();
+
+        assertEquals(CLOUDLETS, scenario.getBroker().getCloudletFinishedList().size());
+        assertFalse(scenario.getDatacenter().isParallelHostsProcessingEnabled());
+    }
+
+    @Test
+    public void testDisableParallelHostsProcessing() {
+        final DatacenterSimple datacenter = new DatacenterSimpleScenario().getDatacenter();
+        datacenter.enableParallelHostsProcessing(2);
+        datacenter.disableParallelHostsProcessing();
+        assertFalse(datacenter.isParallelHostsProcessingEnabled());
+    }
+
+    /**
+     * Runs the simulation of a scenario, collecting the notifications of Host listeners
+     * and the Cloudlets received by the broker, in the order they happened.
+     * @param scenario the scenario to run
+     * @return the list of collected results
+     */
+    private List<String> runAndGetResults(final DatacenterSimpleScenario scenario) {
+        final List<String> results = new ArrayList<>();
+        for (final Host host : scenario.getDatacenter().getHostList()) {
+            host.addOnUpdateProcessingListener(info -> results.add(info.getTime() + " " + info.getHost().getId()));
+        }
+
+        scenario.start();
+        for (final Cloudlet cloudlet : scenario.getBroker().getCloudletFinishedList()) {
+            results.add(cloudlet.getId() + " " + cloudlet.getFinishTime() + " " + cloudlet.getVm().getId());
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,141 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A simulation scenario with a {@link DatacenterSimple} of 2 Hosts,
+ * a broker, {@link #VMS} VMs and {@link #CLOUDLETS} Cloudlets,
+ * used by tests that run an entire simulation to check some feature of the Datacenter.
+ * Each created scenario has its own simulation, which isn't started yet.
+ *
+ * @author agent
+ */
+final class DatacenterSimpleScenario {
+    static final int VMS = 2;
+    static final int CLOUDLETS = 6;
+
+    private final CloudSim simulation;
+    private final DatacenterSimple datacenter;
+    private final DatacenterBroker broker;
+    private final List<Vm> vmList;
+
+    /**
+     * Creates a scenario where the Datacenter processes events every second.
+     */
+    DatacenterSimpleScenario() {
+        this(1);
+    }
+
+    /**
+     * Creates a scenario where the Datacenter processes events at a given interval.
+     * @param schedulingInterval the scheduling interval of the Datacenter
+     */
+    DatacenterSimpleScenario(final double schedulingInterval) {
+        simulation = new CloudSim();
+        datacenter = createDatacenter(schedulingInterval);
+        broker = new DatacenterBrokerSimple(simulation);
+
+        vmList = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, 2).setRam(512).setBw(1000).setSize(1000)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000 * (i + 1), 1);
+            cloudletList.add(cloudlet.setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+    }
+
+    private DatacenterSimple createDatacenter(final double schedulingInterval) {
+        final List<Host> hostList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            hostList.add(createHost(4, 1000));
+        }
+
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple());
+        dc.setSchedulingInterval(schedulingInterval);
+        return dc;
+    }
+
+    /**
+     * Creates a Host which isn't added to any Datacenter yet.
+     * @param pes the number of PEs of the Host
+     * @param mips the MIPS capacity of each PE
+     * @return the created Host
+     */
+    private static HostSimple createHost(final int pes, final long mips) {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < pes; i++) {
+            peList.add(new PeSimple(mips, new PeProvisionerSimple()));
+        }
+
+        final HostSimple host = new HostSimple(4096, 10000, 100000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+        return host;
+    }
+
+    CloudSim getSimulation() {
+        return simulation;
+    }
+
+    DatacenterSimple getDatacenter() {
+        return datacenter;
+    }
+
+    DatacenterBroker getBroker() {
+        return broker;
+    }
+
+    List<Vm> getVmList() {
+        return vmList;
+    }
+
+    /**
+     * Starts the simulation and waits it to finish.
+     * @return this scenario
+     */
+    DatacenterSimpleScenario start() {
+        simulation.start();
+        return this;
+    }
+
+    /**
+     * Gets the finish times of the Cloudlets received by the broker, sorted by Cloudlet id.
+     * @return the list of finish times
+     */
+    List<Double> getFinishTimes() {
+        return broker.getCloudletFinishedList().stream()
+            .sorted(Comparator.comparingLong(Cloudlet::getId))
+            .map(Cloudlet::getFinishTime)
+            .collect(toList());
+    }
+}
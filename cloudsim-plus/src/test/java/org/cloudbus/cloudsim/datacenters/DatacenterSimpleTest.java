@@ -0,0 +1,37 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.Test;
+
+import static org.cloudbus.cloudsim.datacenters.DatacenterSimpleScenario.CLOUDLETS;
+import static org.cloudbus.cloudsim.datacenters.DatacenterSimpleScenario.VMS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ */
+public class DatacenterSimpleTest {
+    @Test
+    public void testAllFinishedCloudletsAreReturnedToBroker() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario().start();
+        assertEquals(CLOUDLETS, scenario.getBroker().getCloudletFinishedList().size());
+        for (final Vm vm : scenario.getVmList()) {
+            assertTrue(vm.getCloudletScheduler().getCloudletToReturnList().isEmpty());
+            assertEquals(CLOUDLETS / VMS, vm.getCloudletScheduler().getCloudletReturnedList().size());
+        }
+    }
+
+    @Test
+    public void testAllFinishedCloudletsAreReturnedToBrokerWhenRemovedFromSchedulers() {
+        final DatacenterSimpleScenario scenario = new DatacenterSimpleScenario();
+        scenario.getVmList().forEach(vm -> vm.getCloudletScheduler().enableFinishedCloudletsRemoval());
+        scenario.start();
+
+        assertEquals(CLOUDLETS, scenario.getBroker().getCloudletFinishedList().size());
+        for (final Vm vm : scenario.getVmList()) {
+            assertTrue(vm.getCloudletScheduler().getCloudletFinishedList().isEmpty());
+            assertTrue(vm.getCloudletScheduler().getCloudletReturnedList().isEmpty());
+        }
+    }
+}
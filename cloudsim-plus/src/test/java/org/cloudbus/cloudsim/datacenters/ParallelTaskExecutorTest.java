@@ -0,0 +1,89 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class ParallelTaskExecutorTest {
+    private ParallelTaskExecutor executor;
+    private List<Integer> actions;
+
+    @Before
+    public void setUp() {
+        executor = new ParallelTaskExecutor(4);
+        actions = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testResultsAndDeferredActionsAreInTheOrderOfTasks() {
+        final List<Supplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int task = i;
+            tasks.add(() -> {
+                assertTrue(ParallelTaskExecutor.isRunningInParallel());
+                //Deferred actions of the first tasks must be performed first, even if they finish last
+                sleep(8 - task);
+                ParallelTaskExecutor.runOrDefer(() -> actions.add(task * 10));
+                ParallelTaskExecutor.runOrDefer(() -> actions.add(task * 10 + 1));
+                assertTrue(actions.isEmpty());
+                return task;
+            });
+        }
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), executor.run(tasks));
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            expected.add(i * 10);
+            expected.add(i * 10 + 1);
+        }
+
+        assertEquals(expected, actions);
+        assertFalse(ParallelTaskExecutor.isRunningInParallel());
+    }
+
+    @Test
+    public void testSingleTaskRunsWithoutDeferringActions() {
+        final List<Supplier<Integer>> tasks = Collections.singletonList(() -> {
+            ParallelTaskExecutor.runOrDefer(() -> actions.add(1));
+            return actions.size();
+        });
+
+        assertEquals(Collections.singletonList(1), executor.run(tasks));
+    }
+
+    @Test
+    public void testDeferOutOfParallelTask() {
+        assertFalse(ParallelTaskExecutor.defer(() -> actions.add(1)));
+        ParallelTaskExecutor.runOrDefer(() -> actions.add(2));
+        assertEquals(Collections.singletonList(2), actions);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidNumberOfThreads() {
+        new ParallelTaskExecutor(0);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
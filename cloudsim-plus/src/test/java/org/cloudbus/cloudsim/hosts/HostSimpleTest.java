@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
@@ -32,6 +33,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -328,8 +331,7 @@ public class HostSimpleTest {
     public void testUpdateVmProcessing() {
         final int numberOfVms = 4;
 
-        final List<Double> mipsShare = new ArrayList<>(1);
-        mipsShare.add(HOST_MIPS / numberOfVms);
+        final MipsShare mipsShare = new MipsShare(1, HOST_MIPS / numberOfVms);
         final double time = 0;
 
         final List<Vm> vmList = createListOfMockVms(numberOfVms, mipsShare, time);
@@ -358,11 +360,11 @@ public class HostSimpleTest {
     }
 
     private List<Vm> createListOfMockVms(
-        final int numberOfVms, final List<Double> mipsShare,
+        final int numberOfVms, final MipsShare mipsShare,
         final double simulationClock)
     {
         final List<Vm> vmList = new ArrayList<>(numberOfVms);
-        final double totalMipsCapacity = mipsShare.stream().mapToDouble(v -> v).sum();
+        final double totalMipsCapacity = mipsShare.totalMips();
         for(int i = 0; i < numberOfVms; i++) {
             final double nextCloudletCompletionTimeOfCurrentVm = i+1;
 
@@ -471,6 +473,34 @@ public class HostSimpleTest {
         assertEquals(numberOfPes-1, host.getNumberOfFreePes());
     }
 
+    @Test
+    public void testPeListsAreUpdatedWhenPeStatusChanges() {
+        final Host host = createHostSimple(0, 4);
+        final List<Pe> peList = host.getPeList();
+        assertEquals(4, host.getFreePeList().size());
+        assertEquals(TOTAL_HOST_MIPS * 2, host.getTotalMipsCapacity(), 0);
+
+        peList.get(1).setStatus(Pe.Status.BUSY);
+        peList.get(3).setStatus(Pe.Status.FAILED);
+        assertEquals(Arrays.asList(peList.get(0), peList.get(2)), host.getFreePeList());
+        assertEquals(Collections.singletonList(peList.get(1)), host.getBuzyPeList());
+        assertEquals(Arrays.asList(peList.get(0), peList.get(1), peList.get(2)), host.getWorkingPeList());
+        assertEquals(1, host.getNumberOfFailedPes());
+        assertEquals(3, host.getNumberOfWorkingPes());
+        assertEquals(HOST_MIPS * 3, host.getTotalMipsCapacity(), 0);
+
+        peList.get(3).setStatus(Pe.Status.FREE);
+        peList.get(0).setCapacity(HOST_MIPS / 2);
+        assertEquals(3, host.getNumberOfFreePes());
+        assertEquals(HOST_MIPS * 3.5, host.getTotalMipsCapacity(), 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReplacePeIsNotAllowed() {
+        final Host host = createHostSimple(0, 2);
+        host.getPeList().set(0, new PeSimple(HOST_MIPS * 2, new PeProvisionerSimple()));
+    }
+
     @Test
     public void testGetNumberOfFreePes_noFreePes() {
         final int numberOfPes = 4;
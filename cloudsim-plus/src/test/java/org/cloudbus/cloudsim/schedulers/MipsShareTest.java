@@ -0,0 +1,69 @@
+package org.cloudbus.cloudsim.schedulers;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class MipsShareTest {
+    @Test
+    public void testCompactShare() {
+        final MipsShare share = new MipsShare(4, 1000);
+        assertEquals(4, share.size());
+        assertEquals(1000, share.getMips(3), 0);
+        assertEquals(4000, share.totalMips(), 0);
+        assertEquals(1000, share.maxMips(), 0);
+        assertEquals(Arrays.asList(1000.0, 1000.0, 1000.0, 1000.0), share);
+    }
+
+    @Test
+    public void testShareFromList() {
+        final List<Double> mipsList = Arrays.asList(1000.0, 500.0, 250.0);
+        final MipsShare share = new MipsShare(mipsList);
+        assertEquals(mipsList, share);
+        assertEquals(1750, share.totalMips(), 0);
+        assertEquals(1000, share.maxMips(), 0);
+        assertEquals(500, share.getMips(1), 0);
+    }
+
+    @Test
+    public void testMap() {
+        assertEquals(new MipsShare(2, 500), new MipsShare(2, 1000).map(mips -> mips / 2));
+        assertEquals(Arrays.asList(500.0, 250.0), new MipsShare(Arrays.asList(1000.0, 500.0)).map(mips -> mips / 2));
+    }
+
+    @Test
+    public void testRemovePes() {
+        final MipsShare share = new MipsShare(Arrays.asList(1000.0, 500.0, 250.0));
+        assertEquals(1, share.removePes(1));
+        assertEquals(Arrays.asList(500.0, 250.0), share);
+        assertEquals(2, share.removePes(5));
+        assertTrue(share.isEmpty());
+        assertEquals(0, share.maxMips(), 0);
+    }
+
+    @Test
+    public void testRemoveByIndex() {
+        final MipsShare share = new MipsShare(Arrays.asList(1000.0, 500.0, 250.0));
+        assertEquals(500.0, share.remove(1), 0);
+        assertEquals(Arrays.asList(1000.0, 250.0), share);
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final MipsShare share = new MipsShare(3, 1000);
+        final MipsShare copy = new MipsShare(share);
+        share.removePes(2);
+        assertEquals(3, copy.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetMipsOutOfBounds() {
+        new MipsShare(2, 1000).getMips(2);
+    }
+}
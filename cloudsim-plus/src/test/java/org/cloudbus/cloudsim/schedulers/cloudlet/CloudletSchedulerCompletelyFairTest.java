@@ -0,0 +1,106 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ */
+public class CloudletSchedulerCompletelyFairTest {
+    private static final int PES = 2;
+    private static final int CLOUDLETS = 20;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private CloudletSchedulerCompletelyFair scheduler;
+    private List<Cloudlet> cloudletList;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < PES; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+
+        final Host host = new HostSimple(4096, 10000, 100000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+        final List<Host> hostList = new ArrayList<>();
+        hostList.add(host);
+        new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple());
+
+        broker = new DatacenterBrokerSimple(simulation);
+        scheduler = new CloudletSchedulerCompletelyFair();
+        final Vm vm = new VmSimple(0, 1000, PES).setRam(512).setBw(1000).setSize(1000);
+        vm.setCloudletScheduler(scheduler);
+        broker.submitVm(vm);
+
+        cloudletList = new ArrayList<>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000 * (i % 3 + 1), 1);
+            cloudlet.setUtilizationModel(new UtilizationModelFull()).setPriority(i % 4);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitCloudletList(cloudletList);
+    }
+
+    @Test
+    public void testWaitingListIsAlwaysSortedByVirtualRuntime() {
+        final boolean[] checked = new boolean[1];
+        simulation.addOnClockTickListener(info -> {
+            final List<CloudletExecution> waitingList = scheduler.getCloudletWaitingList();
+            for (int i = 1; i < waitingList.size(); i++) {
+                assertTrue(waitingList.get(i - 1).getVirtualRuntime() <= waitingList.get(i).getVirtualRuntime());
+                checked[0] = true;
+            }
+        });
+
+        simulation.start();
+        assertTrue(checked[0]);
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        assertTrue(scheduler.getCloudletWaitingList().isEmpty());
+    }
+
+    @Test
+    public void testPausedCloudletIsRemovedFromWaitingList() {
+        final Cloudlet cloudlet = cloudletList.get(CLOUDLETS - 1);
+        simulation.addOnClockTickListener(info -> {
+            if (cloudlet.getStatus() == Cloudlet.Status.QUEUED) {
+                assertTrue(scheduler.cloudletPause(cloudlet.getId()));
+                assertFalse(scheduler.getCloudletList().contains(cloudlet));
+            }
+        });
+
+        simulation.start();
+        assertEquals(Cloudlet.Status.PAUSED, cloudlet.getStatus());
+        assertEquals(CLOUDLETS - 1, broker.getCloudletFinishedList().size());
+    }
+}
@@ -359,6 +359,93 @@ public class CloudletSchedulerTimeSharedTest {
         assertTrue(instance.getCloudletExecList().isEmpty());
     }
 
+    @Test
+    public void testGetCloudletToReturnList_EmptyAfterReturningFinishedCloudlets() {
+        final long mips = 1000;
+        final int numberOfCloudlets = 2;
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(mips, numberOfCloudlets, numberOfCloudlets);
+        instance.updateProcessing(1, instance.getCurrentMipsShare());
+        assertEquals(numberOfCloudlets, instance.getCloudletToReturnList().size());
+
+        final List<Cloudlet> finished = new ArrayList<>(instance.getCloudletToReturnList());
+        finished.forEach(instance::addCloudletToReturnedList);
+        assertTrue(instance.getCloudletToReturnList().isEmpty());
+        assertEquals(numberOfCloudlets, instance.getCloudletFinishedList().size());
+        assertTrue(instance.isCloudletReturned(finished.get(0)));
+    }
+
+    @Test
+    public void testAddCloudletToReturnedList_FinishedCloudletsRemovalEnabled() {
+        final long mips = 1000;
+        final int numberOfCloudlets = 2;
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(mips, numberOfCloudlets, numberOfCloudlets);
+        instance.enableFinishedCloudletsRemoval();
+        instance.updateProcessing(1, instance.getCurrentMipsShare());
+
+        final List<Cloudlet> finished = new ArrayList<>(instance.getCloudletToReturnList());
+        instance.addCloudletToReturnedList(finished.get(0));
+        assertEquals(1, instance.getCloudletFinishedList().size());
+        assertSame(finished.get(1), instance.getCloudletFinishedList().get(0).getCloudlet());
+
+        instance.addCloudletToReturnedList(finished.get(1));
+        assertTrue(instance.getCloudletFinishedList().isEmpty());
+        assertTrue(instance.getCloudletReturnedList().isEmpty());
+    }
+
+    @Test
+    public void testGetAvailableMipsByPe_AfterCancelingAndPausingCloudlets() {
+        final long mips = 1000;
+        final int numberOfVmPes = 2;
+        final int numberOfCloudlets = 4;
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(mips, numberOfVmPes, numberOfCloudlets);
+        assertEquals(500, instance.getAvailableMipsByPe(), 0);
+
+        instance.cloudletCancel(1);
+        assertEquals(2000.0/3, instance.getAvailableMipsByPe(), 0);
+
+        instance.cloudletPause(0);
+        assertEquals(mips, instance.getAvailableMipsByPe(), 0);
+    }
+
+    @Test
+    public void testPauseResumeAndCancelCloudletsById() {
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(1000, 2, 4);
+        assertTrue(instance.cloudletPause(2));
+        assertFalse(instance.cloudletPause(2));
+        assertEquals(Cloudlet.Status.PAUSED.ordinal(), instance.getCloudletStatus(2));
+        assertEquals(3, instance.getCloudletExecList().size());
+
+        instance.cloudletResume(2);
+        assertEquals(Cloudlet.Status.INEXEC.ordinal(), instance.getCloudletStatus(2));
+        final List<CloudletExecution> execList = instance.getCloudletExecList();
+        assertEquals(4, execList.size());
+        assertEquals(2, execList.get(execList.size()-1).getCloudletId());
+
+        assertEquals(0, instance.cloudletCancel(0).getId());
+        assertSame(Cloudlet.NULL, instance.cloudletCancel(0));
+        assertEquals(-1, instance.getCloudletStatus(0));
+        assertFalse(instance.cloudletPause(0));
+        assertEquals(3, instance.getCloudletExecList().size());
+    }
+
+    @Test
+    public void testGetCloudletWaitingListReturnsTheSameReadOnlyView() {
+        final CloudletSchedulerTimeShared instance = new CloudletSchedulerTimeShared();
+        assertSame(instance.getCloudletWaitingList(), instance.getCloudletWaitingList());
+    }
+
+    @Test
+    public void testGetAvailableMipsByPe_AfterDeallocatingPesFromVm() {
+        final long mips = 1000;
+        final int numberOfVmPes = 4;
+        final int numberOfCloudlets = 4;
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(mips, numberOfVmPes, numberOfCloudlets);
+        assertEquals(mips, instance.getAvailableMipsByPe(), 0);
+
+        instance.deallocatePesFromVm(2);
+        assertEquals(500, instance.getAvailableMipsByPe(), 0);
+    }
+
     @Test
     public void testRemoveCloudletFromExecList() {
         final CloudletExecution c = new CloudletExecution(Cloudlet.NULL);
@@ -0,0 +1,100 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class IndexedListTest {
+    private static List<Integer> createList(final int size) {
+        final List<Integer> list = new IndexedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Test
+    public void testKeepsInsertionOrderAfterRemovals() {
+        final List<Integer> list = createList(6);
+        assertTrue(list.remove(Integer.valueOf(0)));
+        assertTrue(list.remove(Integer.valueOf(3)));
+        assertFalse(list.remove(Integer.valueOf(3)));
+        assertEquals(4, list.size());
+        assertEquals(Arrays.asList(1, 2, 4, 5), list);
+        assertEquals(2, list.indexOf(4));
+        assertEquals(5, list.get(3).intValue());
+    }
+
+    @Test
+    public void testContains() {
+        final List<Integer> list = createList(3);
+        assertTrue(list.contains(2));
+        list.remove(Integer.valueOf(2));
+        assertFalse(list.contains(2));
+        assertEquals(-1, list.indexOf(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddDuplicatedElement() {
+        createList(3).add(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetDuplicatedElement() {
+        createList(3).set(0, 2);
+    }
+
+    @Test
+    public void testRemoveAllAndRemoveIf() {
+        final List<Integer> list = createList(10);
+        assertTrue(list.removeAll(Arrays.asList(1, 3, 20)));
+        assertTrue(list.removeIf(i -> i % 2 == 0));
+        assertEquals(Arrays.asList(5, 7, 9), list);
+    }
+
+    @Test
+    public void testAddAtIndexAndRemoveByIndex() {
+        final List<Integer> list = createList(3);
+        list.remove(Integer.valueOf(0));
+        list.add(1, 10);
+        assertEquals(Arrays.asList(1, 10, 2), list);
+        assertEquals(10, list.remove(1).intValue());
+        assertEquals(Arrays.asList(1, 2), list);
+        assertEquals(1, list.indexOf(2));
+    }
+
+    @Test
+    public void testSort() {
+        final List<Integer> list = createList(5);
+        list.remove(Integer.valueOf(2));
+        list.sort(Comparator.reverseOrder());
+        assertEquals(Arrays.asList(4, 3, 1, 0), list);
+        assertEquals(0, list.indexOf(4));
+        assertTrue(list.remove(Integer.valueOf(4)));
+        assertEquals(Arrays.asList(3, 1, 0), list);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final List<Integer> list = createList(5);
+        final Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(Arrays.asList(0, 2, 4), list);
+        assertEquals(new ArrayList<>(list), list);
+    }
+}
@@ -11,6 +11,8 @@ import java.util.stream.IntStream;
 import static java.util.stream.Collectors.toList;
 import static org.cloudbus.cloudsim.utilizationmodels.UtilizationModel.Unit;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Manoel Campos da Silva Filho
@@ -198,4 +200,12 @@ public class UtilizationModelDynamicTest {
         instance.setMaxResourceUtilization(-1);
         instance.setMaxResourceUtilization(-0.1);
     }
+
+    @Test
+    public void testIsConstantOnlyWithoutUpdateFunction() {
+        final UtilizationModelDynamic instance = new UtilizationModelDynamic(0.5);
+        assertTrue(instance.isConstant());
+        instance.setUtilizationUpdateFunction(um -> um.getUtilization() + 0.1);
+        assertFalse(instance.isConstant());
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * An Integration Test (IT) running the same simulation scenario
+ * with and without {@link DatacenterBroker#setBatchCloudletMessages(boolean) batching of Cloudlet messages},
+ * checking that batching reduces the number of processed events
+ * but doesn't change the simulation results.
+ *
+ * @author agent
+ */
+public final class CloudletMessagesBatchingIntegrationTest {
+    private static final int HOST_PES = 8;
+    private static final int VMS = 4;
+    private static final int CLOUDLETS = 40;
+
+    /**
+     * The results of running a simulation scenario.
+     */
+    private static final class Results {
+        private int processedEvents;
+        private int finishListenerCalls;
+        private final List<Cloudlet> cloudlets = new ArrayList<>();
+    }
+
+    private Results runSimulation(final boolean batchCloudletMessages) {
+        final CloudSim simulation = new CloudSim();
+        final Results results = new Results();
+        simulation.addOnEventProcessingListener(ev -> results.processedEvents++);
+
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000, new PeProvisionerSimple()));
+        }
+
+        final Host host = new HostSimple(8192, 100000, 100000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+        final List<Host> hostList = new ArrayList<>();
+        hostList.add(host);
+        new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.setBatchCloudletMessages(batchCloudletMessages);
+
+        final List<Vm> vmList = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(i, 1000, HOST_PES/VMS).setRam(512).setBw(1000).setSize(1000);
+            vm.setCloudletScheduler(new CloudletSchedulerTimeShared());
+            vmList.add(vm);
+        }
+
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000 * (i % 4 + 1), 1);
+            cloudlet.setUtilizationModel(new UtilizationModelFull()).setSubmissionDelay(i % 2);
+            cloudlet.addOnFinishListener(info -> results.finishListenerCalls++);
+            results.cloudlets.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(results.cloudlets);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        return results;
+    }
+
+    @Test
+    public void testBatchingReducesEventsWithoutChangingResults() {
+        final Results individual = runSimulation(false);
+        final Results batched = runSimulation(true);
+
+        assertTrue(batched.processedEvents < individual.processedEvents);
+        assertEquals(CLOUDLETS, batched.finishListenerCalls);
+        assertEquals(individual.finishListenerCalls, batched.finishListenerCalls);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet expected = individual.cloudlets.get(i);
+            final Cloudlet actual = batched.cloudlets.get(i);
+            assertEquals(expected.getVm().getId(), actual.getVm().getId());
+            assertEquals(expected.getExecStartTime(), actual.getExecStartTime(), 0.001);
+            assertEquals(expected.getFinishTime(), actual.getFinishTime(), 0.001);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * An Integration Test (IT) running a simulation scenario with 1 PM and 2 VMs,
+ * where each VM runs a Cloudlet with a different length.
+ * A {@link DatacenterBroker#setVmDestructionDelayFunction(java.util.function.Function) VM destruction delay}
+ * is set, so that each VM must be destroyed after being idle for such a delay,
+ * no matter if the other VM is yet running Cloudlets.
+ *
+ * @author agent
+ */
+public final class IdleVmDestructionIntegrationTest {
+    private static final int PES = 4;
+    private static final int MIPS = 1000;
+    private static final double VM_DESTRUCTION_DELAY = 5;
+
+    private CloudSim simulation;
+    private Datacenter datacenter;
+    private DatacenterBroker broker;
+    private List<Vm> vmList;
+    private double[] vmDestructionTimes;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < PES; i++) {
+            peList.add(new PeSimple(MIPS, new PeProvisionerSimple()));
+        }
+
+        final Host host = new HostSimple(4096, 100000, 100000, peList);
+        host.setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+        final List<Host> hostList = new ArrayList<>();
+        hostList.add(host);
+        datacenter = new DatacenterSimple(simulation, hostList, new VmAllocationPolicySimple()).setSchedulingInterval(1);
+
+        broker = new DatacenterBrokerSimple(simulation);
+        broker.setVmDestructionDelayFunction(vm -> VM_DESTRUCTION_DELAY);
+
+        vmList = new ArrayList<>();
+        vmDestructionTimes = new double[2];
+        for (int i = 0; i < vmDestructionTimes.length; i++) {
+            final Vm vm = new VmSimple(i, MIPS, PES/2).setRam(512).setBw(1000).setSize(1000);
+            vm.setCloudletScheduler(new CloudletSchedulerTimeShared());
+            vm.addOnHostDeallocationListener(info -> vmDestructionTimes[(int)info.getVm().getId()] = info.getTime());
+            vmList.add(vm);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(createCloudlets(10000, 40000));
+    }
+
+    private List<Cloudlet> createCloudlets(final long... lengths) {
+        final List<Cloudlet> list = new ArrayList<>();
+        for (int i = 0; i < lengths.length; i++) {
+            list.add(createCloudlet(lengths[i], vmList.get(i)));
+        }
+
+        return list;
+    }
+
+    private Cloudlet createCloudlet(final long length, final Vm vm) {
+        final Cloudlet cloudlet = new CloudletSimple(length, 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull()).setVm(vm);
+        return cloudlet;
+    }
+
+    @Test
+    public void testIdleVmIsDestroyedWhileOtherVmIsRunning() {
+        simulation.start();
+
+        final List<Cloudlet> finished = broker.getCloudletFinishedList();
+        assertEquals(2, finished.size());
+        final double longestFinishTime = finished.get(1).getFinishTime();
+        assertEquals(15, vmDestructionTimes[0], 1);
+        assertTrue(vmDestructionTimes[0] < longestFinishTime);
+        assertEquals(longestFinishTime + VM_DESTRUCTION_DELAY, vmDestructionTimes[1], 1);
+    }
+
+    @Test
+    public void testIdleVmIsNotDestroyedAfterReceivingNewCloudlet() {
+        final Cloudlet cloudlet = createCloudlet(10000, vmList.get(0));
+        final boolean[] submitted = new boolean[1];
+        simulation.addOnClockTickListener(info -> {
+            if(info.getTime() >= 12 && !submitted[0]) {
+                broker.submitCloudlet(cloudlet);
+                submitted[0] = true;
+            }
+        });
+
+        simulation.start();
+
+        assertEquals(3, broker.getCloudletFinishedList().size());
+        assertEquals(Cloudlet.Status.SUCCESS, cloudlet.getStatus());
+        assertTrue(vmDestructionTimes[0] >= cloudlet.getFinishTime() + VM_DESTRUCTION_DELAY);
+    }
+
+    @Test
+    public void testIdleVmIsDestroyedAfterItsCloudletIsCancelled() {
+        final double cancelTime = 12;
+        final Cloudlet cloudlet = createCloudlet(1000000, vmList.get(0));
+        broker.submitCloudlet(cloudlet);
+        final boolean[] cancelled = new boolean[1];
+        simulation.addOnClockTickListener(info -> {
+            if(info.getTime() >= cancelTime && !cancelled[0]) {
+                simulation.sendNow(broker, datacenter, CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+                cancelled[0] = true;
+            }
+        });
+
+        simulation.start();
+
+        assertEquals(Cloudlet.Status.CANCELED, cloudlet.getStatus());
+        assertEquals(2, broker.getCloudletFinishedList().size());
+        assertTrue(vmDestructionTimes[0] >= cancelTime + VM_DESTRUCTION_DELAY);
+        assertTrue(vmDestructionTimes[0] < broker.getCloudletFinishedList().get(1).getFinishTime());
+    }
+
+    @Test
+    public void testCloudletCancelledTwiceReleasesItsVmJustOnce() {
+        final double cancelTime = 12;
+        final double secondCancelTime = cancelTime + 2;
+        final Cloudlet cloudlet = createCloudlet(1000000, vmList.get(0));
+        broker.submitCloudlet(cloudlet);
+
+        //Collects the times the idleness of the first VM is evaluated, starting when its Cloudlet is cancelled
+        final List<Double> vm0EvaluationTimes = new ArrayList<>();
+        broker.setVmDestructionDelayFunction(vm -> {
+            if(vm == vmList.get(0)) {
+                vm0EvaluationTimes.add(simulation.clock());
+            }
+            return VM_DESTRUCTION_DELAY;
+        });
+
+        final boolean[] cancelled = new boolean[2];
+        simulation.addOnClockTickListener(info -> {
+            if(info.getTime() >= cancelTime && !cancelled[0]) {
+                simulation.sendNow(broker, datacenter, CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+                cancelled[0] = true;
+            } else if(info.getTime() >= secondCancelTime && !cancelled[1]) {
+                simulation.sendNow(broker, datacenter, CloudSimTags.CLOUDLET_CANCEL, cloudlet);
+                cancelled[1] = true;
+            }
+        });
+
+        simulation.start();
+
+        assertTrue(cancelled[1]);
+        assertEquals(Cloudlet.Status.CANCELED, cloudlet.getStatus());
+        /* The first cancel evaluates the VM idleness to schedule its check.
+         * Since the second one must not release the VM again, no later time
+         * may have more evaluations than the first cancel. */
+        final long firstCancelEvaluations = Collections.frequency(vm0EvaluationTimes, vm0EvaluationTimes.get(0));
+        for (final double time : vm0EvaluationTimes) {
+            assertTrue(Collections.frequency(vm0EvaluationTimes, time) <= firstCancelEvaluations);
+        }
+        assertTrue(vmDestructionTimes[0] >= cancelTime + VM_DESTRUCTION_DELAY);
+        assertTrue(vmDestructionTimes[0] < broker.getCloudletFinishedList().get(1).getFinishTime());
+    }
+}